@@ -0,0 +1,240 @@
+package com.mymoneymate.mapping;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a {@code <Model>Mapper} for every {@link Table} class. The mapper
+ * holds the explicit column list for SELECTs and reads a row by column index,
+ * so mapping needs neither reflection nor a column name lookup per value.
+ *
+ * The object is built with the public constructor whose parameters all match
+ * {@link Column} fields by name and type, taking the one with the most
+ * parameters; the remaining columns are set through their setters.
+ */
+@SupportedAnnotationTypes("com.mymoneymate.mapping.Table")
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+public class RowMapperProcessor extends AbstractProcessor {
+
+    // How each supported field type is read; %1$s is the ResultSet, %2$s the column index
+    private static final Map<String, String> READERS = new HashMap<>();
+
+    static {
+        READERS.put("int", "%1$s.getInt(%2$s)");
+        READERS.put("long", "%1$s.getLong(%2$s)");
+        READERS.put("java.lang.String", "%1$s.getString(%2$s)");
+        READERS.put("java.lang.Integer", "readInteger(%1$s, %2$s)");
+        READERS.put("java.lang.Long", "readLong(%1$s, %2$s)");
+        READERS.put("java.time.LocalDate", "readLocalDate(%1$s, %2$s)");
+        READERS.put("java.time.LocalDateTime", "readLocalDateTime(%1$s, %2$s)");
+        READERS.put("com.mymoneymate.models.Money", "readMoney(%1$s, %2$s)");
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Table.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@Table is only supported on classes");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            try {
+                generate(type);
+            } catch (IllegalArgumentException e) {
+                error(type, e.getMessage());
+            } catch (IOException e) {
+                error(type, "Could not write mapper: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getAnnotation(Column.class) != null) {
+                fields.add(field);
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("@Table class has no @Column fields");
+        }
+
+        ExecutableElement constructor = findConstructor(type, fields);
+        String model = type.getSimpleName().toString();
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String mapper = model + "Mapper";
+
+        List<String> columns = new ArrayList<>();
+        Map<String, String> reads = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            columns.add(field.getAnnotation(Column.class).value());
+            reads.put(field.getSimpleName().toString(), reader(field, i == 0 ? "first" : "first + " + i));
+        }
+
+        StringBuilder src = new StringBuilder();
+        src.append("package ").append(packageName).append(";\n\n");
+        src.append("import java.sql.ResultSet;\n");
+        src.append("import java.sql.SQLException;\n\n");
+        src.append("import javax.annotation.processing.Generated;\n\n");
+        src.append("// Generated from ").append(model).append("; edit the @Column fields instead\n");
+        src.append("@Generated(\"").append(RowMapperProcessor.class.getName()).append("\")\n");
+        src.append("public final class ").append(mapper).append(" {\n");
+        src.append("    public static final String TABLE = \"").append(type.getAnnotation(Table.class).value())
+                .append("\";\n");
+        src.append("    public static final String COLUMNS = \"").append(String.join(", ", columns)).append("\";\n");
+        src.append("    public static final int COLUMN_COUNT = ").append(columns.size()).append(";\n\n");
+        src.append("    private ").append(mapper).append("() {\n    }\n\n");
+
+        src.append("    // COLUMNS qualified with a table alias, for joins\n");
+        src.append("    public static String columns(String alias) {\n");
+        src.append("        return ");
+        for (int i = 0; i < columns.size(); i++) {
+            src.append(i == 0 ? "" : " + \", \" + ").append("alias + \".").append(columns.get(i)).append('"');
+        }
+        src.append(";\n    }\n\n");
+
+        src.append("    public static ").append(model).append(" read(ResultSet rs) throws SQLException {\n");
+        src.append("        return read(rs, 1);\n    }\n\n");
+
+        src.append("    // Reads the COLUMNS starting at column index first\n");
+        src.append("    public static ").append(model).append(" read(ResultSet rs, int first) throws SQLException {\n");
+        List<String> arguments = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            arguments.add(reads.remove(parameter.getSimpleName().toString()));
+        }
+        src.append("        ").append(model).append(" row = new ").append(model).append("(")
+                .append(String.join(", ", arguments)).append(");\n");
+        for (VariableElement field : fields) {
+            String name = field.getSimpleName().toString();
+            if (reads.containsKey(name)) {
+                src.append("        row.").append(setterFor(type, field)).append("(").append(reads.get(name))
+                        .append(");\n");
+            }
+        }
+        src.append("        return row;\n    }\n");
+        appendHelpers(src);
+        src.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + mapper, type).openWriter()) {
+            writer.write(src.toString());
+        }
+    }
+
+    private ExecutableElement findConstructor(TypeElement type, List<VariableElement> fields) {
+        ExecutableElement best = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            boolean matches = true;
+            for (VariableElement parameter : constructor.getParameters()) {
+                VariableElement field = fieldNamed(fields, parameter.getSimpleName().toString());
+                if (field == null || !processingEnv.getTypeUtils().isSameType(field.asType(), parameter.asType())) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches && (best == null || constructor.getParameters().size() > best.getParameters().size())) {
+                best = constructor;
+            }
+        }
+        if (best == null) {
+            throw new IllegalArgumentException("No public constructor takes only @Column fields as parameters");
+        }
+        return best;
+    }
+
+    private String setterFor(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String setter = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(setter) && method.getModifiers().contains(Modifier.PUBLIC)
+                    && method.getParameters().size() == 1
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(),
+                            field.asType())) {
+                return setter;
+            }
+        }
+        throw new IllegalArgumentException("Field " + name + " is neither a constructor parameter nor has a public "
+                + setter + "(" + field.asType() + ")");
+    }
+
+    private String reader(VariableElement field, String index) {
+        TypeMirror type = field.asType();
+        if (type.getKind() == TypeKind.DECLARED) {
+            Element element = ((DeclaredType) type).asElement();
+            if (element.getKind() == ElementKind.ENUM) {
+                String enumName = processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString()
+                        .replace('$', '.');
+                return "readEnum(rs, " + index + ", " + enumName + ".class)";
+            }
+        }
+        String reader = READERS.get(type.toString());
+        if (reader == null) {
+            throw new IllegalArgumentException("Unsupported column type " + type + " for field "
+                    + field.getSimpleName());
+        }
+        return String.format(reader, "rs", index);
+    }
+
+    private static VariableElement fieldNamed(List<VariableElement> fields, String name) {
+        for (VariableElement field : fields) {
+            if (field.getSimpleName().contentEquals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    // Null-aware readers shared by every generated mapper; unused ones cost nothing
+    private static void appendHelpers(StringBuilder src) {
+        src.append("\n    private static Integer readInteger(ResultSet rs, int index) throws SQLException {\n");
+        src.append("        int value = rs.getInt(index);\n");
+        src.append("        return rs.wasNull() ? null : value;\n    }\n");
+        src.append("\n    private static Long readLong(ResultSet rs, int index) throws SQLException {\n");
+        src.append("        long value = rs.getLong(index);\n");
+        src.append("        return rs.wasNull() ? null : value;\n    }\n");
+        src.append("\n    // Dates are stored as epoch days, see DateCodec\n");
+        src.append("    private static java.time.LocalDate readLocalDate(ResultSet rs, int index) throws SQLException {\n");
+        src.append("        long epochDay = rs.getLong(index);\n");
+        src.append("        return rs.wasNull() ? null : java.time.LocalDate.ofEpochDay(epochDay);\n    }\n");
+        src.append("\n    private static java.time.LocalDateTime readLocalDateTime(ResultSet rs, int index) throws SQLException {\n");
+        src.append("        java.sql.Timestamp value = rs.getTimestamp(index);\n");
+        src.append("        return value == null ? null : value.toLocalDateTime();\n    }\n");
+        src.append("\n    private static com.mymoneymate.models.Money readMoney(ResultSet rs, int index) throws SQLException {\n");
+        src.append("        long minorUnits = rs.getLong(index);\n");
+        src.append("        return rs.wasNull() ? null : com.mymoneymate.models.Money.ofMinor(minorUnits);\n    }\n");
+        src.append("\n    private static <E extends Enum<E>> E readEnum(ResultSet rs, int index, Class<E> type)\n");
+        src.append("            throws SQLException {\n");
+        src.append("        String value = rs.getString(index);\n");
+        src.append("        return value == null ? null : Enum.valueOf(type, value);\n    }\n");
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
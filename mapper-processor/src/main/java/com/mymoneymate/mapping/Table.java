@@ -0,0 +1,17 @@
+package com.mymoneymate.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model class as a row of the named table. RowMapperProcessor then
+ * generates a {@code <Model>Mapper} next to it with the column list and a
+ * reader for its {@link Column} fields.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Table {
+    String value();
+}
@@ -0,0 +1,84 @@
+package com.mymoneymate.benchmarks;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.mymoneymate.dao.CategoryDAO;
+import com.mymoneymate.dao.DatabaseManager;
+import com.mymoneymate.dao.TransactionDAO;
+import com.mymoneymate.dao.UserDAO;
+import com.mymoneymate.models.User;
+import com.mymoneymate.tools.DatasetGenerator;
+
+/**
+ * The SQLite file a trial runs against: one DatasetGenerator user with
+ * {@code rows} transactions over the three years ending {@link #LAST_DAY},
+ * and monthly budgets. Each row count gets its own file, generated on first
+ * use and reused by later runs.
+ *
+ * DatabaseManager is a singleton, so this only works with forked trials.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+    static final String DIR_PROPERTY = "mymoneymate.bench.dir";
+    static final LocalDate LAST_DAY = LocalDate.of(2024, 12, 31);
+    private static final int YEARS = 3;
+    private static final long SEED = 42L;
+
+    @Param({ "10000", "100000", "1000000" })
+    public int rows;
+
+    private int userId;
+
+    @Setup(Level.Trial)
+    public void open() throws SQLException {
+        File dir = new File(System.getProperty(DIR_PROPERTY, "build/jmh-data"));
+        dir.mkdirs();
+        File file = new File(dir, "dataset-" + rows + ".db");
+        System.setProperty(DatabaseManager.DB_URL_PROPERTY, "jdbc:sqlite:" + file.getPath());
+
+        Optional<User> user = new UserDAO().findByUsername(DatasetGenerator.username(0));
+        if (user.isPresent()) {
+            userId = user.get().getId();
+        } else {
+            userId = seed();
+        }
+        int seeded = new TransactionDAO().countByUserId(userId);
+        if (seeded != rows) {
+            throw new IllegalStateException(file + " holds " + seeded + " transactions, expected " + rows
+                    + "; delete it to reseed, and run with at least one fork");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        DatabaseManager.getInstance().shutdown();
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public LocalDate getLastMonthStart() {
+        return LAST_DAY.withDayOfMonth(1);
+    }
+
+    public LocalDate getLastYearStart() {
+        return LAST_DAY.withDayOfYear(1);
+    }
+
+    private int seed() throws SQLException {
+        DatasetGenerator.Options options = new DatasetGenerator.Options().withUsers(1).withTransactionsPerUser(rows)
+                .withYears(YEARS).withLastDay(LAST_DAY).withSeed(SEED);
+        return new DatasetGenerator(options, new CategoryDAO().findAll()).generate().getUserIds().get(0);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mymoneymate.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.mymoneymate.dao.TransactionDAO;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.services.QueryResultCache;
+import com.mymoneymate.services.ReportService;
+import com.mymoneymate.services.TransactionSumIndex;
+import com.mymoneymate.services.exceptions.ServiceException;
+
+// The annual report from the pivot, filled by SQL or by the sum index, against the per-month queries it replaced
+// and against a result cache hit
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportBenchmark {
+    @Param({ "false", "true" })
+    public boolean sumIndex;
+
+    private TransactionDAO transactionDAO;
+    private ReportService reportService;
+    private ReportService cachedReportService;
+    private int userId;
+    private int year;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) throws ServiceException {
+        transactionDAO = new TransactionDAO();
+        reportService = new ReportService(transactionDAO, new QueryResultCache(0));
+        cachedReportService = new ReportService(transactionDAO,
+                new QueryResultCache(QueryResultCache.DEFAULT_CAPACITY));
+        userId = database.getUserId();
+        year = BenchmarkDatabase.LAST_DAY.getYear();
+        if (sumIndex) {
+            TransactionSumIndex.getInstance().load(userId);
+        } else {
+            TransactionSumIndex.getInstance().unload();
+        }
+    }
+
+    @Benchmark
+    public List<ReportService.MonthlyReport> generateAnnualReport() throws SQLException {
+        return reportService.generateAnnualReport(userId, year);
+    }
+
+    // Every call after the first is a lookup; nothing writes during the trial
+    @Benchmark
+    public List<ReportService.MonthlyReport> generateAnnualReportCached() throws SQLException {
+        return cachedReportService.generateAnnualReport(userId, year);
+    }
+
+    // As the annual report was built before the pivot: three queries for each of the twelve months
+    @Benchmark
+    public List<ReportService.MonthlyReport> generateAnnualReportPerMonth() throws SQLException {
+        List<ReportService.MonthlyReport> reports = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            LocalDate start = LocalDate.of(year, month, 1);
+            LocalDate end = start.plusMonths(1).minusDays(1);
+            BigDecimal income = transactionDAO.getSumByTypeAndPeriod(userId, Category.TransactionType.INCOME,
+                    start, end);
+            BigDecimal expenses = transactionDAO.getSumByTypeAndPeriod(userId, Category.TransactionType.EXPENSE,
+                    start, end);
+            Map<String, BigDecimal> categoryTotals = transactionDAO.getCategoryTotalsByPeriod(userId, start, end);
+            reports.add(new ReportService.MonthlyReport(start, income, expenses, categoryTotals));
+        }
+        return reports;
+    }
+}
@@ -0,0 +1,83 @@
+package com.mymoneymate.benchmarks;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mymoneymate.dao.DatabaseManager;
+import com.mymoneymate.dao.DateCodec;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.Money;
+import com.mymoneymate.models.Transaction;
+import com.mymoneymate.models.TransactionMapper;
+
+/**
+ * A year of rows mapped by the generated TransactionMapper, which reads by
+ * column index, against the by-name mapping the DAOs used before it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RowMappingBenchmark {
+    private static final String SQL = "SELECT " + TransactionMapper.COLUMNS
+            + " FROM transactions WHERE user_id = ? AND transaction_date BETWEEN ? AND ?";
+
+    private DatabaseManager dbManager;
+    private int userId;
+    private LocalDate yearStart;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        dbManager = DatabaseManager.getInstance();
+        userId = database.getUserId();
+        yearStart = database.getLastYearStart();
+    }
+
+    @Benchmark
+    public void generatedMapper(Blackhole blackhole) throws SQLException {
+        try (Connection conn = dbManager.getReadConnection(); ResultSet rs = query(conn)) {
+            while (rs.next()) {
+                blackhole.consume(TransactionMapper.read(rs));
+            }
+        }
+    }
+
+    @Benchmark
+    public void byColumnName(Blackhole blackhole) throws SQLException {
+        try (Connection conn = dbManager.getReadConnection(); ResultSet rs = query(conn)) {
+            while (rs.next()) {
+                Transaction transaction = new Transaction(
+                        rs.getInt("user_id"),
+                        Money.ofMinor(rs.getLong("amount")),
+                        rs.getInt("category_id"),
+                        rs.getString("description"),
+                        DateCodec.read(rs, "transaction_date"),
+                        Category.TransactionType.valueOf(rs.getString("type")));
+                transaction.setId(rs.getInt("id"));
+                blackhole.consume(transaction);
+            }
+        }
+    }
+
+    // The statement is closed with the connection, which returns it to the statement cache
+    private ResultSet query(Connection conn) throws SQLException {
+        PreparedStatement statement = conn.prepareStatement(SQL);
+        statement.setInt(1, userId);
+        DateCodec.bind(statement, 2, yearStart);
+        DateCodec.bind(statement, 3, BenchmarkDatabase.LAST_DAY);
+        return statement.executeQuery();
+    }
+}
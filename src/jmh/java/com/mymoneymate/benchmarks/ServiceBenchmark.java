@@ -0,0 +1,101 @@
+package com.mymoneymate.benchmarks;
+
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.mymoneymate.dao.BudgetDAO;
+import com.mymoneymate.dao.CategoryDAO;
+import com.mymoneymate.models.Budget;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.Money;
+import com.mymoneymate.services.BudgetService;
+import com.mymoneymate.services.exceptions.ServiceException;
+
+/**
+ * checkAllBudgets, which sums every budget in one query, against calling
+ * checkBudgetStatus once per budget. The user's generated budgets are
+ * swapped for {@code budgets} seeded monthly budgets for the trial and put
+ * back afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ServiceBenchmark {
+    private static final long SEED = 7L;
+
+    @Param({ "1", "10", "50", "200" })
+    public int budgets;
+
+    private BudgetDAO budgetDAO;
+    private BudgetService budgetService;
+    private int userId;
+    private List<Budget> generated;
+    private List<Budget> seeded;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) throws SQLException {
+        budgetDAO = new BudgetDAO();
+        budgetService = new BudgetService();
+        userId = database.getUserId();
+        generated = budgetDAO.findByUserId(userId);
+        deleteAll(generated);
+        seeded = budgetDAO.createAll(seedBudgets());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        deleteAll(seeded);
+        budgetDAO.createAll(generated);
+    }
+
+    @Benchmark
+    public List<BudgetService.BudgetStatus> checkAllBudgets() throws ServiceException {
+        return budgetService.checkAllBudgets(userId);
+    }
+
+    // One sum query per budget, as the budgets tab did before checkAllBudgets
+    @Benchmark
+    public List<BudgetService.BudgetStatus> checkBudgetStatusEach() throws ServiceException {
+        List<BudgetService.BudgetStatus> statuses = new ArrayList<>();
+        for (Budget budget : budgetService.getUserBudgets(userId)) {
+            statuses.add(budgetService.checkBudgetStatus(budget));
+        }
+        return statuses;
+    }
+
+    // Monthly budgets cycling through the expense categories, going back a month per cycle from LAST_DAY
+    private List<Budget> seedBudgets() throws SQLException {
+        List<Category> expenses = new CategoryDAO().findByType(Category.TransactionType.EXPENSE);
+        Random random = new Random(SEED);
+        YearMonth last = YearMonth.from(BenchmarkDatabase.LAST_DAY);
+        List<Budget> result = new ArrayList<>(budgets);
+        for (int i = 0; i < budgets; i++) {
+            YearMonth month = last.minusMonths(i / expenses.size());
+            long paise = (10 + random.nextInt(200)) * 10_000L;
+            result.add(new Budget(userId, expenses.get(i % expenses.size()).getId(), Money.ofMinor(paise),
+                    Budget.BudgetPeriod.MONTHLY, month.atDay(1), month.atEndOfMonth()));
+        }
+        return result;
+    }
+
+    private void deleteAll(List<Budget> budgetList) throws SQLException {
+        for (Budget budget : budgetList) {
+            budgetDAO.delete(budget.getId());
+        }
+    }
+}
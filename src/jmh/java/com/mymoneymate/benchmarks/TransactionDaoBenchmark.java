@@ -0,0 +1,55 @@
+package com.mymoneymate.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.mymoneymate.dao.TransactionDAO;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.CategoryTotals;
+import com.mymoneymate.models.Transaction;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionDaoBenchmark {
+    private TransactionDAO transactionDAO;
+    private int userId;
+    private LocalDate monthStart;
+    private LocalDate yearStart;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        transactionDAO = new TransactionDAO();
+        userId = database.getUserId();
+        monthStart = database.getLastMonthStart();
+        yearStart = database.getLastYearStart();
+    }
+
+    @Benchmark
+    public List<Transaction> findByUserIdAndDateRange() throws SQLException {
+        return transactionDAO.findByUserIdAndDateRange(userId, monthStart, BenchmarkDatabase.LAST_DAY);
+    }
+
+    @Benchmark
+    public BigDecimal getSumByTypeAndPeriod() throws SQLException {
+        return transactionDAO.getSumByTypeAndPeriod(userId, Category.TransactionType.EXPENSE, yearStart,
+                BenchmarkDatabase.LAST_DAY);
+    }
+
+    @Benchmark
+    public CategoryTotals getTotalsByCategory() throws SQLException {
+        return transactionDAO.getTotalsByCategory(userId, yearStart, BenchmarkDatabase.LAST_DAY);
+    }
+}
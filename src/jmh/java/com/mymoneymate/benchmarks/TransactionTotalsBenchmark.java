@@ -0,0 +1,49 @@
+package com.mymoneymate.benchmarks;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.mymoneymate.models.CategoryTotals;
+import com.mymoneymate.services.TransactionService;
+import com.mymoneymate.services.TransactionSumIndex;
+import com.mymoneymate.services.exceptions.ServiceException;
+
+// Category totals through the service, answered by SQL or by the in-memory sum index
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionTotalsBenchmark {
+    @Param({ "false", "true" })
+    public boolean sumIndex;
+
+    private TransactionService transactionService;
+    private int userId;
+    private LocalDate yearStart;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) throws ServiceException {
+        transactionService = new TransactionService();
+        userId = database.getUserId();
+        yearStart = database.getLastYearStart();
+        if (sumIndex) {
+            TransactionSumIndex.getInstance().load(userId);
+        } else {
+            TransactionSumIndex.getInstance().unload();
+        }
+    }
+
+    @Benchmark
+    public CategoryTotals getTransactionTotalsByCategory() throws ServiceException {
+        return transactionService.getTransactionTotalsByCategory(userId, yearStart, BenchmarkDatabase.LAST_DAY);
+    }
+}
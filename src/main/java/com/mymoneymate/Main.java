@@ -1,10 +1,15 @@
 package com.mymoneymate;
 
+import java.sql.SQLException;
+import java.util.Arrays;
+
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.UnsupportedLookAndFeelException;
 
 import com.mymoneymate.dao.DatabaseManager;
+import com.mymoneymate.dao.TransactionDAO;
+import com.mymoneymate.services.QueryResultCache;
 import com.mymoneymate.ui.MainWindow;
 
 public class Main {
@@ -20,6 +25,19 @@ public class Main {
             System.err.println("Failed to connect to the database!");
             return;
         }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("Connection pool: " + dbManager.getPoolStats());
+            System.out.println("Query cache: " + QueryResultCache.getInstance().getStats());
+            dbManager.shutdown();
+        }));
+
+        // Maintenance commands run without the UI
+        if (Arrays.asList(args).contains("--rebuild-daily-totals")) {
+            System.exit(rebuildDailyTotals());
+        }
+        if (Arrays.asList(args).contains("--verify-daily-totals")) {
+            System.exit(verifyDailyTotals());
+        }
 
         // Launch the UI
         try {
@@ -34,4 +52,31 @@ public class Main {
             mainWindow.setVisible(true);
         });
     }
+
+    private static int rebuildDailyTotals() {
+        try {
+            int rows = new TransactionDAO().rebuildDailyTotals();
+            System.out.println("Rebuilt daily totals: " + rows + " rows");
+            return 0;
+        } catch (SQLException e) {
+            System.err.println("Error rebuilding daily totals: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static int verifyDailyTotals() {
+        try {
+            int mismatches = new TransactionDAO().verifyDailyTotals();
+            if (mismatches == 0) {
+                System.out.println("Daily totals match the transactions");
+                return 0;
+            }
+            System.err.println("Daily totals differ from the transactions in " + mismatches
+                    + " rows; run with --rebuild-daily-totals");
+            return 1;
+        } catch (SQLException e) {
+            System.err.println("Error verifying daily totals: " + e.getMessage());
+            return 1;
+        }
+    }
 }
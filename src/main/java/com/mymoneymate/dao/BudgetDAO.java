@@ -7,12 +7,29 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.mymoneymate.models.Budget;
+import com.mymoneymate.models.BudgetMapper;
+import com.mymoneymate.models.BudgetRow;
+import com.mymoneymate.models.Money;
 
 public class BudgetDAO implements BaseDAO<Budget> {
+	// Hot queries; QueryPlanVerifier checks at startup that each one is served by an index
+	static final String INSERT_SQL = "INSERT INTO budgets (user_id, category_id, amount, period, start_date, end_date) VALUES (?, ?, ?, ?, ?, ?)";
+	static final String FIND_BY_USER_ID_SQL = "SELECT " + BudgetMapper.COLUMNS + " FROM budgets WHERE user_id = ?";
+	static final String FIND_BY_USER_ID_AND_PERIOD_SQL = "SELECT " + BudgetMapper.COLUMNS + " FROM budgets WHERE user_id = ? AND period = ?";
+	static final String FIND_BY_USER_ID_AND_DATE_RANGE_SQL = "SELECT " + BudgetMapper.COLUMNS + " FROM budgets WHERE user_id = ? AND start_date BETWEEN ? AND ?";
+	static final String FIND_BY_USER_ID_AND_PERIOD_AND_DATE_RANGE_SQL = "SELECT " + BudgetMapper.COLUMNS + " FROM budgets WHERE user_id = ? AND period = ? AND start_date BETWEEN ? AND ?";
+	// Every budget of the user with its category name and the matching spend, in one statement.
+	// The spend is a subquery per budget over the rollup, which avoids sorting the joined rows for a GROUP BY.
+	static final String FIND_ROWS_WITH_SPENT_BY_USER_ID_SQL = "SELECT " + BudgetMapper.columns("b") + ", c.name, "
+			+ "(SELECT COALESCE(SUM(d.amount_sum), 0) FROM daily_totals d WHERE d.user_id = b.user_id "
+			+ "AND d.category_id = b.category_id AND d.day BETWEEN b.start_date AND COALESCE(b.end_date, ?)) "
+			+ "FROM budgets b JOIN categories c ON c.id = b.category_id WHERE b.user_id = ?";
+
 	private final DatabaseManager dbManager;
 
 	public BudgetDAO() {
@@ -21,15 +38,9 @@ public class BudgetDAO implements BaseDAO<Budget> {
 
 	@Override
 	public Budget create(Budget budget) throws SQLException {
-		String sql = "INSERT INTO budgets (user_id, category_id, amount, period, start_date, end_date) VALUES (?, ?, ?, ?, ?, ?)";
 		try (Connection conn = dbManager.getConnection();
-				PreparedStatement statement = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-			statement.setInt(1, budget.getUserId());
-			statement.setInt(2, budget.getCategoryId());
-			statement.setBigDecimal(3, budget.getAmount());
-			statement.setString(4, budget.getPeriod().toString());
-			statement.setDate(5, java.sql.Date.valueOf(budget.getStartDate()));
-			statement.setDate(6, java.sql.Date.valueOf(budget.getEndDate()));
+				PreparedStatement statement = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+			bindInsert(statement, budget);
 
 			int affectedRows = statement.executeUpdate();
 			if (affectedRows == 0) {
@@ -47,22 +58,69 @@ public class BudgetDAO implements BaseDAO<Budget> {
 		}
 	}
 
+	/**
+	 * Inserts the budgets as one JDBC batch in a single transaction on the
+	 * writer connection. Ids come from one last_insert_rowid() lookup, as in
+	 * TransactionDAO.createAll: the rowids of the batch are consecutive.
+	 */
+	public List<Budget> createAll(Collection<Budget> budgets) throws SQLException {
+		List<Budget> created = new ArrayList<>(budgets);
+		if (created.isEmpty()) {
+			return created;
+		}
+
+		try (Connection conn = dbManager.getConnection();
+				PreparedStatement statement = conn.prepareStatement(INSERT_SQL);
+				PreparedStatement lastIdStatement = conn.prepareStatement("SELECT last_insert_rowid()")) {
+			conn.setAutoCommit(false);
+			try {
+				for (Budget budget : created) {
+					bindInsert(statement, budget);
+					statement.addBatch();
+				}
+				statement.executeBatch();
+
+				long lastId;
+				try (ResultSet rs = lastIdStatement.executeQuery()) {
+					if (!rs.next()) {
+						throw new SQLException("Creating budgets failed, no ID obtained.");
+					}
+					lastId = rs.getLong(1);
+				}
+				conn.commit();
+
+				long firstId = lastId - created.size() + 1;
+				for (int i = 0; i < created.size(); i++) {
+					created.get(i).setId((int) (firstId + i));
+				}
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+		}
+		return created;
+	}
+
+	private void bindInsert(PreparedStatement statement, Budget budget) throws SQLException {
+		statement.setInt(1, budget.getUserId());
+		statement.setInt(2, budget.getCategoryId());
+		statement.setLong(3, budget.getMoney().getMinorUnits());
+		statement.setString(4, budget.getPeriod().toString());
+		DateCodec.bind(statement, 5, budget.getStartDate());
+		DateCodec.bind(statement, 6, budget.getEndDate());
+	}
+
 	@Override
 	public Optional<Budget> findById(Integer id) throws SQLException {
-		String sql = "SELECT * FROM budgets WHERE id = ?";
-		try (Connection conn = dbManager.getConnection();
+		String sql = "SELECT " + BudgetMapper.COLUMNS + " FROM budgets WHERE id = ?";
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setInt(1, id);
 			try (ResultSet rs = statement.executeQuery()) {
 				if (rs.next()) {
-					Budget budget = new Budget(
-							rs.getInt("user_id"),
-							rs.getInt("category_id"),
-							rs.getBigDecimal("amount"),
-							Budget.BudgetPeriod.valueOf(rs.getString("period")),
-							rs.getDate("start_date").toLocalDate(),
-							rs.getDate("end_date").toLocalDate());
-					budget.setId(rs.getInt("id"));
+					Budget budget = BudgetMapper.read(rs);
 					return Optional.of(budget);
 				}
 			}
@@ -73,20 +131,13 @@ public class BudgetDAO implements BaseDAO<Budget> {
 
 	@Override
 	public List<Budget> findAll() throws SQLException {
-		String sql = "SELECT * FROM budgets";
+		String sql = "SELECT " + BudgetMapper.COLUMNS + " FROM budgets";
 		List<Budget> budgets = new ArrayList<>();
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql);
 				ResultSet rs = statement.executeQuery()) {
 			while (rs.next()) {
-				Budget budget = new Budget(
-						rs.getInt("user_id"),
-						rs.getInt("category_id"),
-						rs.getBigDecimal("amount"),
-						Budget.BudgetPeriod.valueOf(rs.getString("period")),
-						rs.getDate("start_date").toLocalDate(),
-						rs.getDate("end_date").toLocalDate());
-				budget.setId(rs.getInt("id"));
+				Budget budget = BudgetMapper.read(rs);
 				budgets.add(budget);
 			}
 		}
@@ -101,10 +152,10 @@ public class BudgetDAO implements BaseDAO<Budget> {
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setInt(1, budget.getUserId());
 			statement.setInt(2, budget.getCategoryId());
-			statement.setBigDecimal(3, budget.getAmount());
+			statement.setLong(3, budget.getMoney().getMinorUnits());
 			statement.setString(4, budget.getPeriod().toString());
-			statement.setDate(5, java.sql.Date.valueOf(budget.getStartDate()));
-			statement.setDate(6, java.sql.Date.valueOf(budget.getEndDate()));
+			DateCodec.bind(statement, 5, budget.getStartDate());
+			DateCodec.bind(statement, 6, budget.getEndDate());
 			statement.setInt(7, budget.getId());
 			int affectedRows = statement.executeUpdate();
 			return affectedRows > 0;
@@ -124,21 +175,14 @@ public class BudgetDAO implements BaseDAO<Budget> {
 	}
 
 	public List<Budget> findByUserId(Integer userId) throws SQLException {
-		String sql = "SELECT * FROM budgets WHERE user_id = ?";
+		String sql = FIND_BY_USER_ID_SQL;
 		List<Budget> budgets = new ArrayList<>();
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setInt(1, userId);
 			try (ResultSet rs = statement.executeQuery()) {
 				while (rs.next()) {
-					Budget budget = new Budget(
-							rs.getInt("user_id"),
-							rs.getInt("category_id"),
-							rs.getBigDecimal("amount"),
-							Budget.BudgetPeriod.valueOf(rs.getString("period")),
-							rs.getDate("start_date").toLocalDate(),
-							rs.getDate("end_date").toLocalDate());
-					budget.setId(rs.getInt("id"));
+					Budget budget = BudgetMapper.read(rs);
 					budgets.add(budget);
 				}
 			}
@@ -146,22 +190,39 @@ public class BudgetDAO implements BaseDAO<Budget> {
 		return budgets;
 	}
 
+	/**
+	 * Returns the user's budgets with their category names and the amount spent
+	 * in each budget's category between its start and end date, all in one
+	 * round trip however many budgets there are. A budget without an end date
+	 * is measured up to {@code openEndDate}.
+	 */
+	public List<BudgetRow> findRowsWithSpentByUserId(Integer userId, LocalDate openEndDate) throws SQLException {
+		List<BudgetRow> rows = new ArrayList<>();
+		try (Connection conn = dbManager.getReadConnection();
+				PreparedStatement statement = conn.prepareStatement(FIND_ROWS_WITH_SPENT_BY_USER_ID_SQL)) {
+			DateCodec.bind(statement, 1, openEndDate);
+			statement.setInt(2, userId);
+			try (ResultSet rs = statement.executeQuery()) {
+				while (rs.next()) {
+					Budget budget = BudgetMapper.read(rs);
+					// Category name and spend follow the mapped columns
+					rows.add(new BudgetRow(budget, rs.getString(BudgetMapper.COLUMN_COUNT + 1),
+							Money.toBigDecimal(rs.getLong(BudgetMapper.COLUMN_COUNT + 2))));
+				}
+			}
+		}
+		return rows;
+	}
+
 	public List<Budget> findByCategoryId(Integer categoryId) throws SQLException {
-		String sql = "SELECT * FROM budgets WHERE category_id = ?";
+		String sql = "SELECT " + BudgetMapper.COLUMNS + " FROM budgets WHERE category_id = ?";
 		List<Budget> budgets = new ArrayList<>();
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setInt(1, categoryId);
 			try (ResultSet rs = statement.executeQuery()) {
 				while (rs.next()) {
-					Budget budget = new Budget(
-							rs.getInt("user_id"),
-							rs.getInt("category_id"),
-							rs.getBigDecimal("amount"),
-							Budget.BudgetPeriod.valueOf(rs.getString("period")),
-							rs.getDate("start_date").toLocalDate(),
-							rs.getDate("end_date").toLocalDate());
-					budget.setId(rs.getInt("id"));
+					Budget budget = BudgetMapper.read(rs);
 					budgets.add(budget);
 				}
 			}
@@ -170,21 +231,14 @@ public class BudgetDAO implements BaseDAO<Budget> {
 	}
 
 	public List<Budget> findByPeriod(Budget.BudgetPeriod period) throws SQLException {
-		String sql = "SELECT * FROM budgets WHERE period = ?";
+		String sql = "SELECT " + BudgetMapper.COLUMNS + " FROM budgets WHERE period = ?";
 		List<Budget> budgets = new ArrayList<>();
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setString(1, period.toString());
 			try (ResultSet rs = statement.executeQuery()) {
 				while (rs.next()) {
-					Budget budget = new Budget(
-							rs.getInt("user_id"),
-							rs.getInt("category_id"),
-							rs.getBigDecimal("amount"),
-							Budget.BudgetPeriod.valueOf(rs.getString("period")),
-							rs.getDate("start_date").toLocalDate(),
-							rs.getDate("end_date").toLocalDate());
-					budget.setId(rs.getInt("id"));
+					Budget budget = BudgetMapper.read(rs);
 					budgets.add(budget);
 				}
 			}
@@ -193,22 +247,15 @@ public class BudgetDAO implements BaseDAO<Budget> {
 	}
 
 	public List<Budget> findByUserIdAndPeriod(Integer userId, Budget.BudgetPeriod period) throws SQLException {
-		String sql = "SELECT * FROM budgets WHERE user_id = ? AND period = ?";
+		String sql = FIND_BY_USER_ID_AND_PERIOD_SQL;
 		List<Budget> budgets = new ArrayList<>();
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setInt(1, userId);
 			statement.setString(2, period.toString());
 			try (ResultSet rs = statement.executeQuery()) {
 				while (rs.next()) {
-					Budget budget = new Budget(
-							rs.getInt("user_id"),
-							rs.getInt("category_id"),
-							rs.getBigDecimal("amount"),
-							Budget.BudgetPeriod.valueOf(rs.getString("period")),
-							rs.getDate("start_date").toLocalDate(),
-							rs.getDate("end_date").toLocalDate());
-					budget.setId(rs.getInt("id"));
+					Budget budget = BudgetMapper.read(rs);
 					budgets.add(budget);
 				}
 			}
@@ -217,22 +264,15 @@ public class BudgetDAO implements BaseDAO<Budget> {
 	}
 
 	public List<Budget> findByDateRange(LocalDate startDate, LocalDate endDate) throws SQLException {
-		String sql = "SELECT * FROM budgets WHERE start_date BETWEEN ? AND ?";
+		String sql = "SELECT " + BudgetMapper.COLUMNS + " FROM budgets WHERE start_date BETWEEN ? AND ?";
 		List<Budget> budgets = new ArrayList<>();
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
-			statement.setDate(2, java.sql.Date.valueOf(startDate));
-			statement.setDate(3, java.sql.Date.valueOf(endDate));
+			DateCodec.bind(statement, 1, startDate);
+			DateCodec.bind(statement, 2, endDate);
 			try (ResultSet rs = statement.executeQuery()) {
 				while (rs.next()) {
-					Budget budget = new Budget(
-							rs.getInt("user_id"),
-							rs.getInt("category_id"),
-							rs.getBigDecimal("amount"),
-							Budget.BudgetPeriod.valueOf(rs.getString("period")),
-							rs.getDate("start_date").toLocalDate(),
-							rs.getDate("end_date").toLocalDate());
-					budget.setId(rs.getInt("id"));
+					Budget budget = BudgetMapper.read(rs);
 					budgets.add(budget);
 				}
 			}
@@ -242,23 +282,16 @@ public class BudgetDAO implements BaseDAO<Budget> {
 
 	public List<Budget> findByUserIdAndDateRange(Integer userId, LocalDate startDate, LocalDate endDate)
 			throws SQLException {
-		String sql = "SELECT * FROM budgets WHERE user_id = ? AND start_date BETWEEN ? AND ?";
+		String sql = FIND_BY_USER_ID_AND_DATE_RANGE_SQL;
 		List<Budget> budgets = new ArrayList<>();
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setInt(1, userId);
-			statement.setDate(2, java.sql.Date.valueOf(startDate));
-			statement.setDate(3, java.sql.Date.valueOf(endDate));
+			DateCodec.bind(statement, 2, startDate);
+			DateCodec.bind(statement, 3, endDate);
 			try (ResultSet rs = statement.executeQuery()) {
 				while (rs.next()) {
-					Budget budget = new Budget(
-							rs.getInt("user_id"),
-							rs.getInt("category_id"),
-							rs.getBigDecimal("amount"),
-							Budget.BudgetPeriod.valueOf(rs.getString("period")),
-							rs.getDate("start_date").toLocalDate(),
-							rs.getDate("end_date").toLocalDate());
-					budget.setId(rs.getInt("id"));
+					Budget budget = BudgetMapper.read(rs);
 					budgets.add(budget);
 				}
 			}
@@ -268,24 +301,17 @@ public class BudgetDAO implements BaseDAO<Budget> {
 
 	public List<Budget> findByUserIdAndPeriodAndDateRange(Integer userId, Budget.BudgetPeriod period,
 			LocalDate startDate, LocalDate endDate) throws SQLException {
-		String sql = "SELECT * FROM budgets WHERE user_id = ? AND period = ? AND start_date BETWEEN ? AND ?";
+		String sql = FIND_BY_USER_ID_AND_PERIOD_AND_DATE_RANGE_SQL;
 		List<Budget> budgets = new ArrayList<>();
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setInt(1, userId);
 			statement.setString(2, period.toString());
-			statement.setDate(3, java.sql.Date.valueOf(startDate));
-			statement.setDate(4, java.sql.Date.valueOf(endDate));
+			DateCodec.bind(statement, 3, startDate);
+			DateCodec.bind(statement, 4, endDate);
 			try (ResultSet rs = statement.executeQuery()) {
 				while (rs.next()) {
-					Budget budget = new Budget(
-							rs.getInt("user_id"),
-							rs.getInt("category_id"),
-							rs.getBigDecimal("amount"),
-							Budget.BudgetPeriod.valueOf(rs.getString("period")),
-							rs.getDate("start_date").toLocalDate(),
-							rs.getDate("end_date").toLocalDate());
-					budget.setId(rs.getInt("id"));
+					Budget budget = BudgetMapper.read(rs);
 					budgets.add(budget);
 				}
 			}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 import com.mymoneymate.models.Category;
+import com.mymoneymate.models.CategoryMapper;
 
 public class CategoryDAO implements BaseDAO<Category> {
 	private final DatabaseManager dbManager;
@@ -46,18 +47,14 @@ public class CategoryDAO implements BaseDAO<Category> {
 
 	@Override
 	public Optional<Category> findById(Integer id) throws SQLException {
-		String sql = "SELECT * FROM categories WHERE id = ?";
+		String sql = "SELECT " + CategoryMapper.COLUMNS + " FROM categories WHERE id = ?";
 
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setInt(1, id);
 			try (ResultSet rs = statement.executeQuery()) {
 				if (rs.next()) {
-					Category category = new Category(
-							rs.getString("name"),
-							Category.TransactionType.valueOf(rs.getString("type")),
-							rs.getString("description"));
-					category.setId(rs.getInt("id"));
+					Category category = CategoryMapper.read(rs);
 					return Optional.of(category);
 				}
 			}
@@ -67,18 +64,14 @@ public class CategoryDAO implements BaseDAO<Category> {
 
 	@Override
 	public List<Category> findAll() throws SQLException {
-		String sql = "SELECT * FROM categories";
+		String sql = "SELECT " + CategoryMapper.COLUMNS + " FROM categories";
 		List<Category> categories = new ArrayList<>();
 
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				Statement stmt = conn.createStatement();
 				ResultSet rs = stmt.executeQuery(sql)) {
 			while (rs.next()) {
-				Category category = new Category(
-						rs.getString("name"),
-						Category.TransactionType.valueOf(rs.getString("type")),
-						rs.getString("description"));
-				category.setId(rs.getInt("id"));
+				Category category = CategoryMapper.read(rs);
 				categories.add(category);
 			}
 			return categories;
@@ -113,19 +106,15 @@ public class CategoryDAO implements BaseDAO<Category> {
 	}
 
 	public List<Category> findByType(Category.TransactionType type) throws SQLException {
-		String sql = "SELECT * FROM categories WHERE type = ? ORDER BY name";
+		String sql = "SELECT " + CategoryMapper.COLUMNS + " FROM categories WHERE type = ? ORDER BY name";
 		List<Category> categories = new ArrayList<>();
 
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setString(1, type.toString());
 			try (ResultSet rs = statement.executeQuery()) {
 				while (rs.next()) {
-					Category category = new Category(
-							rs.getString("name"),
-							Category.TransactionType.valueOf(rs.getString("type")),
-							rs.getString("description"));
-					category.setId(rs.getInt("id"));
+					Category category = CategoryMapper.read(rs);
 					categories.add(category);
 				}
 			}
@@ -134,18 +123,14 @@ public class CategoryDAO implements BaseDAO<Category> {
 	}
 
 	public Optional<Category> findByName(String name) throws SQLException {
-		String sql = "SELECT * FROM categories WHERE name = ?";
+		String sql = "SELECT " + CategoryMapper.COLUMNS + " FROM categories WHERE name = ?";
 
-		try (Connection conn = dbManager.getConnection();
+		try (Connection conn = dbManager.getReadConnection();
 				PreparedStatement statement = conn.prepareStatement(sql)) {
 			statement.setString(1, name);
 			try (ResultSet rs = statement.executeQuery()) {
 				if (rs.next()) {
-					Category category = new Category(
-							rs.getString("name"),
-							Category.TransactionType.valueOf(rs.getString("type")),
-							rs.getString("description"));
-					category.setId(rs.getInt("id"));
+					Category category = CategoryMapper.read(rs);
 					return Optional.of(category);
 				}
 			}
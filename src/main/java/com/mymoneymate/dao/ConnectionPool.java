@@ -0,0 +1,368 @@
+package com.mymoneymate.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of long-lived SQLite connections: a single writer connection
+ * and up to {@code maxReaders} read-only connections. Borrowed connections are
+ * handed out as proxies whose {@code close()} returns them to the pool, so DAOs
+ * keep using plain try-with-resources.
+ *
+ * Each physical connection keeps its own {@link StatementCache}, and
+ * {@code prepareStatement} on a borrowed connection is served from it, so
+ * DAOs reuse compiled statements without knowing about the cache.
+ */
+public class ConnectionPool implements AutoCloseable {
+    private static final int BUSY_TIMEOUT_MS = 5000;
+    // Negative cache_size is in KiB, so this is a 16 MiB page cache per connection
+    private static final int CACHE_SIZE_KIB = 16384;
+    private static final long BORROW_TIMEOUT_MS = 30_000;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+
+    private final String url;
+    private final int maxReaders;
+    private final int statementCacheSize;
+    private final Semaphore writerPermit = new Semaphore(1, true);
+    private final Semaphore readerPermits;
+    private final BlockingDeque<Connection> idleReaders = new LinkedBlockingDeque<>();
+    private final Object writerLock = new Object();
+    private Connection writer;
+    private final Map<Connection, StatementCache> statementCaches = new ConcurrentHashMap<>();
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, int maxReaders) {
+        this(url, maxReaders, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    // statementCacheSize is per connection; 0 turns the cache off
+    public ConnectionPool(String url, int maxReaders, int statementCacheSize) {
+        if (maxReaders < 1) {
+            throw new IllegalArgumentException("Pool needs at least one reader connection");
+        }
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Statement cache size cannot be negative");
+        }
+        this.url = url;
+        this.maxReaders = maxReaders;
+        this.statementCacheSize = statementCacheSize;
+        this.readerPermits = new Semaphore(maxReaders, true);
+    }
+
+    public Connection borrowWriter() throws SQLException {
+        acquire(writerPermit);
+        try {
+            Connection physical;
+            synchronized (writerLock) {
+                if (writer == null || writer.isClosed()) {
+                    writer = open(false);
+                }
+                physical = writer;
+            }
+            return lease(physical, true);
+        } catch (SQLException | RuntimeException e) {
+            writerPermit.release();
+            throw e;
+        }
+    }
+
+    public Connection borrowReader() throws SQLException {
+        acquire(readerPermits);
+        try {
+            Connection physical = idleReaders.pollFirst();
+            if (physical == null || physical.isClosed()) {
+                physical = open(true);
+            }
+            return lease(physical, false);
+        } catch (SQLException | RuntimeException e) {
+            readerPermits.release();
+            throw e;
+        }
+    }
+
+    public PoolStats getStats() {
+        int idle = idleReaders.size();
+        synchronized (writerLock) {
+            if (writer != null && writerPermit.availablePermits() > 0) {
+                idle++;
+            }
+        }
+        return new PoolStats(activeCount.get(), idle, maxReaders + 1, borrowCount.sum(), totalWaitNanos.sum(),
+                maxWaitNanos.get(), statementCacheHits.sum(), statementCacheMisses.sum());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Connection reader;
+        while ((reader = idleReaders.pollFirst()) != null) {
+            closeQuietly(reader);
+        }
+        synchronized (writerLock) {
+            if (writer != null && writerPermit.tryAcquire()) {
+                closeQuietly(writer);
+                writer = null;
+                writerPermit.release();
+            }
+        }
+    }
+
+    private void acquire(Semaphore permits) throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(BORROW_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        long waited = System.nanoTime() - start;
+        borrowCount.increment();
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+    }
+
+    private Connection open(boolean readOnly) throws SQLException {
+        Connection conn = DriverManager.getConnection(url);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA journal_mode = WAL");
+            stmt.execute("PRAGMA synchronous = NORMAL");
+            stmt.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MS);
+            stmt.execute("PRAGMA cache_size = -" + CACHE_SIZE_KIB);
+            stmt.execute("PRAGMA temp_store = MEMORY");
+            if (readOnly) {
+                stmt.execute("PRAGMA query_only = ON");
+            }
+        } catch (SQLException e) {
+            closeQuietly(conn);
+            throw e;
+        }
+        statementCaches.put(conn, new StatementCache(statementCacheSize, statementCacheHits, statementCacheMisses));
+        return conn;
+    }
+
+    private Connection lease(Connection physical, boolean isWriter) {
+        activeCount.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new LeaseHandler(physical, isWriter));
+    }
+
+    private void release(Connection physical, boolean isWriter) {
+        activeCount.decrementAndGet();
+        StatementCache statements = statementCaches.get(physical);
+        if (statements != null) {
+            statements.releaseAll();
+        }
+        boolean healthy = reset(physical);
+        if (isWriter) {
+            if (!healthy || closed) {
+                synchronized (writerLock) {
+                    closeQuietly(physical);
+                    writer = null;
+                }
+            }
+            writerPermit.release();
+        } else {
+            if (healthy && !closed) {
+                idleReaders.offerFirst(physical);
+            } else {
+                closeQuietly(physical);
+            }
+            readerPermits.release();
+        }
+    }
+
+    // Undo anything a borrower left behind so the next borrower gets a clean connection
+    private boolean reset(Connection physical) {
+        try {
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Discarding broken database connection: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void closeQuietly(Connection conn) {
+        StatementCache statements = statementCaches.remove(conn);
+        if (statements != null) {
+            statements.closeAll();
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing database connection: " + e.getMessage());
+        }
+    }
+
+    private final class LeaseHandler implements InvocationHandler {
+        private final Connection physical;
+        private final boolean isWriter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        LeaseHandler(Connection physical, boolean isWriter) {
+            this.physical = physical;
+            this.isWriter = isWriter;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (released.compareAndSet(false, true)) {
+                        release(physical, isWriter);
+                    }
+                    return null;
+                case "isClosed":
+                    return released.get() || physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + (isWriter ? "Writer" : "Reader") + "[" + physical + "]";
+                default:
+                    break;
+            }
+            if (released.get()) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if (method.getName().equals("prepareStatement") && isCacheable(method)) {
+                return prepareCached(proxy, method, args);
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        // Only prepareStatement(sql) and prepareStatement(sql, autoGeneratedKeys) are cached
+        private boolean isCacheable(Method method) {
+            Class<?>[] types = method.getParameterTypes();
+            return types.length == 1 || (types.length == 2 && types[1] == int.class);
+        }
+
+        private Object prepareCached(Object proxy, Method method, Object[] args) throws Throwable {
+            StatementCache statements = statementCaches.get(physical);
+            String key = args.length == 1 ? (String) args[0] : args[1] + ":" + args[0];
+            StatementCache.Preparer preparer = () -> {
+                try {
+                    return (PreparedStatement) method.invoke(physical, args);
+                } catch (InvocationTargetException e) {
+                    if (e.getCause() instanceof SQLException sqlException) {
+                        throw sqlException;
+                    }
+                    throw new SQLException(e.getCause());
+                } catch (IllegalAccessException e) {
+                    throw new SQLException(e);
+                }
+            };
+            return statements == null ? preparer.prepare() : statements.prepare(key, (Connection) proxy, preparer);
+        }
+    }
+
+    public static class PoolStats {
+        private final int active;
+        private final int idle;
+        private final int capacity;
+        private final long borrowCount;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final long statementCacheHits;
+        private final long statementCacheMisses;
+
+        public PoolStats(int active, int idle, int capacity, long borrowCount, long totalWaitNanos,
+                long maxWaitNanos, long statementCacheHits, long statementCacheMisses) {
+            this.active = active;
+            this.idle = idle;
+            this.capacity = capacity;
+            this.borrowCount = borrowCount;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.statementCacheHits = statementCacheHits;
+            this.statementCacheMisses = statementCacheMisses;
+        }
+
+        // Getters
+        public int getActive() {
+            return active;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public long getBorrowCount() {
+            return borrowCount;
+        }
+
+        public double getAverageWaitMillis() {
+            return borrowCount == 0 ? 0.0 : totalWaitNanos / (double) borrowCount / 1_000_000.0;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos / 1_000_000.0;
+        }
+
+        public long getStatementCacheHits() {
+            return statementCacheHits;
+        }
+
+        public long getStatementCacheMisses() {
+            return statementCacheMisses;
+        }
+
+        public double getStatementCacheHitRatio() {
+            long lookups = statementCacheHits + statementCacheMisses;
+            return lookups == 0 ? 0.0 : statementCacheHits / (double) lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("active=%d idle=%d capacity=%d borrows=%d avgWait=%.3fms maxWait=%.3fms"
+                    + " stmtHits=%d stmtMisses=%d", active, idle, capacity, borrowCount, getAverageWaitMillis(),
+                    getMaxWaitMillis(), statementCacheHits, statementCacheMisses);
+        }
+    }
+}
@@ -1,75 +1,67 @@
 package com.mymoneymate.dao;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.util.stream.Collectors;
 
 public class DatabaseManager {
-    private static final String DB_URL = "jdbc:sqlite:database/mymoneymate.db";
+    // Benchmarks and load tests point this at their own file; it is read once, on first use
+    public static final String DB_URL_PROPERTY = "mymoneymate.db.url";
+    private static final String DEFAULT_DB_URL = "jdbc:sqlite:database/mymoneymate.db";
+    private static final int READER_POOL_SIZE = 4;
+    // Prepared statements kept per connection; comfortably more than the distinct SQL the DAOs issue
+    private static final int STATEMENT_CACHE_SIZE = 128;
     private static DatabaseManager instance;
+
+    private final ConnectionPool pool;
     
     private DatabaseManager() {
+        String url = System.getProperty(DB_URL_PROPERTY, DEFAULT_DB_URL);
+        this.pool = new ConnectionPool(url, READER_POOL_SIZE, STATEMENT_CACHE_SIZE);
         initializeDatabase();
     }
     
-    public static DatabaseManager getInstance() {
+    public static synchronized DatabaseManager getInstance() {
         if (instance == null) {
             instance = new DatabaseManager();
         }
         return instance;
     }
     
+    // Borrows the single writer connection; use for anything that modifies data
     public Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(DB_URL);
+        return pool.borrowWriter();
     }
-    
-    @SuppressWarnings("CallToPrintStackTrace")
-    private void initializeDatabase() {
-        // First, ensure we can load the schema file
-        InputStream inputStream = getClass().getResourceAsStream("/database/schema.sql");
-        if (inputStream == null) {
-            System.err.println("Error: Could not find schema.sql in resources");
-            return;
-        }
 
-        // Read the schema file
-        String schema;
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            schema = reader.lines().collect(Collectors.joining("\n"));
-        } catch (IOException e) {
-            System.err.println("Error reading schema.sql: " + e.getMessage());
-            return;
-        }
+    // Borrows one of the read-only connections; WAL lets these run alongside the writer
+    public Connection getReadConnection() throws SQLException {
+        return pool.borrowReader();
+    }
 
-        // Execute the schema
-        try (Connection conn = getConnection();
-            Statement stmt = conn.createStatement()) {
-            
-            // Split the schema into individual statements
-            String[] statements = schema.split(";");
-            
-            // Execute each statement
-            for (String sql : statements) {
-                if (!sql.trim().isEmpty()) {
-                    stmt.execute(sql);
-                }
+    public ConnectionPool.PoolStats getPoolStats() {
+        return pool.getStats();
+    }
+
+    public void shutdown() {
+        pool.close();
+    }
+    
+    private void initializeDatabase() {
+        SchemaMigrator migrator = new SchemaMigrator();
+        try (Connection conn = getConnection()) {
+            int applied = migrator.migrate(conn);
+            if (applied > 0) {
+                System.out.println("Database migrated to schema version " + migrator.getLatestVersion()
+                        + " (" + applied + " migration(s) applied).");
             }
-            System.out.println("Database initialized successfully.");
-            
+            QueryPlanVerifier.verify(conn);
         } catch (SQLException e) {
-            System.err.println("Error executing SQL: " + e.getMessage());
-            e.printStackTrace();
+            // The DAOs cannot work against a half-built schema, so refuse to start
+            throw new IllegalStateException("Error migrating database schema: " + e.getMessage(), e);
         }
     }
     
     public boolean testConnection() {
-        try (Connection conn = getConnection()) {
+        try (Connection conn = getReadConnection()) {
             return conn != null && !conn.isClosed();
         } catch (SQLException e) {
             return false;
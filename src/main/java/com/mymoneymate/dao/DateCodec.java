@@ -0,0 +1,40 @@
+package com.mymoneymate.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+
+/**
+ * The one encoding for date columns: the day count since 1970-01-01 as an
+ * INTEGER. Every DAO binds and reads dates through here, so range predicates
+ * compare plain integers and cannot mix epoch milliseconds with ISO strings.
+ */
+public final class DateCodec {
+
+    private DateCodec() {
+    }
+
+    public static long encode(LocalDate date) {
+        return date.toEpochDay();
+    }
+
+    public static LocalDate decode(long epochDay) {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    public static void bind(PreparedStatement statement, int index, LocalDate date) throws SQLException {
+        if (date == null) {
+            statement.setNull(index, Types.INTEGER);
+        } else {
+            statement.setLong(index, date.toEpochDay());
+        }
+    }
+
+    // Returns null for SQL NULL
+    public static LocalDate read(ResultSet rs, String column) throws SQLException {
+        long epochDay = rs.getLong(column);
+        return rs.wasNull() ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
@@ -0,0 +1,84 @@
+package com.mymoneymate.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mymoneymate.models.Granularity;
+
+/**
+ * Runs {@code EXPLAIN QUERY PLAN} over the DAOs' hot queries and fails if any
+ * of them would scan a table (or a whole index) instead of searching an index.
+ * Called on startup so a dropped or mismatched index is caught immediately.
+ */
+public final class QueryPlanVerifier {
+
+    private static final Map<String, String> HOT_QUERIES = new LinkedHashMap<>();
+
+    static {
+        HOT_QUERIES.put("TransactionDAO.findByUserId", TransactionDAO.FIND_BY_USER_ID_SQL);
+        HOT_QUERIES.put("TransactionDAO.sumByUserIdAndType", TransactionDAO.SUM_BY_USER_ID_AND_TYPE_SQL);
+        HOT_QUERIES.put("TransactionDAO.findByUserIdAndDateRange", TransactionDAO.FIND_BY_USER_ID_AND_DATE_RANGE_SQL);
+        HOT_QUERIES.put("TransactionDAO.getSumByPeriodAndCategory", TransactionDAO.SUM_BY_PERIOD_AND_CATEGORY_SQL);
+        HOT_QUERIES.put("TransactionDAO.getSumByTypeAndPeriod", TransactionDAO.SUM_BY_TYPE_AND_PERIOD_SQL);
+        HOT_QUERIES.put("TransactionDAO.getCategoryTotalsByPeriod", TransactionDAO.CATEGORY_TOTALS_BY_PERIOD_SQL);
+        HOT_QUERIES.put("TransactionDAO.getTotalsByCategory", TransactionDAO.TOTALS_BY_CATEGORY_SQL);
+        HOT_QUERIES.put("TransactionDAO.forEachDailyTotal", TransactionDAO.DAILY_TOTALS_BY_USER_ID_SQL);
+        HOT_QUERIES.put("TransactionDAO.forEachDailyTotalInRange",
+                TransactionDAO.DAILY_TOTALS_BY_USER_ID_AND_DATE_RANGE_SQL);
+        HOT_QUERIES.put("TransactionDAO.findByPeriodAndCategory", TransactionDAO.FIND_BY_PERIOD_AND_CATEGORY_SQL);
+        HOT_QUERIES.put("TransactionDAO.findFirstPageByUserId", TransactionDAO.FIND_FIRST_PAGE_BY_USER_ID_SQL);
+        HOT_QUERIES.put("TransactionDAO.findNextPageByUserId", TransactionDAO.FIND_NEXT_PAGE_BY_USER_ID_SQL);
+        HOT_QUERIES.put("TransactionDAO.findRowsByUserIdAndDateRange",
+                TransactionDAO.FIND_ROWS_BY_USER_ID_AND_DATE_RANGE_SQL);
+        HOT_QUERIES.put("TransactionDAO.getTotalsByBucket",
+                TransactionDAO.totalsByBucketSql(Granularity.MONTH, false, false));
+        HOT_QUERIES.put("TransactionDAO.getTotalsByBucketAndType",
+                TransactionDAO.totalsByBucketSql(Granularity.MONTH, true, false));
+        HOT_QUERIES.put("TransactionDAO.getTotalsByBucketAndCategory",
+                TransactionDAO.totalsByBucketSql(Granularity.MONTH, false, true));
+        HOT_QUERIES.put("TransactionDAO.countByUserId", TransactionDAO.COUNT_BY_USER_ID_SQL);
+        HOT_QUERIES.put("BudgetDAO.findByUserId", BudgetDAO.FIND_BY_USER_ID_SQL);
+        HOT_QUERIES.put("BudgetDAO.findByUserIdAndPeriod", BudgetDAO.FIND_BY_USER_ID_AND_PERIOD_SQL);
+        HOT_QUERIES.put("BudgetDAO.findByUserIdAndDateRange", BudgetDAO.FIND_BY_USER_ID_AND_DATE_RANGE_SQL);
+        HOT_QUERIES.put("BudgetDAO.findByUserIdAndPeriodAndDateRange",
+                BudgetDAO.FIND_BY_USER_ID_AND_PERIOD_AND_DATE_RANGE_SQL);
+        HOT_QUERIES.put("BudgetDAO.findRowsWithSpentByUserId", BudgetDAO.FIND_ROWS_WITH_SPENT_BY_USER_ID_SQL);
+    }
+
+    private QueryPlanVerifier() {
+    }
+
+    /**
+     * @throws IllegalStateException listing every hot query whose plan contains a scan
+     */
+    public static void verify(Connection conn) throws SQLException {
+        List<String> regressions = findScans(conn);
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException("Hot queries are no longer served by an index:\n  "
+                    + String.join("\n  ", regressions));
+        }
+    }
+
+    static List<String> findScans(Connection conn) throws SQLException {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, String> query : HOT_QUERIES.entrySet()) {
+            // Parameters are left unbound; SQLite plans the statement without their values
+            try (PreparedStatement statement = conn.prepareStatement("EXPLAIN QUERY PLAN " + query.getValue());
+                    ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String detail = rs.getString("detail");
+                    if (detail.startsWith("SCAN ") && !detail.startsWith("SCAN CONSTANT ROW")) {
+                        regressions.add(query.getKey() + ": " + detail);
+                    }
+                }
+            }
+        }
+        return regressions;
+    }
+}
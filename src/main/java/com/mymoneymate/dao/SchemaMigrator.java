@@ -0,0 +1,259 @@
+package com.mymoneymate.dao;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Applies the numbered scripts under {@code /database/migrations} in order and
+ * records each one in {@code schema_version} together with a checksum of its
+ * contents. Released scripts must never be edited; add a new one instead.
+ */
+public class SchemaMigrator {
+    private static final String MIGRATIONS_PATH = "/database/migrations/";
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final Pattern TRIGGER_HEAD = Pattern.compile("^\\s*CREATE\\s+(TEMP\\s+|TEMPORARY\\s+)?TRIGGER\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    // Versions must be contiguous, starting at 1
+    private static final List<String> MIGRATIONS = List.of(
+            "V1__initial_schema.sql",
+            "V2__hot_query_indexes.sql",
+            "V3__transaction_keyset_index.sql",
+            "V4__daily_totals.sql",
+            "V5__integer_amounts.sql",
+            "V6__epoch_day_dates.sql",
+            "V7__daily_totals_category_index.sql");
+
+    private static final String CREATE_VERSION_TABLE = "CREATE TABLE IF NOT EXISTS schema_version ("
+            + "version INTEGER PRIMARY KEY, "
+            + "description TEXT NOT NULL, "
+            + "checksum INTEGER NOT NULL, "
+            + "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)";
+
+    private final List<Migration> migrations;
+
+    public SchemaMigrator() {
+        this.migrations = loadMigrations();
+    }
+
+    public int getLatestVersion() {
+        return migrations.size();
+    }
+
+    /**
+     * Brings the schema up to date. All pending migrations run inside a single
+     * transaction, so a failure leaves the database at its previous version.
+     *
+     * @return the number of migrations applied (0 when already current)
+     * @throws SQLException if a migration fails to apply
+     * @throws IllegalStateException if an applied migration no longer matches its script
+     */
+    public int migrate(Connection conn) throws SQLException {
+        Map<Integer, Long> applied = loadApplied(conn);
+        validate(applied);
+
+        List<Migration> pending = migrations.subList(applied.size(), migrations.size());
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (Statement stmt = conn.createStatement();
+                PreparedStatement record = conn.prepareStatement(
+                        "INSERT INTO schema_version (version, description, checksum) VALUES (?, ?, ?)")) {
+            for (Migration migration : pending) {
+                for (String sql : splitStatements(migration.script)) {
+                    try {
+                        stmt.execute(sql);
+                    } catch (SQLException e) {
+                        throw new SQLException("Migration V" + migration.version + " failed: " + e.getMessage(), e);
+                    }
+                }
+                record.setInt(1, migration.version);
+                record.setString(2, migration.description);
+                record.setLong(3, migration.checksum);
+                record.executeUpdate();
+            }
+            conn.commit();
+            return pending.size();
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private Map<Integer, Long> loadApplied(Connection conn) throws SQLException {
+        Map<Integer, Long> applied = new TreeMap<>();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(CREATE_VERSION_TABLE);
+            try (ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_version")) {
+                while (rs.next()) {
+                    applied.put(rs.getInt(1), rs.getLong(2));
+                }
+            }
+        }
+        return applied;
+    }
+
+    private void validate(Map<Integer, Long> applied) {
+        int expected = 1;
+        for (Map.Entry<Integer, Long> entry : applied.entrySet()) {
+            int version = entry.getKey();
+            if (version != expected) {
+                throw new IllegalStateException("Database schema history is missing migration V" + expected);
+            }
+            if (version > migrations.size()) {
+                throw new IllegalStateException("Database schema version V" + version
+                        + " is newer than this application supports (V" + migrations.size() + ")");
+            }
+            Migration migration = migrations.get(version - 1);
+            if (migration.checksum != entry.getValue()) {
+                throw new IllegalStateException("Checksum mismatch for migration V" + version + " ("
+                        + migration.description + "); released migrations must not be modified");
+            }
+            expected++;
+        }
+    }
+
+    private static List<Migration> loadMigrations() {
+        List<Migration> loaded = new ArrayList<>();
+        for (String fileName : MIGRATIONS) {
+            Matcher matcher = FILE_NAME.matcher(fileName);
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Invalid migration file name: " + fileName);
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            if (version != loaded.size() + 1) {
+                throw new IllegalStateException("Migration " + fileName + " is out of sequence");
+            }
+            String script = readScript(fileName);
+            loaded.add(new Migration(version, matcher.group(2).replace('_', ' '), script, checksum(script)));
+        }
+        return loaded;
+    }
+
+    private static String readScript(String fileName) {
+        try (InputStream in = SchemaMigrator.class.getResourceAsStream(MIGRATIONS_PATH + fileName)) {
+            if (in == null) {
+                throw new IllegalStateException("Could not find migration " + fileName + " in resources");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error reading migration " + fileName, e);
+        }
+    }
+
+    // Line endings are normalised so a checkout with CRLF files keeps the same checksum
+    static long checksum(String script) {
+        CRC32 crc = new CRC32();
+        crc.update(script.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * Splits a script into statements on top-level semicolons, ignoring those
+     * inside string literals, quoted identifiers, comments and trigger bodies.
+     * A trigger body ends at the END matching its BEGIN; CASE ... END
+     * expressions inside it are nested, not the end of the body.
+     */
+    static List<String> splitStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        // Open BEGIN and CASE blocks of the current statement
+        int depth = 0;
+        int length = script.length();
+        int i = 0;
+        while (i < length) {
+            char c = script.charAt(i);
+            if (Character.isLetter(c) || c == '_') {
+                int end = i + 1;
+                while (end < length && isWordPart(script.charAt(end))) {
+                    end++;
+                }
+                String word = script.substring(i, end).toUpperCase(Locale.ROOT);
+                if (word.equals("CASE") || (word.equals("BEGIN") && TRIGGER_HEAD.matcher(current).find())) {
+                    depth++;
+                } else if (word.equals("END") && depth > 0) {
+                    depth--;
+                }
+                current.append(script, i, end);
+                i = end;
+            } else if (c == '-' && i + 1 < length && script.charAt(i + 1) == '-') {
+                int end = script.indexOf('\n', i);
+                i = end < 0 ? length : end;
+            } else if (c == '/' && i + 1 < length && script.charAt(i + 1) == '*') {
+                int end = script.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                current.append(' ');
+            } else if (c == '\'' || c == '"' || c == '`' || c == '[') {
+                char close = c == '[' ? ']' : c;
+                int end = i + 1;
+                while (end < length) {
+                    if (script.charAt(end) == close) {
+                        // A doubled quote is an escaped quote, not the end of the literal
+                        if (close != ']' && end + 1 < length && script.charAt(end + 1) == close) {
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    end++;
+                }
+                end = Math.min(end + 1, length);
+                current.append(script, i, end);
+                i = end;
+            } else if (c == ';' && depth == 0) {
+                addStatement(statements, current);
+                i++;
+            } else {
+                current.append(c);
+                i++;
+            }
+        }
+        addStatement(statements, current);
+        return statements;
+    }
+
+    private static boolean isWordPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private static void addStatement(List<String> statements, StringBuilder current) {
+        String sql = current.toString().trim();
+        if (!sql.isEmpty()) {
+            statements.add(sql);
+        }
+        current.setLength(0);
+    }
+
+    private static class Migration {
+        private final int version;
+        private final String description;
+        private final String script;
+        private final long checksum;
+
+        Migration(int version, String description, String script, long checksum) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+            this.checksum = checksum;
+        }
+    }
+}
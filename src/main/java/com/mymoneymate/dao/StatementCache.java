@@ -0,0 +1,208 @@
+package com.mymoneymate.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prepared statements of one physical connection, keyed by SQL text, so a
+ * query is parsed and planned once per connection instead of once per call.
+ * Borrowers get a proxy whose {@code close()} resets the statement and hands
+ * it back; the least recently used idle statement is closed once the cache
+ * is full. A statement that can't be cached is lent the same way and closed
+ * when it is handed back.
+ */
+final class StatementCache {
+
+    interface Preparer {
+        PreparedStatement prepare() throws SQLException;
+    }
+
+    private final int capacity;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    // Access order, so iteration starts at the least recently used statement
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // Lent statements that aren't in entries, so releaseAll can reclaim them too
+    private final List<Entry> uncached = new ArrayList<>();
+
+    StatementCache(int capacity, LongAdder hits, LongAdder misses) {
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    synchronized PreparedStatement prepare(String key, Connection owner, Preparer preparer) throws SQLException {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.lease == null) {
+            hits.increment();
+            return entry.lend(owner);
+        }
+        misses.increment();
+        PreparedStatement physical = preparer.prepare();
+        if (entry != null || capacity == 0) {
+            // The same SQL is already open on this connection, e.g. in a nested loop; don't cache this one
+            Entry duplicate = new Entry(key, physical, false);
+            uncached.add(duplicate);
+            return duplicate.lend(owner);
+        }
+        evictIfFull();
+        entry = new Entry(key, physical, true);
+        entries.put(key, entry);
+        return entry.lend(owner);
+    }
+
+    // Called when the connection goes back to the pool; reclaims statements the borrower left open
+    synchronized void releaseAll() {
+        for (Entry entry : entries.values().toArray(new Entry[0])) {
+            if (entry.lease != null) {
+                entry.lease.giveBack();
+            }
+        }
+        for (Entry entry : uncached.toArray(new Entry[0])) {
+            entry.lease.giveBack();
+        }
+    }
+
+    synchronized void closeAll() {
+        for (Entry entry : entries.values()) {
+            closeQuietly(entry.physical);
+        }
+        for (Entry entry : uncached) {
+            closeQuietly(entry.physical);
+        }
+        entries.clear();
+        uncached.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictIfFull() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (entries.size() >= capacity && it.hasNext()) {
+            Entry eldest = it.next();
+            if (eldest.lease == null) {
+                it.remove();
+                closeQuietly(eldest.physical);
+            }
+        }
+    }
+
+    private synchronized void returned(Entry entry, boolean healthy) {
+        entry.lease = null;
+        if (!entry.cached) {
+            uncached.remove(entry);
+            closeQuietly(entry.physical);
+        } else if (!healthy) {
+            entries.remove(entry.key, entry);
+            closeQuietly(entry.physical);
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing cached statement: " + e.getMessage());
+        }
+    }
+
+    private final class Entry {
+        private final String key;
+        private final PreparedStatement physical;
+        private final boolean cached;
+        private StatementLease lease;
+
+        Entry(String key, PreparedStatement physical, boolean cached) {
+            this.key = key;
+            this.physical = physical;
+            this.cached = cached;
+        }
+
+        PreparedStatement lend(Connection owner) {
+            lease = new StatementLease(this, owner);
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    StatementCache.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    lease);
+        }
+    }
+
+    private final class StatementLease implements InvocationHandler {
+        private final Entry entry;
+        private final Connection owner;
+        private ResultSet openResultSet;
+        private volatile boolean returned;
+
+        StatementLease(Entry entry, Connection owner) {
+            this.entry = entry;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    giveBack();
+                    return null;
+                case "isClosed":
+                    return returned || entry.physical.isClosed();
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return (entry.cached ? "Cached[" : "Uncached[") + entry.physical + "]";
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("Statement has already been closed");
+            }
+            try {
+                Object result = method.invoke(entry.physical, args);
+                if (result instanceof ResultSet rs) {
+                    openResultSet = rs;
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        // Leaves the statement as a fresh prepare would: no open cursor, bindings or batch
+        void giveBack() {
+            synchronized (StatementCache.this) {
+                if (returned) {
+                    return;
+                }
+                returned = true;
+                boolean healthy = true;
+                try {
+                    if (openResultSet != null) {
+                        openResultSet.close();
+                    }
+                    entry.physical.clearParameters();
+                    entry.physical.clearBatch();
+                } catch (SQLException e) {
+                    healthy = false;
+                }
+                returned(entry, healthy);
+            }
+        }
+    }
+}
@@ -8,17 +8,81 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.mymoneymate.models.Category;
+import com.mymoneymate.models.CategoryTotals;
+import com.mymoneymate.models.Granularity;
+import com.mymoneymate.models.Money;
+import com.mymoneymate.models.TimeSeries;
 import com.mymoneymate.models.Transaction;
+import com.mymoneymate.models.TransactionMapper;
+import com.mymoneymate.models.TransactionRow;
 
 public class TransactionDAO implements BaseDAO<Transaction> {
 
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String INSERT_SQL = "INSERT INTO transactions (amount, description, category_id, user_id, type, transaction_date) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String LAST_ID_SQL = "SELECT last_insert_rowid()";
+
+    public static final int DEFAULT_FETCH_SIZE = 500;
+    private static final String FIND_ALL_SQL = "SELECT " + TransactionMapper.COLUMNS + " FROM transactions ORDER BY transaction_date DESC, created_at DESC;";
+    private static final String FIND_BY_CATEGORY_ID_SQL = "SELECT " + TransactionMapper.COLUMNS + " FROM transactions WHERE category_id = ? ORDER BY transaction_date DESC, created_at DESC;";
+    private static final String FIND_BY_TYPE_SQL = "SELECT " + TransactionMapper.COLUMNS + " FROM transactions WHERE type = ? ORDER BY transaction_date DESC, created_at DESC;";
+
+    // Hot queries; QueryPlanVerifier checks at startup that each one is served by an index
+    static final String FIND_BY_USER_ID_SQL = "SELECT " + TransactionMapper.COLUMNS + " FROM transactions WHERE user_id = ? ORDER BY transaction_date DESC, created_at DESC;";
+    // Sums read the daily_totals rollup kept up to date by triggers on transactions
+    static final String SUM_BY_USER_ID_AND_TYPE_SQL = "SELECT SUM(amount_sum) FROM daily_totals WHERE user_id = ? AND type = ?";
+    static final String FIND_BY_USER_ID_AND_DATE_RANGE_SQL = "SELECT " + TransactionMapper.COLUMNS + " FROM transactions WHERE user_id = ? AND transaction_date BETWEEN ? AND ? ORDER BY transaction_date DESC, created_at DESC;";
+    static final String SUM_BY_PERIOD_AND_CATEGORY_SQL = "SELECT SUM(amount_sum) FROM daily_totals WHERE user_id = ? AND category_id = ? AND day BETWEEN ? AND ?";
+    static final String SUM_BY_TYPE_AND_PERIOD_SQL = "SELECT SUM(amount_sum) FROM daily_totals WHERE user_id = ? AND type = ? AND day BETWEEN ? AND ?";
+    static final String CATEGORY_TOTALS_BY_PERIOD_SQL = "SELECT category_id, SUM(amount_sum) FROM daily_totals WHERE user_id = ? AND day BETWEEN ? AND ? GROUP BY category_id";
+    static final String TOTALS_BY_CATEGORY_SQL = "SELECT category_id, SUM(amount_sum) FROM daily_totals WHERE user_id = ? AND day BETWEEN ? AND ? GROUP BY category_id ORDER BY category_id";
+    static final String DAILY_TOTALS_BY_USER_ID_AND_DATE_RANGE_SQL = "SELECT day, category_id, type = 'EXPENSE', amount_sum FROM daily_totals WHERE user_id = ? AND day BETWEEN ? AND ? ORDER BY day";
+    static final String DAILY_TOTALS_BY_USER_ID_SQL = "SELECT day, category_id, type, amount_sum FROM daily_totals WHERE user_id = ? ORDER BY day";
+    // %1$s is the bucket index of a row's day relative to the first bucket, %2$s the optional filters
+    private static final String TOTALS_BY_BUCKET_SQL = "SELECT %1$s, SUM(amount_sum) FROM daily_totals WHERE user_id = ? AND day BETWEEN ? AND ?%2$s GROUP BY 1";
+    private static final String YEAR_OF_DAY = "CAST(strftime('%Y', day + 2440587.5) AS INTEGER)";
+    private static final String MONTH_OF_DAY = "CAST(strftime('%m', day + 2440587.5) AS INTEGER)";
+    private static final Map<Granularity, String> BUCKET_INDEX_SQL = new EnumMap<>(Granularity.class);
+
+    static {
+        BUCKET_INDEX_SQL.put(Granularity.DAY, "day - ?");
+        BUCKET_INDEX_SQL.put(Granularity.WEEK, "(day - ?) / 7");
+        BUCKET_INDEX_SQL.put(Granularity.MONTH, YEAR_OF_DAY + " * 12 + " + MONTH_OF_DAY + " - ?");
+        BUCKET_INDEX_SQL.put(Granularity.QUARTER, YEAR_OF_DAY + " * 4 + (" + MONTH_OF_DAY + " - 1) / 3 - ?");
+        BUCKET_INDEX_SQL.put(Granularity.YEAR, YEAR_OF_DAY + " - ?");
+    }
+
+    static final String FIND_BY_PERIOD_AND_CATEGORY_SQL = "SELECT " + TransactionMapper.COLUMNS + " FROM transactions WHERE user_id = ? AND category_id = ? AND transaction_date BETWEEN ? AND ? ORDER BY transaction_date DESC, created_at DESC;";
+    // Keyset pagination: id breaks ties so the order is total and pages never overlap
+    static final String FIND_FIRST_PAGE_BY_USER_ID_SQL = "SELECT " + TransactionMapper.COLUMNS + ", created_at FROM transactions WHERE user_id = ? ORDER BY transaction_date DESC, created_at DESC, id DESC LIMIT ?";
+    static final String FIND_NEXT_PAGE_BY_USER_ID_SQL = "SELECT " + TransactionMapper.COLUMNS + ", created_at FROM transactions WHERE user_id = ? AND (transaction_date, created_at, id) < (?, ?, ?) ORDER BY transaction_date DESC, created_at DESC, id DESC LIMIT ?";
+    static final String FIND_ROWS_BY_USER_ID_AND_DATE_RANGE_SQL = "SELECT " + TransactionMapper.columns("t") + ", c.name FROM transactions t JOIN categories c ON c.id = t.category_id WHERE t.user_id = ? AND t.transaction_date BETWEEN ? AND ? ORDER BY t.transaction_date DESC, t.created_at DESC";
+    static final String COUNT_BY_USER_ID_SQL = "SELECT COUNT(*) FROM transactions WHERE user_id = ?";
+    private static final String FIND_SORTED_PAGE_BY_USER_ID_SQL = "SELECT " + TransactionMapper.columns("t") + ", t.created_at FROM transactions t JOIN categories c ON c.id = t.category_id WHERE t.user_id = ? ORDER BY %s LIMIT ? OFFSET ?";
+
+    private static final String AGGREGATE_DAILY_TOTALS_SQL = "SELECT user_id, transaction_date, category_id, type, SUM(amount), COUNT(*) FROM transactions GROUP BY user_id, transaction_date, category_id, type";
+    private static final String REBUILD_DAILY_TOTALS_SQL = "INSERT INTO daily_totals (user_id, day, category_id, type, amount_sum, txn_count) " + AGGREGATE_DAILY_TOTALS_SQL;
+    private static final String ROLLUP_SQL = "SELECT user_id, day, category_id, type, amount_sum, txn_count FROM daily_totals";
+    // Rows present on only one side, in either direction
+    private static final String COUNT_DAILY_TOTALS_MISMATCHES_SQL = "SELECT (SELECT COUNT(*) FROM (" + ROLLUP_SQL + " EXCEPT " + AGGREGATE_DAILY_TOTALS_SQL + "))"
+            + " + (SELECT COUNT(*) FROM (" + AGGREGATE_DAILY_TOTALS_SQL + " EXCEPT " + ROLLUP_SQL + "))";
+
     private final DatabaseManager dbManager;
+    private int fetchSize = DEFAULT_FETCH_SIZE;
 
     public TransactionDAO() {
         this.dbManager = DatabaseManager.getInstance();
@@ -26,22 +90,17 @@ public class TransactionDAO implements BaseDAO<Transaction> {
 
     @Override
     public Transaction create(Transaction transaction) throws SQLException {
-        String sql = "INSERT INTO transactions (amount, description, category_id, user_id, type, transaction_date) VALUES (?, ?, ?, ?, ?, ?)";
-
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            statement.setBigDecimal(1, transaction.getAmount());
-            statement.setString(2, transaction.getDescription());
-            statement.setInt(3, transaction.getCategoryId());
-            statement.setInt(4, transaction.getUserId());
-            statement.setString(5, transaction.getType().toString());
-            statement.setDate(6, java.sql.Date.valueOf(transaction.getTransactionDate()));
+        try (Connection conn = dbManager.getConnection();
+                PreparedStatement statement = conn.prepareStatement(INSERT_SQL);
+                PreparedStatement lastIdStatement = conn.prepareStatement(LAST_ID_SQL)) {
+            bindInsert(statement, transaction);
 
             int affectedRows = statement.executeUpdate();
             if (affectedRows == 0) {
                 throw new SQLException("Creating transaction failed, no rows affected.");
             }
 
-            try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+            try (ResultSet rs = lastIdStatement.executeQuery()) {
                 if (rs.next()) {
                     transaction.setId(rs.getInt(1));
                     return transaction;
@@ -52,23 +111,81 @@ public class TransactionDAO implements BaseDAO<Transaction> {
         }
     }
 
+    public List<Transaction> createAll(Collection<Transaction> transactions) throws SQLException {
+        return createAll(transactions, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Inserts the transactions as JDBC batches on the writer connection,
+     * committing once per {@code chunkSize} rows instead of once per row.
+     * Ids are assigned per chunk from a single last_insert_rowid() lookup: the
+     * pool has one writer, so rowids within a chunk's transaction are consecutive.
+     * If a chunk fails it is rolled back; earlier chunks stay committed and keep their ids.
+     */
+    public List<Transaction> createAll(Collection<Transaction> transactions, int chunkSize) throws SQLException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        List<Transaction> created = new ArrayList<>(transactions);
+        if (created.isEmpty()) {
+            return created;
+        }
+
+        try (Connection conn = dbManager.getConnection();
+                PreparedStatement statement = conn.prepareStatement(INSERT_SQL);
+                PreparedStatement lastIdStatement = conn.prepareStatement(LAST_ID_SQL)) {
+            conn.setAutoCommit(false);
+            try {
+                for (int start = 0; start < created.size(); start += chunkSize) {
+                    int end = Math.min(start + chunkSize, created.size());
+                    for (int i = start; i < end; i++) {
+                        bindInsert(statement, created.get(i));
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+
+                    long lastId;
+                    try (ResultSet rs = lastIdStatement.executeQuery()) {
+                        if (!rs.next()) {
+                            throw new SQLException("Creating transactions failed, no ID obtained.");
+                        }
+                        lastId = rs.getLong(1);
+                    }
+                    conn.commit();
+
+                    long firstId = lastId - (end - start) + 1;
+                    for (int i = start; i < end; i++) {
+                        created.get(i).setId((int) (firstId + i - start));
+                    }
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        return created;
+    }
+
+    private void bindInsert(PreparedStatement statement, Transaction transaction) throws SQLException {
+        statement.setLong(1, transaction.getAmountMinorUnits());
+        statement.setString(2, transaction.getDescription());
+        statement.setInt(3, transaction.getCategoryId());
+        statement.setInt(4, transaction.getUserId());
+        statement.setString(5, transaction.getType().toString());
+        DateCodec.bind(statement, 6, transaction.getTransactionDate());
+    }
+
     @Override
     public Optional<Transaction> findById(Integer id) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE id = ? ORDER BY transaction_date DESC, created_at DESC;";
+        String sql = "SELECT " + TransactionMapper.COLUMNS + " FROM transactions WHERE id = ? ORDER BY transaction_date DESC, created_at DESC;";
 
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
+        try (Connection conn = dbManager.getReadConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
             statement.setInt(1, id);
             try (ResultSet rs = statement.executeQuery()) {
                 if (rs.next()) {
-                    Transaction transaction = new Transaction(
-                            rs.getInt("user_id"),
-                            rs.getBigDecimal("amount"),
-                            rs.getInt("category_id"),
-                            rs.getString("description"),
-                            rs.getDate("transaction_date").toLocalDate(),
-                            Category.TransactionType.valueOf(rs.getString("type")));
-                    transaction.setId(rs.getInt("id"));
-                    return Optional.of(transaction);
+                    return Optional.of(TransactionMapper.read(rs));
                 }
             }
         }
@@ -77,21 +194,8 @@ public class TransactionDAO implements BaseDAO<Transaction> {
 
     @Override
     public List<Transaction> findAll() throws SQLException {
-        String sql = "SELECT * FROM transactions ORDER BY transaction_date DESC, created_at DESC;";
         List<Transaction> transactions = new ArrayList<>();
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql); ResultSet rs = statement.executeQuery()) {
-            while (rs.next()) {
-                Transaction transaction = new Transaction(
-                        rs.getInt("user_id"),
-                        rs.getBigDecimal("amount"),
-                        rs.getInt("category_id"),
-                        rs.getString("description"),
-                        rs.getDate("transaction_date").toLocalDate(),
-                        Category.TransactionType.valueOf(rs.getString("type")));
-                transaction.setId(rs.getInt("id"));
-                transactions.add(transaction);
-            }
-        }
+        query(FIND_ALL_SQL, NO_PARAMETERS, transactions::add);
         return transactions;
     }
 
@@ -100,12 +204,12 @@ public class TransactionDAO implements BaseDAO<Transaction> {
         String sql = "UPDATE transactions SET amount = ?, description = ?, category_id = ?, user_id = ?, type = ?, transaction_date = ? WHERE id = ?";
 
         try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
-            statement.setBigDecimal(1, transaction.getAmount());
+            statement.setLong(1, transaction.getAmountMinorUnits());
             statement.setString(2, transaction.getDescription());
             statement.setInt(3, transaction.getCategoryId());
             statement.setInt(4, transaction.getUserId());
             statement.setString(5, transaction.getType().toString());
-            statement.setDate(6, java.sql.Date.valueOf(transaction.getTransactionDate()));
+            DateCodec.bind(statement, 6, transaction.getTransactionDate());
             statement.setInt(7, transaction.getId());
             int affectedRows = statement.executeUpdate();
             return affectedRows > 0;
@@ -124,108 +228,43 @@ public class TransactionDAO implements BaseDAO<Transaction> {
     }
 
     public List<Transaction> findByUserId(Integer userId) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE user_id = ? ORDER BY transaction_date DESC, created_at DESC;";
         List<Transaction> transactions = new ArrayList<>();
-
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
-            statement.setInt(1, userId);
-            try (ResultSet rs = statement.executeQuery()) {
-                while (rs.next()) {
-                    Transaction transaction = new Transaction(
-                            rs.getInt("user_id"),
-                            rs.getBigDecimal("amount"),
-                            rs.getInt("category_id"),
-                            rs.getString("description"),
-                            rs.getDate("transaction_date").toLocalDate(),
-                            Category.TransactionType.valueOf(rs.getString("type")));
-                    transaction.setId(rs.getInt("id"));
-                    transactions.add(transaction);
-                }
-            }
-        }
+        query(FIND_BY_USER_ID_SQL, statement -> statement.setInt(1, userId), transactions::add);
         return transactions;
     }
 
     public List<Transaction> findByCategoryId(Integer categoryId) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE category_id = ? ORDER BY transaction_date DESC, created_at DESC;";
         List<Transaction> transactions = new ArrayList<>();
-
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
-            statement.setInt(1, categoryId);
-            try (ResultSet rs = statement.executeQuery()) {
-                while (rs.next()) {
-                    Transaction transaction = new Transaction(
-                            rs.getInt("user_id"),
-                            rs.getBigDecimal("amount"),
-                            rs.getInt("category_id"),
-                            rs.getString("description"),
-                            rs.getDate("transaction_date").toLocalDate(),
-                            Category.TransactionType.valueOf(rs.getString("type")));
-                    transaction.setId(rs.getInt("id"));
-                    transactions.add(transaction);
-                }
-            }
-        }
+        query(FIND_BY_CATEGORY_ID_SQL, statement -> statement.setInt(1, categoryId), transactions::add);
         return transactions;
     }
 
-    public List<Transaction> findByDateRange(String startDate, String endDate) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE transaction_date BETWEEN ? AND ? ORDER BY transaction_date DESC, created_at DESC;";
+    public List<Transaction> findByDateRange(LocalDate startDate, LocalDate endDate) throws SQLException {
+        String sql = "SELECT " + TransactionMapper.COLUMNS + " FROM transactions WHERE transaction_date BETWEEN ? AND ? ORDER BY transaction_date DESC, created_at DESC;";
         List<Transaction> transactions = new ArrayList<>();
-
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
-            statement.setString(1, startDate);
-            statement.setString(2, endDate);
-            try (ResultSet rs = statement.executeQuery()) {
-                while (rs.next()) {
-                    Transaction transaction = new Transaction(
-                            rs.getInt("user_id"),
-                            rs.getBigDecimal("amount"),
-                            rs.getInt("category_id"),
-                            rs.getString("description"),
-                            rs.getDate("transaction_date").toLocalDate(),
-                            Category.TransactionType.valueOf(rs.getString("type")));
-                    transaction.setId(rs.getInt("id"));
-                    transactions.add(transaction);
-                }
-            }
-        }
+        query(sql, statement -> {
+            DateCodec.bind(statement, 1, startDate);
+            DateCodec.bind(statement, 2, endDate);
+        }, transactions::add);
         return transactions;
     }
 
     public List<Transaction> findByType(Category.TransactionType type) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE type = ? ORDER BY transaction_date DESC, created_at DESC;";
         List<Transaction> transactions = new ArrayList<>();
-
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
-            statement.setString(1, type.toString());
-            try (ResultSet rs = statement.executeQuery()) {
-                while (rs.next()) {
-                    Transaction transaction = new Transaction(
-                            rs.getInt("user_id"),
-                            rs.getBigDecimal("amount"),
-                            rs.getInt("category_id"),
-                            rs.getString("description"),
-                            rs.getDate("transaction_date").toLocalDate(),
-                            Category.TransactionType.valueOf(rs.getString("type")));
-                    transaction.setId(rs.getInt("id"));
-                    transactions.add(transaction);
-                }
-            }
-        }
+        query(FIND_BY_TYPE_SQL, statement -> statement.setString(1, type.toString()), transactions::add);
         return transactions;
     }
 
     public BigDecimal sumByUserIdAndType(Integer userId, Category.TransactionType type) throws SQLException {
-        String sql = "SELECT SUM(amount) FROM transactions WHERE user_id = ? AND type = ?";
+        String sql = SUM_BY_USER_ID_AND_TYPE_SQL;
         BigDecimal sum = BigDecimal.ZERO;
 
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
+        try (Connection conn = dbManager.getReadConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
             statement.setInt(1, userId);
             statement.setString(2, type.toString());
             try (ResultSet rs = statement.executeQuery()) {
-                if (rs.next() && rs.getBigDecimal(1) != null) {
-                    sum = rs.getBigDecimal(1);
+                if (rs.next()) {
+                    sum = Money.toBigDecimal(rs.getLong(1));
                 }
             }
         }
@@ -234,43 +273,24 @@ public class TransactionDAO implements BaseDAO<Transaction> {
 
     public List<Transaction> findByUserIdAndDateRange(Integer userId, LocalDate startDate, LocalDate endDate)
             throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE user_id = ? AND transaction_date BETWEEN ? AND ? ORDER BY transaction_date DESC, created_at DESC;";
         List<Transaction> transactions = new ArrayList<>();
-
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
-            statement.setInt(1, userId);
-            statement.setDate(2, java.sql.Date.valueOf(startDate));
-            statement.setDate(3, java.sql.Date.valueOf(endDate));
-            try (ResultSet rs = statement.executeQuery()) {
-                while (rs.next()) {
-                    Transaction transaction = new Transaction(
-                            rs.getInt("user_id"),
-                            rs.getBigDecimal("amount"),
-                            rs.getInt("category_id"),
-                            rs.getString("description"),
-                            rs.getDate("transaction_date").toLocalDate(),
-                            Category.TransactionType.valueOf(rs.getString("type")));
-                    transaction.setId(rs.getInt("id"));
-                    transactions.add(transaction);
-                }
-            }
-        }
+        forEachByUserIdAndDateRange(userId, startDate, endDate, transactions::add);
         return transactions;
     }
 
     public BigDecimal getSumByPeriodAndCategory(Integer userId, Integer categoryId, LocalDate startDate,
             LocalDate endDate) throws SQLException {
-        String sql = "SELECT SUM(amount) FROM transactions WHERE user_id = ? AND category_id = ? AND transaction_date BETWEEN ? AND ?";
+        String sql = SUM_BY_PERIOD_AND_CATEGORY_SQL;
         BigDecimal sum = BigDecimal.ZERO;
 
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
+        try (Connection conn = dbManager.getReadConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
             statement.setInt(1, userId);
             statement.setInt(2, categoryId);
-            statement.setDate(3, java.sql.Date.valueOf(startDate));
-            statement.setDate(4, java.sql.Date.valueOf(endDate));
+            DateCodec.bind(statement, 3, startDate);
+            DateCodec.bind(statement, 4, endDate);
             try (ResultSet rs = statement.executeQuery()) {
-                if (rs.next() && rs.getBigDecimal(1) != null) {
-                    sum = rs.getBigDecimal(1);
+                if (rs.next()) {
+                    sum = Money.toBigDecimal(rs.getLong(1));
                 }
             }
         }
@@ -279,17 +299,17 @@ public class TransactionDAO implements BaseDAO<Transaction> {
 
     public BigDecimal getSumByTypeAndPeriod(Integer userId, Category.TransactionType type, LocalDate startDate,
             LocalDate endDate) throws SQLException {
-        String sql = "SELECT SUM(amount) FROM transactions WHERE user_id = ? AND type = ? AND transaction_date BETWEEN ? AND ?";
+        String sql = SUM_BY_TYPE_AND_PERIOD_SQL;
         BigDecimal sum = BigDecimal.ZERO;
 
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
+        try (Connection conn = dbManager.getReadConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
             statement.setInt(1, userId);
             statement.setString(2, type.toString());
-            statement.setDate(3, java.sql.Date.valueOf(startDate));
-            statement.setDate(4, java.sql.Date.valueOf(endDate));
+            DateCodec.bind(statement, 3, startDate);
+            DateCodec.bind(statement, 4, endDate);
             try (ResultSet rs = statement.executeQuery()) {
-                if (rs.next() && rs.getBigDecimal(1) != null) {
-                    sum = rs.getBigDecimal(1);
+                if (rs.next()) {
+                    sum = Money.toBigDecimal(rs.getLong(1));
                 }
             }
         }
@@ -298,50 +318,447 @@ public class TransactionDAO implements BaseDAO<Transaction> {
 
     public Map<String, BigDecimal> getCategoryTotalsByPeriod(Integer userId, LocalDate startDate, LocalDate endDate)
             throws SQLException {
-        String sql = "SELECT category_id, SUM(amount) FROM transactions WHERE user_id = ? AND transaction_date BETWEEN ? AND ? GROUP BY category_id";
+        String sql = CATEGORY_TOTALS_BY_PERIOD_SQL;
         Map<String, BigDecimal> categoryTotals = new HashMap<>();
 
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
+        try (Connection conn = dbManager.getReadConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
             statement.setInt(1, userId);
-            statement.setDate(2, java.sql.Date.valueOf(startDate));
-            statement.setDate(3, java.sql.Date.valueOf(endDate));
+            DateCodec.bind(statement, 2, startDate);
+            DateCodec.bind(statement, 3, endDate);
             try (ResultSet rs = statement.executeQuery()) {
                 while (rs.next()) {
-                    if (rs.getBigDecimal("SUM(amount)") == null) {
-                        categoryTotals.put(rs.getString("category_id"), BigDecimal.ZERO);
-                    } else {
-                        categoryTotals.put(rs.getString("category_id"), rs.getBigDecimal("SUM(amount)"));
-                    }
+                    categoryTotals.put(rs.getString(1), Money.toBigDecimal(rs.getLong(2)));
                 }
             }
         }
         return categoryTotals;
     }
 
+    // One grouped query for all categories; rows arrive in category id order, ready for CategoryTotals
+    public CategoryTotals getTotalsByCategory(Integer userId, LocalDate startDate, LocalDate endDate)
+            throws SQLException {
+        int[] categoryIds = new int[16];
+        BigDecimal[] totals = new BigDecimal[16];
+        int size = 0;
+
+        try (Connection conn = dbManager.getReadConnection();
+                PreparedStatement statement = conn.prepareStatement(TOTALS_BY_CATEGORY_SQL)) {
+            bindUserAndDateRange(userId, startDate, endDate).bind(statement);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    if (size == categoryIds.length) {
+                        categoryIds = Arrays.copyOf(categoryIds, size * 2);
+                        totals = Arrays.copyOf(totals, size * 2);
+                    }
+                    categoryIds[size] = rs.getInt(1);
+                    totals[size] = Money.toBigDecimal(rs.getLong(2));
+                    size++;
+                }
+            }
+        }
+        return new CategoryTotals(Arrays.copyOf(categoryIds, size), Arrays.copyOf(totals, size));
+    }
+
+    /**
+     * Sums the user's transactions in the range per bucket of the given
+     * granularity, grouped in SQL over the daily rollup. Pass null for type or
+     * categoryId to leave that filter out.
+     */
+    public TimeSeries getTotalsByBucket(Integer userId, LocalDate startDate, LocalDate endDate,
+            Granularity granularity, Category.TransactionType type, Integer categoryId) throws SQLException {
+        long[] bucketStarts = granularity.bucketStarts(startDate, endDate);
+        long[] totals = new long[bucketStarts.length];
+
+        try (Connection conn = dbManager.getReadConnection();
+                PreparedStatement statement = conn.prepareStatement(
+                        totalsByBucketSql(granularity, type != null, categoryId != null))) {
+            int index = 1;
+            statement.setLong(index++, bucketOrigin(granularity, LocalDate.ofEpochDay(bucketStarts[0])));
+            statement.setInt(index++, userId);
+            DateCodec.bind(statement, index++, startDate);
+            DateCodec.bind(statement, index++, endDate);
+            if (type != null) {
+                statement.setString(index++, type.toString());
+            }
+            if (categoryId != null) {
+                statement.setInt(index, categoryId);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    totals[rs.getInt(1)] = rs.getLong(2);
+                }
+            }
+        }
+        return new TimeSeries(granularity, bucketStarts, totals);
+    }
+
     public List<Transaction> findByPeriodAndCategory(Integer userId, Integer categoryId, LocalDate startDate,
             LocalDate endDate) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE user_id = ? AND category_id = ? AND transaction_date BETWEEN ? AND ? ORDER BY transaction_date DESC, created_at DESC;";
         List<Transaction> transactions = new ArrayList<>();
-
-        try (Connection conn = dbManager.getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
+        query(FIND_BY_PERIOD_AND_CATEGORY_SQL, statement -> {
             statement.setInt(1, userId);
             statement.setInt(2, categoryId);
-            statement.setDate(3, java.sql.Date.valueOf(startDate));
-            statement.setDate(4, java.sql.Date.valueOf(endDate));
+            DateCodec.bind(statement, 3, startDate);
+            DateCodec.bind(statement, 4, endDate);
+        }, transactions::add);
+        return transactions;
+    }
+
+    // Projection with the category name joined in, so a table of N rows costs one query
+    public List<TransactionRow> findRowsByUserIdAndDateRange(Integer userId, LocalDate startDate, LocalDate endDate)
+            throws SQLException {
+        List<TransactionRow> rows = new ArrayList<>();
+        try (Connection conn = dbManager.getReadConnection();
+                PreparedStatement statement = conn.prepareStatement(FIND_ROWS_BY_USER_ID_AND_DATE_RANGE_SQL)) {
+            statement.setFetchSize(fetchSize);
+            bindUserAndDateRange(userId, startDate, endDate).bind(statement);
             try (ResultSet rs = statement.executeQuery()) {
                 while (rs.next()) {
-                    Transaction transaction = new Transaction(
-                            rs.getInt("user_id"),
-                            rs.getBigDecimal("amount"),
-                            rs.getInt("category_id"),
-                            rs.getString("description"),
-                            rs.getDate("transaction_date").toLocalDate(),
-                            Category.TransactionType.valueOf(rs.getString("type")));
-                    transaction.setId(rs.getInt("id"));
-                    transactions.add(transaction);
+                    rows.add(new TransactionRow(TransactionMapper.read(rs), rs.getString(TransactionMapper.COLUMN_COUNT + 1)));
                 }
             }
         }
-        return transactions;
+        return rows;
     }
+
+    // Cursor-based variants: rows are mapped one at a time while the result set is
+    // read, so memory use does not grow with the number of matching transactions.
+
+    public void forEachByUserIdAndDateRange(Integer userId, LocalDate startDate, LocalDate endDate,
+            Consumer<? super Transaction> action) throws SQLException {
+        query(FIND_BY_USER_ID_AND_DATE_RANGE_SQL, bindUserAndDateRange(userId, startDate, endDate), action);
+    }
+
+    /**
+     * The returned stream holds a pooled connection until it is closed, so always
+     * use it in a try-with-resources block. SQL errors raised while the stream is
+     * consumed are rethrown as {@link UncheckedSQLException}.
+     */
+    public Stream<Transaction> streamAll() throws SQLException {
+        return stream(FIND_ALL_SQL, NO_PARAMETERS);
+    }
+
+    public Stream<Transaction> streamByUserId(Integer userId) throws SQLException {
+        return stream(FIND_BY_USER_ID_SQL, statement -> statement.setInt(1, userId));
+    }
+
+    public Stream<Transaction> streamByUserIdAndDateRange(Integer userId, LocalDate startDate, LocalDate endDate)
+            throws SQLException {
+        return stream(FIND_BY_USER_ID_AND_DATE_RANGE_SQL, bindUserAndDateRange(userId, startDate, endDate));
+    }
+
+    public Stream<Transaction> streamByCategoryId(Integer categoryId) throws SQLException {
+        return stream(FIND_BY_CATEGORY_ID_SQL, statement -> statement.setInt(1, categoryId));
+    }
+
+    public Stream<Transaction> streamByType(Category.TransactionType type) throws SQLException {
+        return stream(FIND_BY_TYPE_SQL, statement -> statement.setString(1, type.toString()));
+    }
+
+    /**
+     * Returns up to {@code pageSize} of the user's transactions, newest first,
+     * starting after {@code after} (or from the newest when it is null). Each
+     * page is a seek on the (user_id, transaction_date, created_at, id) index,
+     * so fetching page N costs the same as fetching the first page.
+     */
+    public Page findPageByUserId(Integer userId, PageCursor after, int pageSize) throws SQLException {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        String sql = after == null ? FIND_FIRST_PAGE_BY_USER_ID_SQL : FIND_NEXT_PAGE_BY_USER_ID_SQL;
+        try (Connection conn = dbManager.getReadConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setInt(1, userId);
+            int index = 2;
+            if (after != null) {
+                statement.setLong(index++, after.transactionDate);
+                statement.setString(index++, after.createdAt);
+                statement.setInt(index++, after.id);
+            }
+            // One extra row tells us whether another page exists without a COUNT query
+            statement.setInt(index, pageSize + 1);
+            return readPage(statement, pageSize, true);
+        }
+    }
+
+    /**
+     * Returns a page of the user's transactions in an arbitrary order, located
+     * by offset. The order is applied by SQLite, with id as the final tie-breaker.
+     * Only the default order (date, newest first) yields a cursor that
+     * {@link #findPageByUserId(Integer, PageCursor, int)} can continue from.
+     */
+    public Page findPageByUserId(Integer userId, SortColumn column, boolean ascending, int offset, int pageSize)
+            throws SQLException {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        String direction = ascending ? "ASC" : "DESC";
+        String sql = String.format(FIND_SORTED_PAGE_BY_USER_ID_SQL,
+                column.orderBy(direction) + ", t.id " + direction);
+        try (Connection conn = dbManager.getReadConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setInt(1, userId);
+            statement.setInt(2, pageSize + 1);
+            statement.setInt(3, offset);
+            return readPage(statement, pageSize, column == SortColumn.DATE && !ascending);
+        }
+    }
+
+    public int countByUserId(Integer userId) throws SQLException {
+        try (Connection conn = dbManager.getReadConnection();
+                PreparedStatement statement = conn.prepareStatement(COUNT_BY_USER_ID_SQL)) {
+            statement.setInt(1, userId);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    // Receives the rollup one row at a time, with the amount in minor units (paise)
+    @FunctionalInterface
+    public interface DailyTotalHandler {
+        void accept(long epochDay, int categoryId, Category.TransactionType type, long amountMinor);
+    }
+
+    // Rollup rows of the user, oldest day first
+    public void forEachDailyTotal(Integer userId, DailyTotalHandler handler) throws SQLException {
+        try (Connection conn = dbManager.getReadConnection();
+                PreparedStatement statement = conn.prepareStatement(DAILY_TOTALS_BY_USER_ID_SQL)) {
+            statement.setInt(1, userId);
+            statement.setFetchSize(fetchSize);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    handler.accept(rs.getLong(1), rs.getInt(2),
+                            Category.TransactionType.valueOf(rs.getString(3)), rs.getLong(4));
+                }
+            }
+        }
+    }
+
+    // Rollup rows of the user within the range, oldest day first; the primary key already has that order.
+    // The type comes back as 0/1 so the report pass does not decode a string per row.
+    public void forEachDailyTotal(Integer userId, LocalDate startDate, LocalDate endDate, DailyTotalHandler handler)
+            throws SQLException {
+        try (Connection conn = dbManager.getReadConnection();
+                PreparedStatement statement = conn.prepareStatement(DAILY_TOTALS_BY_USER_ID_AND_DATE_RANGE_SQL)) {
+            bindUserAndDateRange(userId, startDate, endDate).bind(statement);
+            statement.setFetchSize(fetchSize);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    handler.accept(rs.getLong(1), rs.getInt(2),
+                            rs.getInt(3) == 1 ? Category.TransactionType.EXPENSE : Category.TransactionType.INCOME,
+                            rs.getLong(4));
+                }
+            }
+        }
+    }
+
+    /**
+     * Recomputes daily_totals from the transactions table in one transaction,
+     * for data written before the rollup existed or after a failed verify.
+     *
+     * @return the number of rollup rows written
+     */
+    public int rebuildDailyTotals() throws SQLException {
+        try (Connection conn = dbManager.getConnection(); Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            try {
+                stmt.executeUpdate("DELETE FROM daily_totals");
+                int rows = stmt.executeUpdate(REBUILD_DAILY_TOTALS_SQL);
+                conn.commit();
+                return rows;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    // Returns how many rollup rows differ from a fresh aggregation of the transactions; 0 means consistent
+    public int verifyDailyTotals() throws SQLException {
+        try (Connection conn = dbManager.getReadConnection();
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery(COUNT_DAILY_TOTALS_MISMATCHES_SQL)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private Page readPage(PreparedStatement statement, int pageSize, boolean keysetOrder) throws SQLException {
+        List<Transaction> transactions = new ArrayList<>(pageSize);
+        PageCursor last = null;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                if (transactions.size() == pageSize) {
+                    return new Page(transactions, last, true);
+                }
+                Transaction transaction = TransactionMapper.read(rs);
+                transactions.add(transaction);
+                if (keysetOrder) {
+                    // created_at is selected right after the mapped columns
+                    last = new PageCursor(DateCodec.encode(transaction.getTransactionDate()),
+                            rs.getString(TransactionMapper.COLUMN_COUNT + 1), transaction.getId());
+                }
+            }
+        }
+        return new Page(transactions, null, false);
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size must be at least 1");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    static String totalsByBucketSql(Granularity granularity, boolean byType, boolean byCategory) {
+        String filters = (byType ? " AND type = ?" : "") + (byCategory ? " AND category_id = ?" : "");
+        return String.format(TOTALS_BY_BUCKET_SQL, BUCKET_INDEX_SQL.get(granularity), filters);
+    }
+
+    // The value BUCKET_INDEX_SQL subtracts so that the first bucket is index 0
+    private static long bucketOrigin(Granularity granularity, LocalDate firstBucket) {
+        switch (granularity) {
+            case DAY:
+            case WEEK:
+                return firstBucket.toEpochDay();
+            case MONTH:
+                return firstBucket.getYear() * 12L + firstBucket.getMonthValue();
+            case QUARTER:
+                return firstBucket.getYear() * 4L + (firstBucket.getMonthValue() - 1) / 3;
+            default:
+                return firstBucket.getYear();
+        }
+    }
+
+    private static ParameterBinder bindUserAndDateRange(Integer userId, LocalDate startDate, LocalDate endDate) {
+        return statement -> {
+            statement.setInt(1, userId);
+            DateCodec.bind(statement, 2, startDate);
+            DateCodec.bind(statement, 3, endDate);
+        };
+    }
+
+    private void query(String sql, ParameterBinder binder, Consumer<? super Transaction> action) throws SQLException {
+        try (Connection conn = dbManager.getReadConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setFetchSize(fetchSize);
+            binder.bind(statement);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    action.accept(TransactionMapper.read(rs));
+                }
+            }
+        }
+    }
+
+    private Stream<Transaction> stream(String sql, ParameterBinder binder) throws SQLException {
+        Connection conn = dbManager.getReadConnection();
+        PreparedStatement statement = null;
+        try {
+            statement = conn.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            binder.bind(statement);
+            ResultSet rs = statement.executeQuery();
+            PreparedStatement openStatement = statement;
+
+            Spliterator<Transaction> rows = new Spliterators.AbstractSpliterator<Transaction>(Long.MAX_VALUE,
+                    Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super Transaction> action) {
+                    try {
+                        if (!rs.next()) {
+                            return false;
+                        }
+                        action.accept(TransactionMapper.read(rs));
+                        return true;
+                    } catch (SQLException e) {
+                        throw new UncheckedSQLException(e);
+                    }
+                }
+            };
+            return StreamSupport.stream(rows, false).onClose(() -> {
+                try (conn; openStatement; rs) {
+                    // Closing order is result set, statement, then connection back to the pool
+                } catch (SQLException e) {
+                    throw new UncheckedSQLException(e);
+                }
+            });
+        } catch (SQLException | RuntimeException e) {
+            if (statement != null) {
+                statement.close();
+            }
+            conn.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Position of the last row of a page. It holds the raw column values so the
+     * next query compares exactly what is stored; callers treat it as opaque.
+     */
+    public static final class PageCursor {
+        private final long transactionDate;
+        private final String createdAt;
+        private final int id;
+
+        private PageCursor(long transactionDate, String createdAt, int id) {
+            this.transactionDate = transactionDate;
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+    }
+
+    // Orders offered by findPageByUserId; the SQL fragments are fixed, never built from user input
+    public enum SortColumn {
+        DATE("t.transaction_date %1$s, t.created_at %1$s"),
+        CATEGORY("c.name %1$s"),
+        AMOUNT("t.amount %1$s"),
+        DESCRIPTION("t.description %1$s");
+
+        private final String orderBy;
+
+        SortColumn(String orderBy) {
+            this.orderBy = orderBy;
+        }
+
+        private String orderBy(String direction) {
+            return String.format(orderBy, direction);
+        }
+    }
+
+    public static class Page {
+        private final List<Transaction> transactions;
+        private final PageCursor nextCursor;
+        private final boolean hasMore;
+
+        public Page(List<Transaction> transactions, PageCursor nextCursor, boolean hasMore) {
+            this.transactions = transactions;
+            this.nextCursor = nextCursor;
+            this.hasMore = hasMore;
+        }
+
+        // Getters
+        public List<Transaction> getTransactions() {
+            return transactions;
+        }
+
+        public PageCursor getNextCursor() {
+            return nextCursor;
+        }
+
+        public boolean hasMore() {
+            return hasMore;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ParameterBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    private static final ParameterBinder NO_PARAMETERS = statement -> {
+    };
 }
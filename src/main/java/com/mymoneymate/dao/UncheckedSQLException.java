@@ -0,0 +1,15 @@
+package com.mymoneymate.dao;
+
+import java.sql.SQLException;
+
+// Carries an SQLException out of code that cannot throw checked exceptions, such as a Stream pipeline
+public class UncheckedSQLException extends RuntimeException {
+    public UncheckedSQLException(SQLException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 import com.mymoneymate.models.User;
+import com.mymoneymate.models.UserMapper;
 
 public class UserDAO implements BaseDAO<User> {
     private final DatabaseManager dbManager;
@@ -47,21 +48,15 @@ public class UserDAO implements BaseDAO<User> {
 
     @Override
     public Optional<User> findById(Integer id) throws SQLException {
-        String sql = "SELECT * FROM users WHERE id = ?";
+        String sql = "SELECT " + UserMapper.COLUMNS + " FROM users WHERE id = ?";
         
-        try (Connection conn = dbManager.getConnection();
+        try (Connection conn = dbManager.getReadConnection();
             PreparedStatement statement = conn.prepareStatement(sql)) 
 			{
             statement.setInt(1, id);
             try (ResultSet rs = statement.executeQuery()) {
                 if (rs.next()) {
-                    User user = new User(
-                        rs.getString("username"),
-                        rs.getString("password"),
-                        rs.getString("email")
-                    );
-                    user.setId(rs.getInt("id"));
-                    user.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+                    User user = UserMapper.read(rs);
                     return Optional.of(user);
                 }
             }
@@ -72,20 +67,14 @@ public class UserDAO implements BaseDAO<User> {
     @Override
     public List<User> findAll() throws SQLException {
         List<User> users = new ArrayList<>();
-        String sql = "SELECT * FROM users";
+        String sql = "SELECT " + UserMapper.COLUMNS + " FROM users";
         
-        try (Connection conn = dbManager.getConnection();
+        try (Connection conn = dbManager.getReadConnection();
             Statement stmt = conn.createStatement();
             ResultSet rs = stmt.executeQuery(sql)) 
 		{
             while (rs.next()) {
-                User user = new User(
-                    rs.getString("username"),
-                    rs.getString("password"),
-                    rs.getString("email")
-                );
-                user.setId(rs.getInt("id"));
-                user.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+                User user = UserMapper.read(rs);
                 users.add(user);
             }
         }
@@ -125,9 +114,9 @@ public class UserDAO implements BaseDAO<User> {
     }
 
     public Optional<User> findByUsername(String username) throws SQLException {
-        String sql = "SELECT * FROM users WHERE username = ?";
+        String sql = "SELECT " + UserMapper.COLUMNS + " FROM users WHERE username = ?";
         
-        try (Connection conn = dbManager.getConnection();
+        try (Connection conn = dbManager.getReadConnection();
             PreparedStatement statement = conn.prepareStatement(sql)) 
 			{
             
@@ -135,13 +124,7 @@ public class UserDAO implements BaseDAO<User> {
             
             try (ResultSet rs = statement.executeQuery()) {
                 if (rs.next()) {
-                    User user = new User(
-                        rs.getString("username"),
-                        rs.getString("password"),
-                        rs.getString("email")
-                    );
-                    user.setId(rs.getInt("id"));
-                    user.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+                    User user = UserMapper.read(rs);
                     return Optional.of(user);
                 }
             }
@@ -4,13 +4,24 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.mymoneymate.mapping.Column;
+import com.mymoneymate.mapping.Table;
+
+@Table("budgets")
 public class Budget {
+    @Column("id")
     private Integer id;
+    @Column("user_id")
     private Integer userId;
+    @Column("category_id")
     private Integer categoryId;
-    private BigDecimal amount;
+    @Column("amount")
+    private Money amount;
+    @Column("period")
     private BudgetPeriod period;
+    @Column("start_date")
     private LocalDate startDate;
+    @Column("end_date")
     private LocalDate endDate;
     private LocalDateTime createdAt;
 
@@ -23,6 +34,10 @@ public class Budget {
 
     // Constructor
     public Budget(Integer userId, Integer categoryId, BigDecimal amount, BudgetPeriod period, LocalDate startDate, LocalDate endDate) {
+        this(userId, categoryId, amount != null ? Money.of(amount) : null, period, startDate, endDate);
+    }
+
+    public Budget(Integer userId, Integer categoryId, Money amount, BudgetPeriod period, LocalDate startDate, LocalDate endDate) {
         this.userId = userId;
         this.categoryId = categoryId;
         this.amount = amount;
@@ -42,8 +57,9 @@ public class Budget {
     public Integer getCategoryId() { return categoryId; }
     public void setCategoryId(Integer categoryId) { this.categoryId = categoryId; }
     
-    public BigDecimal getAmount() { return amount; }
-    public void setAmount(BigDecimal amount) { this.amount = amount; }
+    public BigDecimal getAmount() { return amount != null ? amount.toBigDecimal() : null; }
+    public void setAmount(BigDecimal amount) { this.amount = amount != null ? Money.of(amount) : null; }
+    public Money getMoney() { return amount; }
     
     public BudgetPeriod getPeriod() { return period; }
     public void setPeriod(BudgetPeriod period) { this.period = period; }
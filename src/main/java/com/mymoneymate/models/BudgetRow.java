@@ -0,0 +1,33 @@
+package com.mymoneymate.models;
+
+import java.math.BigDecimal;
+
+/**
+ * A budget together with its category name and the amount spent against it,
+ * as read by a single grouped JOIN query.
+ */
+public class BudgetRow {
+    private final Budget budget;
+    private final String categoryName;
+    private final BigDecimal spent;
+
+    // Constructor
+    public BudgetRow(Budget budget, String categoryName, BigDecimal spent) {
+        this.budget = budget;
+        this.categoryName = categoryName;
+        this.spent = spent;
+    }
+
+    // Getters
+    public Budget getBudget() {
+        return budget;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public BigDecimal getSpent() {
+        return spent;
+    }
+}
@@ -1,9 +1,17 @@
 package com.mymoneymate.models;
 
+import com.mymoneymate.mapping.Column;
+import com.mymoneymate.mapping.Table;
+
+@Table("categories")
 public class Category {
+    @Column("id")
     private Integer id;
+    @Column("name")
     private String name;
+    @Column("type")
     private TransactionType type;
+    @Column("description")
     private String description;
 
     public enum TransactionType {
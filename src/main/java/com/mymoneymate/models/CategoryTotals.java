@@ -0,0 +1,45 @@
+package com.mymoneymate.models;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Per-category sums keyed by primitive category id. Ids are kept in ascending
+ * order in a plain int array, so a lookup is a binary search with no boxing.
+ * Categories without transactions are absent and read as zero.
+ */
+public class CategoryTotals {
+    private final int[] categoryIds;
+    private final BigDecimal[] totals;
+
+    // Constructor; categoryIds must be strictly ascending
+    public CategoryTotals(int[] categoryIds, BigDecimal[] totals) {
+        if (categoryIds.length != totals.length) {
+            throw new IllegalArgumentException("Every category id needs exactly one total");
+        }
+        for (int i = 1; i < categoryIds.length; i++) {
+            if (categoryIds[i] <= categoryIds[i - 1]) {
+                throw new IllegalArgumentException("Category ids must be strictly ascending");
+            }
+        }
+        this.categoryIds = categoryIds;
+        this.totals = totals;
+    }
+
+    public BigDecimal get(int categoryId) {
+        int index = Arrays.binarySearch(categoryIds, categoryId);
+        return index >= 0 ? totals[index] : BigDecimal.ZERO;
+    }
+
+    public int size() {
+        return categoryIds.length;
+    }
+
+    public int getCategoryId(int index) {
+        return categoryIds[index];
+    }
+
+    public BigDecimal getTotal(int index) {
+        return totals[index];
+    }
+}
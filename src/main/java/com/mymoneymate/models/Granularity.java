@@ -0,0 +1,83 @@
+package com.mymoneymate.models;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+
+/**
+ * Width of the buckets a time series is summed into. Buckets are aligned to
+ * the calendar: weeks start on Monday, quarters in January, April, July and
+ * October.
+ */
+public enum Granularity {
+    DAY,
+    WEEK,
+    MONTH,
+    QUARTER,
+    YEAR;
+
+    // First day of the bucket holding date
+    public LocalDate start(LocalDate date) {
+        switch (this) {
+            case DAY:
+                return date;
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH:
+                return date.withDayOfMonth(1);
+            case QUARTER:
+                return date.with(IsoFields.DAY_OF_QUARTER, 1);
+            default:
+                return date.withDayOfYear(1);
+        }
+    }
+
+    public LocalDate next(LocalDate bucketStart) {
+        switch (this) {
+            case DAY:
+                return bucketStart.plusDays(1);
+            case WEEK:
+                return bucketStart.plusWeeks(1);
+            case MONTH:
+                return bucketStart.plusMonths(1);
+            case QUARTER:
+                return bucketStart.plusMonths(3);
+            default:
+                return bucketStart.plusYears(1);
+        }
+    }
+
+    // Chart axis label: 2024-03-04 for days and weeks, 2024-03, 2024-Q1 or 2024
+    public String label(LocalDate bucketStart) {
+        switch (this) {
+            case DAY:
+            case WEEK:
+                return bucketStart.toString();
+            case MONTH:
+                return YearMonth.from(bucketStart).toString();
+            case QUARTER:
+                return bucketStart.getYear() + "-Q" + bucketStart.get(IsoFields.QUARTER_OF_YEAR);
+            default:
+                return Integer.toString(bucketStart.getYear());
+        }
+    }
+
+    // Epoch day each bucket touching the range starts on, in order; the first may start before startDate
+    public long[] bucketStarts(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date " + endDate + " is before start date " + startDate);
+        }
+        long[] starts = new long[16];
+        int size = 0;
+        for (LocalDate bucket = start(startDate); !bucket.isAfter(endDate); bucket = next(bucket)) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+            }
+            starts[size++] = bucket.toEpochDay();
+        }
+        return Arrays.copyOf(starts, size);
+    }
+}
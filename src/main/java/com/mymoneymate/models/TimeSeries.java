@@ -0,0 +1,59 @@
+package com.mymoneymate.models;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Sums over consecutive buckets of one granularity, in paise. The series is
+ * dense: every bucket touching the range is present, in date order, and
+ * buckets without transactions hold zero. The first and last bucket may
+ * cover only part of their period.
+ */
+public class TimeSeries {
+    private final Granularity granularity;
+    private final long[] bucketStarts;
+    private final long[] totals;
+
+    // Constructor; bucketStarts as returned by Granularity.bucketStarts, one total per bucket
+    public TimeSeries(Granularity granularity, long[] bucketStarts, long[] totals) {
+        if (bucketStarts.length != totals.length) {
+            throw new IllegalArgumentException("Every bucket needs exactly one total");
+        }
+        this.granularity = granularity;
+        this.bucketStarts = bucketStarts;
+        this.totals = totals;
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    public int size() {
+        return totals.length;
+    }
+
+    public LocalDate getStart(int index) {
+        return LocalDate.ofEpochDay(bucketStarts[index]);
+    }
+
+    public String getLabel(int index) {
+        return granularity.label(getStart(index));
+    }
+
+    public long getTotalMinor(int index) {
+        return totals[index];
+    }
+
+    public BigDecimal getTotal(int index) {
+        return Money.toBigDecimal(totals[index]);
+    }
+
+    // Over the whole series
+    public long getTotalMinor() {
+        long total = 0;
+        for (long value : totals) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -4,19 +4,35 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.mymoneymate.mapping.Column;
+import com.mymoneymate.mapping.Table;
+
+@Table("transactions")
 public class Transaction {
+    @Column("id")
     private Integer id;
+    @Column("user_id")
     private Integer userId;
-    private BigDecimal amount;
+    @Column("amount")
+    private Money amount;
+    @Column("category_id")
     private Integer categoryId;
+    @Column("description")
     private String description;
+    @Column("transaction_date")
     private LocalDate transactionDate;
+    @Column("type")
     private Category.TransactionType type;
     private LocalDateTime createdAt;
 
     // Constructor
     public Transaction(Integer userId, BigDecimal amount, Integer categoryId, String description,
             LocalDate transactionDate, Category.TransactionType type) {
+        this(userId, amount != null ? Money.of(amount) : null, categoryId, description, transactionDate, type);
+    }
+
+    public Transaction(Integer userId, Money amount, Integer categoryId, String description,
+            LocalDate transactionDate, Category.TransactionType type) {
         this.userId = userId;
         this.amount = amount;
         this.categoryId = categoryId;
@@ -26,6 +42,13 @@ public class Transaction {
         this.createdAt = LocalDateTime.now();
     }
 
+    // Copy, so an edit can be made without changing the original until it is saved
+    public Transaction(Transaction other) {
+        this(other.userId, other.amount, other.categoryId, other.description, other.transactionDate, other.type);
+        this.id = other.id;
+        this.createdAt = other.createdAt;
+    }
+
     // Getters and Setters
     public Integer getId() {
         return id;
@@ -44,11 +67,20 @@ public class Transaction {
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        return amount != null ? amount.toBigDecimal() : null;
     }
 
     public void setAmount(BigDecimal amount) {
-        this.amount = amount;
+        this.amount = amount != null ? Money.of(amount) : null;
+    }
+
+    public Money getMoney() {
+        return amount;
+    }
+
+    // For sums; no BigDecimal is created
+    public long getAmountMinorUnits() {
+        return amount.getMinorUnits();
     }
 
     public Integer getCategoryId() {
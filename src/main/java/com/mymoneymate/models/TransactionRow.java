@@ -0,0 +1,25 @@
+package com.mymoneymate.models;
+
+/**
+ * A transaction together with its category name, as read by a single JOIN
+ * query for display in tables and charts.
+ */
+public class TransactionRow {
+    private final Transaction transaction;
+    private final String categoryName;
+
+    // Constructor
+    public TransactionRow(Transaction transaction, String categoryName) {
+        this.transaction = transaction;
+        this.categoryName = categoryName;
+    }
+
+    // Getters
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+}
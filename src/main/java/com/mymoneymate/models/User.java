@@ -2,11 +2,20 @@ package com.mymoneymate.models;
 
 import java.time.LocalDateTime;
 
+import com.mymoneymate.mapping.Column;
+import com.mymoneymate.mapping.Table;
+
+@Table("users")
 public class User {
+    @Column("id")
     private Integer id;
+    @Column("username")
     private String username;
+    @Column("password")
     private String password;
+    @Column("email")
     private String email;
+    @Column("created_at")
     private LocalDateTime createdAt;
 
     // Constructor
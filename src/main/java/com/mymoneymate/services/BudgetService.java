@@ -9,22 +9,29 @@ import java.util.List;
 import java.util.Optional;
 
 import com.mymoneymate.dao.BudgetDAO;
-import com.mymoneymate.dao.CategoryDAO;
 import com.mymoneymate.dao.TransactionDAO;
 import com.mymoneymate.models.Budget;
-import com.mymoneymate.models.Category;
+import com.mymoneymate.models.BudgetRow;
+import com.mymoneymate.models.Money;
+import com.mymoneymate.services.events.BudgetChanged;
+import com.mymoneymate.services.events.DomainEvent;
+import com.mymoneymate.services.events.EventBus;
 import com.mymoneymate.services.exceptions.ServiceException;
 import com.mymoneymate.services.exceptions.ValidationException;
 
 public class BudgetService {
     private final BudgetDAO budgetDAO;
-    private final CategoryDAO categoryDAO;
+    private final CategoryRegistry categoryRegistry;
     private final TransactionDAO transactionDAO;
+    private final EventBus eventBus;
+    private final QueryResultCache resultCache;
 
     public BudgetService() {
         this.budgetDAO = new BudgetDAO();
-        this.categoryDAO = new CategoryDAO();
+        this.categoryRegistry = CategoryRegistry.getInstance();
         this.transactionDAO = new TransactionDAO();
+        this.eventBus = EventBus.getInstance();
+        this.resultCache = QueryResultCache.getInstance();
     }
 
     public Budget createBudget(Integer userId, Integer categoryId, BigDecimal amount, Budget.BudgetPeriod period,
@@ -33,13 +40,14 @@ public class BudgetService {
 
         try {
             // Verify category exists
-            Optional<Category> category = categoryDAO.findById(categoryId);
-            if (category.isEmpty()) {
+            if (categoryRegistry.getById(categoryId) == null) {
                 throw new ValidationException("Invalid category ID.");
             }
 
-            Budget budget = new Budget(userId, categoryId, amount, period, startDate, endDate);
-            return budgetDAO.create(budget);
+            Budget budget = budgetDAO.create(new Budget(userId, categoryId, amount, period, startDate, endDate));
+            resultCache.invalidate(userId);
+            eventBus.publish(new BudgetChanged(DomainEvent.Change.CREATED, budget));
+            return budget;
         } catch (SQLException e) {
             throw new ServiceException("Error creating budget", e);
         }
@@ -51,8 +59,7 @@ public class BudgetService {
 
         try {
             // Verify category exists
-            Optional<Category> category = categoryDAO.findById(budget.getCategoryId());
-            if (category.isEmpty()) {
+            if (categoryRegistry.getById(budget.getCategoryId()) == null) {
                 throw new ValidationException("Invalid category ID.");
             }
 
@@ -60,6 +67,8 @@ public class BudgetService {
             if (!updated) {
                 throw new ServiceException("Failed to update budget.");
             }
+            resultCache.invalidate(budget.getUserId());
+            eventBus.publish(new BudgetChanged(DomainEvent.Change.UPDATED, budget));
             return budget;
         } catch (SQLException e) {
             throw new ServiceException("Error updating budget", e);
@@ -119,12 +128,19 @@ public class BudgetService {
 
     public static class BudgetStatus {
         private final Budget budget;
+        private final String categoryName;
         private final BigDecimal spent;
         private final BigDecimal remaining;
         private final double percentageUsed;
 
         public BudgetStatus(Budget budget, BigDecimal spent, BigDecimal remaining, double percentageUsed) {
+            this(budget, null, spent, remaining, percentageUsed);
+        }
+
+        public BudgetStatus(Budget budget, String categoryName, BigDecimal spent, BigDecimal remaining,
+                double percentageUsed) {
             this.budget = budget;
+            this.categoryName = categoryName;
             this.spent = spent;
             this.remaining = remaining;
             this.percentageUsed = percentageUsed;
@@ -135,6 +151,11 @@ public class BudgetService {
             return budget;
         }
 
+        // Only set by checkAllBudgets, which reads it in the same query as the budget
+        public String getCategoryName() {
+            return categoryName;
+        }
+
         public BigDecimal getSpent() {
             return spent;
         }
@@ -175,42 +196,52 @@ public class BudgetService {
                     startDate,
                     endDate);
 
-            if (totalSpent == null)
-                totalSpent = BigDecimal.ZERO;
-
-            BigDecimal remaining = budget.getAmount().subtract(totalSpent);
-            double percentageUsed = totalSpent
-                    .multiply(new BigDecimal("100"))
-                    .divide(budget.getAmount(), 2, RoundingMode.HALF_UP)
-                    .doubleValue();
-
-            return new BudgetStatus(budget, totalSpent, remaining, percentageUsed);
+            return toStatus(budget, null, totalSpent);
         } catch (SQLException e) {
             throw new ServiceException("Error checking budget status", e);
         }
     }
 
+    /**
+     * Evaluates every budget of the user in a single query that sums each
+     * budget's spend from the daily rollup in the database. Each budget still
+     * costs one index range, but there is one round trip and no per-budget
+     * statement, unlike calling checkBudgetStatus per budget.
+     */
     public List<BudgetStatus> checkAllBudgets(Integer userId) throws ServiceException {
-        List<BudgetStatus> statuses = new ArrayList<>();
         try {
-            List<Budget> budgets = getUserBudgets(userId);
-
-            for (Budget budget : budgets) {
-                statuses.add(checkBudgetStatus(budget));
+            List<BudgetStatus> statuses = new ArrayList<>();
+            for (BudgetRow row : budgetDAO.findRowsWithSpentByUserId(userId, LocalDate.now())) {
+                statuses.add(toStatus(row.getBudget(), row.getCategoryName(), row.getSpent()));
             }
-
             return statuses;
-        } catch (ServiceException e) {
+        } catch (SQLException e) {
             throw new ServiceException("Error checking budgets", e);
         }
     }
 
+    private BudgetStatus toStatus(Budget budget, String categoryName, BigDecimal totalSpent) {
+        if (totalSpent == null)
+            totalSpent = BigDecimal.ZERO;
+
+        BigDecimal remaining = budget.getAmount().subtract(totalSpent);
+        double percentageUsed = totalSpent
+                .multiply(new BigDecimal("100"))
+                .divide(budget.getAmount(), 2, RoundingMode.HALF_UP)
+                .doubleValue();
+
+        return new BudgetStatus(budget, categoryName, totalSpent, remaining, percentageUsed);
+    }
+
     public boolean deleteBudget(Integer budgetId) throws ServiceException {
         try {
-            boolean deleted = budgetDAO.delete(budgetId);
+            Optional<Budget> budget = budgetDAO.findById(budgetId);
+            boolean deleted = budget.isPresent() && budgetDAO.delete(budgetId);
             if (!deleted) {
                 throw new ValidationException("Budget not found or could not be deleted.");
             }
+            resultCache.invalidate(budget.get().getUserId());
+            eventBus.publish(new BudgetChanged(DomainEvent.Change.DELETED, budget.get()));
             return true;
         } catch (SQLException e) {
             throw new ServiceException("Error deleting budget", e);
@@ -225,7 +256,7 @@ public class BudgetService {
         if (categoryId == null) {
             throw new ValidationException("Category ID cannot be null.");
         }
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (amount == null || Money.toMinor(amount) <= 0) {
             throw new ValidationException("Amount must be greater than zero.");
         }
         if (period == null) {
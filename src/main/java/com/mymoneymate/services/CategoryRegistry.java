@@ -0,0 +1,182 @@
+package com.mymoneymate.services;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.mymoneymate.dao.CategoryDAO;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.services.exceptions.ServiceException;
+
+/**
+ * In-memory copy of the categories table. Lookups read an immutable snapshot
+ * through a volatile field, so they take no locks, allocate nothing and never
+ * query the database once the first snapshot is loaded. CategoryService
+ * publishes a new snapshot after each successful create, update or delete and
+ * the registry then notifies its listeners.
+ *
+ * The returned Category objects are shared by every caller and must be
+ * treated as read-only; copy one before changing it.
+ */
+public final class CategoryRegistry {
+	private static CategoryRegistry instance;
+
+	private final CategoryDAO categoryDAO;
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+	private volatile Snapshot snapshot;
+
+	@FunctionalInterface
+	public interface Listener {
+		void categoriesChanged(CategoryRegistry registry);
+	}
+
+	private CategoryRegistry(CategoryDAO categoryDAO) {
+		this.categoryDAO = categoryDAO;
+	}
+
+	public static synchronized CategoryRegistry getInstance() {
+		if (instance == null) {
+			instance = new CategoryRegistry(new CategoryDAO());
+		}
+		return instance;
+	}
+
+	// Returns null when no category has this id
+	public Category getById(Integer id) throws ServiceException {
+		Category[] byId = current().byId;
+		return id != null && id >= 0 && id < byId.length ? byId[id] : null;
+	}
+
+	// Returns null when no category has this name
+	public Category getByName(String name) throws ServiceException {
+		return current().byName.get(name);
+	}
+
+	// Sorted by name, like CategoryDAO.findByType
+	public List<Category> getByType(Category.TransactionType type) throws ServiceException {
+		return current().byType.get(type);
+	}
+
+	// Sorted by id
+	public List<Category> getAll() throws ServiceException {
+		return current().all;
+	}
+
+	public void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(Listener listener) {
+		listeners.remove(listener);
+	}
+
+	// Discards the snapshot and reads the table again, e.g. after categories were changed outside the service
+	public void reload() throws ServiceException {
+		synchronized (this) {
+			snapshot = load();
+		}
+		fireChanged();
+	}
+
+	void added(Category category) throws ServiceException {
+		replace(category.getId(), category);
+	}
+
+	void updated(Category category) throws ServiceException {
+		replace(category.getId(), category);
+	}
+
+	void deleted(Integer categoryId) throws ServiceException {
+		replace(categoryId, null);
+	}
+
+	// Writers are serialised so that two concurrent changes cannot both start from the same snapshot
+	private void replace(Integer id, Category category) throws ServiceException {
+		synchronized (this) {
+			List<Category> categories = new ArrayList<>(current().all);
+			categories.removeIf(existing -> existing.getId().equals(id));
+			if (category != null) {
+				categories.add(copyOf(category));
+			}
+			snapshot = new Snapshot(categories);
+		}
+		fireChanged();
+	}
+
+	private Snapshot current() throws ServiceException {
+		Snapshot current = snapshot;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (snapshot == null) {
+				snapshot = load();
+			}
+			return snapshot;
+		}
+	}
+
+	private Snapshot load() throws ServiceException {
+		try {
+			List<Category> categories = new ArrayList<>();
+			for (Category category : categoryDAO.findAll()) {
+				categories.add(copyOf(category));
+			}
+			return new Snapshot(categories);
+		} catch (SQLException e) {
+			throw new ServiceException("Error loading categories", e);
+		}
+	}
+
+	private void fireChanged() {
+		for (Listener listener : listeners) {
+			listener.categoriesChanged(this);
+		}
+	}
+
+	// Callers keep their own instance, so later edits to it cannot leak into the snapshot
+	private static Category copyOf(Category category) {
+		Category copy = new Category(category.getName(), category.getType(), category.getDescription());
+		copy.setId(category.getId());
+		return copy;
+	}
+
+	private static final class Snapshot {
+		private final Category[] byId;
+		private final Map<String, Category> byName;
+		private final Map<Category.TransactionType, List<Category>> byType;
+		private final List<Category> all;
+
+		Snapshot(Collection<Category> categories) {
+			List<Category> sorted = new ArrayList<>(categories);
+			sorted.sort(Comparator.comparing(Category::getId));
+
+			// Ids come from AUTOINCREMENT, so an array indexed by id stays small and dense
+			int maxId = sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1).getId();
+			byId = new Category[maxId + 1];
+			byName = new HashMap<>();
+			Map<Category.TransactionType, List<Category>> typed = new EnumMap<>(Category.TransactionType.class);
+			for (Category.TransactionType type : Category.TransactionType.values()) {
+				typed.put(type, new ArrayList<>());
+			}
+			for (Category category : sorted) {
+				byId[category.getId()] = category;
+				byName.put(category.getName(), category);
+				typed.get(category.getType()).add(category);
+			}
+			for (Map.Entry<Category.TransactionType, List<Category>> entry : typed.entrySet()) {
+				entry.getValue().sort(Comparator.comparing(Category::getName));
+				entry.setValue(Collections.unmodifiableList(entry.getValue()));
+			}
+			byType = Collections.unmodifiableMap(typed);
+			all = Collections.unmodifiableList(sorted);
+		}
+	}
+}
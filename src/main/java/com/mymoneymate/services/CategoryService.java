@@ -7,15 +7,22 @@ import java.util.regex.Pattern;
 
 import com.mymoneymate.dao.CategoryDAO;
 import com.mymoneymate.models.Category;
+import com.mymoneymate.services.events.CategoryChanged;
+import com.mymoneymate.services.events.DomainEvent;
+import com.mymoneymate.services.events.EventBus;
 import com.mymoneymate.services.exceptions.ServiceException;
 import com.mymoneymate.services.exceptions.ValidationException;
 
 public class CategoryService {
 	private final CategoryDAO categoryDAO;
+	private final CategoryRegistry categoryRegistry;
+	private final EventBus eventBus;
 	private static final Pattern CATEGORY_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+$");
 
 	public CategoryService() {
 		this.categoryDAO = new CategoryDAO();
+		this.categoryRegistry = CategoryRegistry.getInstance();
+		this.eventBus = EventBus.getInstance();
 	}
 
 	public Category createCategory(Integer userId, String name, Category.TransactionType type, String description)
@@ -23,8 +30,10 @@ public class CategoryService {
 		validateCategory(name, type);
 
 		try {
-			Category category = new Category(name, type, description);
-			return categoryDAO.create(category);
+			Category category = categoryDAO.create(new Category(name, type, description));
+			categoryRegistry.added(category);
+			eventBus.publish(new CategoryChanged(DomainEvent.Change.CREATED, category));
+			return category;
 		} catch (SQLException e) {
 			throw new ServiceException("Error creating category", e);
 		}
@@ -43,6 +52,8 @@ public class CategoryService {
 			if (!updated) {
 				throw new ServiceException("Failed to update category.");
 			}
+			categoryRegistry.updated(category);
+			eventBus.publish(new CategoryChanged(DomainEvent.Change.UPDATED, category));
 
 			return category;
 		} catch (SQLException e) {
@@ -61,41 +72,32 @@ public class CategoryService {
 			if (!deleted) {
 				throw new ServiceException("Failed to delete category.");
 			}
+			categoryRegistry.deleted(categoryId);
+			eventBus.publish(new CategoryChanged(DomainEvent.Change.DELETED, existingCategory.get()));
 		} catch (SQLException e) {
 			throw new ServiceException("Error deleting category", e);
 		}
 	}
 
+	// Lookups are served from CategoryRegistry and do not query the database
 	public Category getCategoryById(Integer categoryId) throws ServiceException {
-		try {
-			return categoryDAO.findById(categoryId).orElseThrow(() -> new ValidationException("Category not found."));
-		} catch (SQLException e) {
-			throw new ServiceException("Error retrieving category", e);
+		Category category = categoryRegistry.getById(categoryId);
+		if (category == null) {
+			throw new ValidationException("Category not found.");
 		}
+		return category;
 	}
 
 	public List<Category> getAllCategories() throws ServiceException {
-		try {
-			return categoryDAO.findAll();
-		} catch (SQLException e) {
-			throw new ServiceException("Error retrieving categories", e);
-		}
+		return categoryRegistry.getAll();
 	}
 
 	public List<Category> getCategoriesByType(Category.TransactionType type) throws ServiceException {
-		try {
-			return categoryDAO.findByType(type);
-		} catch (SQLException e) {
-			throw new ServiceException("Error retrieving categories", e);
-		}
+		return categoryRegistry.getByType(type);
 	}
 
 	public Optional<Category> getCategoriesByName(String name) throws ServiceException {
-		try {
-			return categoryDAO.findByName(name);
-		} catch (SQLException e) {
-			throw new ServiceException("Error retrieving categories", e);
-		}
+		return Optional.ofNullable(categoryRegistry.getByName(name));
 	}
 
 	private void validateCategory(String name, Category.TransactionType type) throws ValidationException {
@@ -0,0 +1,199 @@
+package com.mymoneymate.services;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of the services' read-only summary queries, keyed by query name,
+ * user and parameters, so showing the same report or total again costs a map
+ * lookup. At most {@code capacity} results are kept; the least recently used
+ * one is dropped first.
+ *
+ * Each user has a data version that the services bump after every committed
+ * transaction or budget write, which drops that user's results. A result
+ * computed while a write was in flight is returned but not kept. Writes that
+ * bypass the services are not seen. Cached values are shared between callers
+ * and must not be modified.
+ */
+public final class QueryResultCache {
+	public static final int DEFAULT_CAPACITY = 256;
+
+	private static QueryResultCache instance;
+
+	public interface Loader<T> {
+		T load() throws SQLException;
+	}
+
+	private final int capacity;
+	// Access order, so iteration starts at the least recently used result
+	private final LinkedHashMap<Key, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<Integer, Long> versions = new HashMap<>();
+	private long hits;
+	private long misses;
+	private long evictions;
+	private long invalidations;
+
+	// A capacity of 0 turns caching off while keeping the counters
+	public QueryResultCache(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative");
+		}
+		this.capacity = capacity;
+	}
+
+	public static synchronized QueryResultCache getInstance() {
+		if (instance == null) {
+			instance = new QueryResultCache(DEFAULT_CAPACITY);
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the cached result of the query, or runs the loader outside the
+	 * lock and caches what it returns. The parameters must have value equality.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(String query, Integer userId, Loader<T> loader, Object... parameters) throws SQLException {
+		Key key = new Key(query, userId, parameters);
+		long version;
+		synchronized (this) {
+			Object cached = entries.get(key);
+			if (cached != null) {
+				hits++;
+				return (T) cached;
+			}
+			misses++;
+			version = versionOf(userId);
+		}
+		T value = loader.load();
+		synchronized (this) {
+			if (value != null && capacity > 0 && versionOf(userId) == version) {
+				evictIfFull();
+				entries.put(key, value);
+			}
+		}
+		return value;
+	}
+
+	// Call after the user's data changed and the change is committed
+	public synchronized void invalidate(Integer userId) {
+		versions.merge(userId, 1L, Long::sum);
+		Iterator<Key> it = entries.keySet().iterator();
+		while (it.hasNext()) {
+			if (it.next().userId == userId.intValue()) {
+				it.remove();
+				invalidations++;
+			}
+		}
+	}
+
+	// Drops every result, e.g. on logout; versions are kept so loads in flight are still discarded
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	public synchronized Stats getStats() {
+		return new Stats(entries.size(), capacity, hits, misses, evictions, invalidations);
+	}
+
+	private long versionOf(Integer userId) {
+		return versions.getOrDefault(userId, 0L);
+	}
+
+	private void evictIfFull() {
+		Iterator<Key> it = entries.keySet().iterator();
+		while (entries.size() >= capacity && it.hasNext()) {
+			it.next();
+			it.remove();
+			evictions++;
+		}
+	}
+
+	private static final class Key {
+		private final String query;
+		private final int userId;
+		private final Object[] parameters;
+		private final int hash;
+
+		Key(String query, Integer userId, Object[] parameters) {
+			this.query = query;
+			this.userId = userId;
+			this.parameters = parameters;
+			this.hash = 31 * (31 * query.hashCode() + userId) + Arrays.hashCode(parameters);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return userId == other.userId && query.equals(other.query) && Arrays.equals(parameters, other.parameters);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	public static class Stats {
+		private final int size;
+		private final int capacity;
+		private final long hits;
+		private final long misses;
+		private final long evictions;
+		private final long invalidations;
+
+		public Stats(int size, int capacity, long hits, long misses, long evictions, long invalidations) {
+			this.size = size;
+			this.capacity = capacity;
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+			this.invalidations = invalidations;
+		}
+
+		// Getters
+		public int getSize() {
+			return size;
+		}
+
+		public int getCapacity() {
+			return capacity;
+		}
+
+		public long getHits() {
+			return hits;
+		}
+
+		public long getMisses() {
+			return misses;
+		}
+
+		// Results dropped to make room
+		public long getEvictions() {
+			return evictions;
+		}
+
+		// Results dropped because the user's data changed
+		public long getInvalidations() {
+			return invalidations;
+		}
+
+		public double getHitRatio() {
+			long lookups = hits + misses;
+			return lookups == 0 ? 0.0 : hits / (double) lookups;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("size=%d capacity=%d hits=%d misses=%d hitRatio=%.3f evictions=%d invalidations=%d",
+					size, capacity, hits, misses, getHitRatio(), evictions, invalidations);
+		}
+	}
+}
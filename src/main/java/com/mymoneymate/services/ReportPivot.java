@@ -0,0 +1,162 @@
+package com.mymoneymate.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.CategoryTotals;
+import com.mymoneymate.models.Money;
+
+/**
+ * Totals of a date range by month, transaction type and category, in paise.
+ * It is filled from the in-memory sum index when the user is loaded, and
+ * otherwise in one pass over the range's daily_totals rows. Every report
+ * over the range is a view of it, so deriving twelve monthly reports costs
+ * no further queries. Months are indexed from 0 for the month of the range's
+ * start date; the first and last month may be partial.
+ */
+public class ReportPivot {
+	private static final int TYPES = Category.TransactionType.values().length;
+
+	private final LocalDate startDate;
+	private final LocalDate endDate;
+	private final YearMonth firstMonth;
+	private final int monthCount;
+	// Epoch day each month starts on, plus the day after the last month
+	private final long[] monthStarts;
+	private int currentMonth;
+	// monthCount rows of one cell per type
+	private final long[] byType;
+	// Per-month totals keyed by category id, in ascending id order
+	private final Map<Integer, long[]> byCategory = new TreeMap<>();
+
+	ReportPivot(LocalDate startDate, LocalDate endDate) {
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.firstMonth = YearMonth.from(startDate);
+		this.monthCount = (int) firstMonth.until(YearMonth.from(endDate), ChronoUnit.MONTHS) + 1;
+		this.byType = new long[monthCount * TYPES];
+		this.monthStarts = new long[monthCount + 1];
+		for (int i = 0; i <= monthCount; i++) {
+			monthStarts[i] = firstMonth.plusMonths(i).atDay(1).toEpochDay();
+		}
+	}
+
+	// Matches TransactionDAO.DailyTotalHandler; days arriving in order make finding the month O(1)
+	void add(long epochDay, int categoryId, Category.TransactionType type, long amountMinor) {
+		int index = monthOf(epochDay);
+		addTotal(index, type, amountMinor);
+		addCategoryTotal(index, categoryId, amountMinor);
+	}
+
+	void addTotal(int monthIndex, Category.TransactionType type, long amountMinor) {
+		byType[monthIndex * TYPES + type.ordinal()] += amountMinor;
+	}
+
+	void addCategoryTotal(int monthIndex, int categoryId, long amountMinor) {
+		byCategory.computeIfAbsent(categoryId, id -> new long[monthCount])[monthIndex] += amountMinor;
+	}
+
+	private int monthOf(long epochDay) {
+		if (epochDay < monthStarts[0] || epochDay >= monthStarts[monthCount]) {
+			throw new IllegalArgumentException(LocalDate.ofEpochDay(epochDay) + " is outside " + startDate + " to "
+					+ endDate);
+		}
+		if (epochDay < monthStarts[currentMonth]) {
+			currentMonth = 0;
+		}
+		while (epochDay >= monthStarts[currentMonth + 1]) {
+			currentMonth++;
+		}
+		return currentMonth;
+	}
+
+	// Getters
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	public LocalDate getEndDate() {
+		return endDate;
+	}
+
+	public int getMonthCount() {
+		return monthCount;
+	}
+
+	public YearMonth getMonth(int index) {
+		return firstMonth.plusMonths(index);
+	}
+
+	// First epoch day of the month that lies in the range
+	public long getFirstDay(int monthIndex) {
+		return Math.max(monthStarts[monthIndex], startDate.toEpochDay());
+	}
+
+	// Last epoch day of the month that lies in the range
+	public long getLastDay(int monthIndex) {
+		return Math.min(monthStarts[monthIndex + 1] - 1, endDate.toEpochDay());
+	}
+
+	// -1 when the month is outside the range
+	public int indexOf(YearMonth month) {
+		long index = firstMonth.until(month, ChronoUnit.MONTHS);
+		return index >= 0 && index < monthCount ? (int) index : -1;
+	}
+
+	public long getTotalMinor(int monthIndex, Category.TransactionType type) {
+		return byType[monthIndex * TYPES + type.ordinal()];
+	}
+
+	// Over the whole range
+	public long getTotalMinor(Category.TransactionType type) {
+		long total = 0;
+		for (int i = 0; i < monthCount; i++) {
+			total += getTotalMinor(i, type);
+		}
+		return total;
+	}
+
+	public BigDecimal getTotal(int monthIndex, Category.TransactionType type) {
+		return Money.toBigDecimal(getTotalMinor(monthIndex, type));
+	}
+
+	public long getCategoryTotalMinor(int monthIndex, int categoryId) {
+		long[] months = byCategory.get(categoryId);
+		return months == null ? 0 : months[monthIndex];
+	}
+
+	// Categories without an amount in the month are left out, as in the grouped query
+	public CategoryTotals getCategoryTotals(int monthIndex) {
+		List<Integer> ids = new ArrayList<>();
+		List<BigDecimal> totals = new ArrayList<>();
+		for (Map.Entry<Integer, long[]> entry : byCategory.entrySet()) {
+			long amount = entry.getValue()[monthIndex];
+			if (amount != 0) {
+				ids.add(entry.getKey());
+				totals.add(Money.toBigDecimal(amount));
+			}
+		}
+		int[] categoryIds = new int[ids.size()];
+		for (int i = 0; i < categoryIds.length; i++) {
+			categoryIds[i] = ids.get(i);
+		}
+		return new CategoryTotals(categoryIds, totals.toArray(new BigDecimal[0]));
+	}
+
+	// Ids of every category with transactions in the range, ascending
+	public int[] getCategoryIds() {
+		int[] ids = new int[byCategory.size()];
+		int i = 0;
+		for (Integer id : byCategory.keySet()) {
+			ids[i++] = id;
+		}
+		return ids;
+	}
+}
@@ -3,6 +3,7 @@ package com.mymoneymate.services;
 import com.mymoneymate.dao.TransactionDAO;
 import com.mymoneymate.models.Transaction;
 import com.mymoneymate.models.Category;
+import com.mymoneymate.models.CategoryTotals;
 import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.time.LocalDate;
@@ -11,9 +12,17 @@ import java.util.*;
 
 public class ReportService {
 	private final TransactionDAO transactionDAO;
+	private final TransactionSumIndex sumIndex;
+	private final QueryResultCache resultCache;
 
 	public ReportService(TransactionDAO transactionDAO) {
+		this(transactionDAO, QueryResultCache.getInstance());
+	}
+
+	public ReportService(TransactionDAO transactionDAO, QueryResultCache resultCache) {
 		this.transactionDAO = transactionDAO;
+		this.sumIndex = TransactionSumIndex.getInstance();
+		this.resultCache = resultCache;
 	}
 
 	public static class MonthlyReport {
@@ -54,31 +63,55 @@ public class ReportService {
 		}
 	}
 
+	// Month by type by category totals of any date range: from the sum index if loaded, else one pass over the rollup
+	public ReportPivot generatePivot(Integer userId, LocalDate startDate, LocalDate endDate) throws SQLException {
+		if (endDate.isBefore(startDate)) {
+			throw new IllegalArgumentException("End date cannot be before start date");
+		}
+		return resultCache.get("reportPivot", userId, () -> {
+			ReportPivot pivot = new ReportPivot(startDate, endDate);
+			if (!sumIndex.fill(userId, pivot)) {
+				transactionDAO.forEachDailyTotal(userId, startDate, endDate, pivot::add);
+			}
+			return pivot;
+		}, startDate, endDate);
+	}
+
 	public MonthlyReport generateMonthlyReport(Integer userId, LocalDate month) throws SQLException {
 		LocalDate startDate = month.withDayOfMonth(1);
 		LocalDate endDate = month.with(TemporalAdjusters.lastDayOfMonth());
+		return toMonthlyReport(generatePivot(userId, startDate, endDate), 0, month);
+	}
 
-		BigDecimal totalIncome = transactionDAO.getSumByTypeAndPeriod(
-				userId, Category.TransactionType.INCOME, startDate, endDate);
-		BigDecimal totalExpenses = transactionDAO.getSumByTypeAndPeriod(
-				userId, Category.TransactionType.EXPENSE, startDate, endDate);
-
-		Map<String, BigDecimal> categoryTotals = transactionDAO.getCategoryTotalsByPeriod(
-				userId, startDate, endDate);
+	public List<MonthlyReport> generateAnnualReport(Integer userId, int year) throws SQLException {
+		return generateMonthlyReports(userId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+	}
 
-		return new MonthlyReport(month,
-				totalIncome != null ? totalIncome : BigDecimal.ZERO,
-				totalExpenses != null ? totalExpenses : BigDecimal.ZERO,
-				categoryTotals);
+	// One report per month of the range, all derived from one pivot
+	public List<MonthlyReport> generateMonthlyReports(Integer userId, LocalDate startDate, LocalDate endDate)
+			throws SQLException {
+		// The pivot is fetched inside the loader, so a write in between cannot leave stale reports cached
+		return resultCache.get("monthlyReports", userId, () -> {
+			ReportPivot pivot = generatePivot(userId, startDate, endDate);
+			List<MonthlyReport> reports = new ArrayList<>(pivot.getMonthCount());
+			for (int i = 0; i < pivot.getMonthCount(); i++) {
+				reports.add(toMonthlyReport(pivot, i, pivot.getMonth(i).atDay(1)));
+			}
+			return Collections.unmodifiableList(reports);
+		}, startDate, endDate);
 	}
 
-	public List<MonthlyReport> generateAnnualReport(Integer userId, int year) throws SQLException {
-		List<MonthlyReport> reports = new ArrayList<>();
-		for (int month = 1; month <= 12; month++) {
-			LocalDate date = LocalDate.of(year, month, 1);
-			reports.add(generateMonthlyReport(userId, date));
+	// Category totals are keyed by category id, as getCategoryTotalsByPeriod returns them
+	private static MonthlyReport toMonthlyReport(ReportPivot pivot, int monthIndex, LocalDate month) {
+		CategoryTotals totals = pivot.getCategoryTotals(monthIndex);
+		Map<String, BigDecimal> categoryTotals = new HashMap<>();
+		for (int i = 0; i < totals.size(); i++) {
+			categoryTotals.put(String.valueOf(totals.getCategoryId(i)), totals.getTotal(i));
 		}
-		return reports;
+		return new MonthlyReport(month,
+				pivot.getTotal(monthIndex, Category.TransactionType.INCOME),
+				pivot.getTotal(monthIndex, Category.TransactionType.EXPENSE),
+				Collections.unmodifiableMap(categoryTotals));
 	}
 
 	public static class SpendingTrend {
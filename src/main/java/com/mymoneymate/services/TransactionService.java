@@ -4,23 +4,44 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-import com.mymoneymate.dao.CategoryDAO;
 import com.mymoneymate.dao.TransactionDAO;
 import com.mymoneymate.models.Category;
+import com.mymoneymate.models.CategoryTotals;
+import com.mymoneymate.models.Granularity;
+import com.mymoneymate.models.Money;
+import com.mymoneymate.models.TimeSeries;
 import com.mymoneymate.models.Transaction;
+import com.mymoneymate.models.TransactionRow;
+import com.mymoneymate.services.events.EventBus;
+import com.mymoneymate.services.events.TransactionAdded;
+import com.mymoneymate.services.events.TransactionDeleted;
+import com.mymoneymate.services.events.TransactionUpdated;
+import com.mymoneymate.services.events.TransactionsImported;
 import com.mymoneymate.services.exceptions.ServiceException;
 import com.mymoneymate.services.exceptions.ValidationException;
 
 public class TransactionService {
+    // Catches mistyped years such as 0024 before they reach the rollup and the sum index
+    public static final LocalDate MIN_TRANSACTION_DATE = LocalDate.of(1900, 1, 1);
+
     private final TransactionDAO transactionDAO;
-    private final CategoryDAO categoryDAO;
+    private final CategoryRegistry categoryRegistry;
+    private final EventBus eventBus;
+    private final TransactionSumIndex sumIndex;
+    private final QueryResultCache resultCache;
 
     public TransactionService() {
         this.transactionDAO = new TransactionDAO();
-        this.categoryDAO = new CategoryDAO();
+        this.categoryRegistry = CategoryRegistry.getInstance();
+        this.eventBus = EventBus.getInstance();
+        this.sumIndex = TransactionSumIndex.getInstance();
+        this.resultCache = QueryResultCache.getInstance();
     }
 
     public Transaction addTransaction(Integer userId, BigDecimal amount, Integer categoryId, String description,
@@ -29,11 +50,11 @@ public class TransactionService {
         validateTransaction(amount, categoryId, type, transactionDate);
 
         try {
-            Optional<Category> category = categoryDAO.findById(categoryId);
-            if (category.isEmpty()) {
+            Category category = categoryRegistry.getById(categoryId);
+            if (category == null) {
                 throw new ValidationException("Invalid category");
             }
-            if (category.get().getType() != type) {
+            if (category.getType() != type) {
                 throw new ValidationException(
                         "Category type does not match transaction type");
             }
@@ -42,30 +63,105 @@ public class TransactionService {
                     userId, amount, categoryId, description,
                     transactionDate, type);
 
-            return transactionDAO.create(transaction);
+            Transaction created = transactionDAO.create(transaction);
+            sumIndex.added(created);
+            resultCache.invalidate(userId);
+            eventBus.publish(new TransactionAdded(created));
+            return created;
 
         } catch (SQLException e) {
             throw new ServiceException("Error adding transaction", e);
         }
     }
 
+    public BulkAddResult addTransactions(Collection<Transaction> transactions) throws ServiceException {
+        return addTransactions(transactions, TransactionDAO.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Validates every transaction up front, then inserts them in batches of
+     * {@code chunkSize} rows per commit. Nothing is written if any row is invalid.
+     * If a chunk fails, the chunks committed before it stay and are applied to
+     * the sum index, the result cache and subscribers before the error is thrown.
+     */
+    public BulkAddResult addTransactions(Collection<Transaction> transactions, int chunkSize)
+            throws ServiceException {
+        if (chunkSize < 1) {
+            throw new ValidationException("Chunk size must be at least 1");
+        }
+
+        try {
+            int row = 1;
+            for (Transaction transaction : transactions) {
+                try {
+                    if (transaction.getUserId() == null) {
+                        throw new ValidationException("User is required");
+                    }
+                    validateTransaction(transaction.getAmount(), transaction.getCategoryId(), transaction.getType(),
+                            transaction.getTransactionDate());
+                    Category category = categoryRegistry.getById(transaction.getCategoryId());
+                    if (category == null) {
+                        throw new ValidationException("Invalid category");
+                    }
+                    if (category.getType() != transaction.getType()) {
+                        throw new ValidationException("Category type does not match transaction type");
+                    }
+                } catch (ValidationException e) {
+                    throw new ValidationException("Transaction " + row + ": " + e.getMessage());
+                }
+                row++;
+            }
+
+            // One DAO call per chunk, so created only ever holds committed rows
+            List<Transaction> pending = new ArrayList<>(transactions);
+            List<Transaction> created = new ArrayList<>(pending.size());
+            long start = System.nanoTime();
+            try {
+                for (int from = 0; from < pending.size(); from += chunkSize) {
+                    List<Transaction> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+                    created.addAll(transactionDAO.createAll(chunk, chunkSize));
+                }
+            } finally {
+                if (!created.isEmpty()) {
+                    sumIndex.addedAll(created);
+                    created.stream().map(Transaction::getUserId).distinct().forEach(resultCache::invalidate);
+                    eventBus.publish(new TransactionsImported(created));
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            return new BulkAddResult(created, elapsedNanos);
+        } catch (SQLException e) {
+            throw new ServiceException("Error adding transactions", e);
+        }
+    }
+
     public Transaction updateTransaction(Transaction transaction) throws ServiceException {
         validateTransaction(transaction.getAmount(), transaction.getCategoryId(), transaction.getType(),
                 transaction.getTransactionDate());
 
         try {
-            Optional<Category> category = categoryDAO.findById(transaction.getCategoryId());
-            if (category.isEmpty()) {
+            Category category = categoryRegistry.getById(transaction.getCategoryId());
+            if (category == null) {
                 throw new ValidationException("Invalid category");
             }
-            if (category.get().getType() != transaction.getType()) {
+            if (category.getType() != transaction.getType()) {
                 throw new ValidationException("Category type does not match transaction type");
             }
 
+            // The old values go into the event, so subscribers can adjust totals without re-reading
+            Optional<Transaction> previous = transactionDAO.findById(transaction.getId());
+            if (previous.isEmpty()) {
+                throw new ServiceException("Transaction update failed");
+            }
+
             boolean isUpdated = transactionDAO.update(transaction);
             if (!isUpdated) {
                 throw new ServiceException("Transaction update failed");
             }
+            sumIndex.updated(previous.get(), transaction);
+            resultCache.invalidate(previous.get().getUserId());
+            resultCache.invalidate(transaction.getUserId());
+            eventBus.publish(new TransactionUpdated(previous.get(), transaction));
 
             return transaction;
         } catch (SQLException e) {
@@ -82,26 +178,102 @@ public class TransactionService {
         }
     }
 
-    public List<BigDecimal> getTransactionTotalsByCategory(Integer userId, LocalDate startDate, LocalDate endDate)
+    public List<TransactionRow> getUserTransactionRows(Integer userId, LocalDate startDate, LocalDate endDate)
             throws ServiceException {
         try {
-            List<Category> categories = categoryDAO.findAll();
-            List<BigDecimal> totals = new ArrayList<>();
-            for (Category category : categories) {
-                totals.add(transactionDAO.getSumByPeriodAndCategory(userId, category.getId(), startDate, endDate));
-            }
-            return totals;
+            return transactionDAO.findRowsByUserIdAndDateRange(userId, startDate, endDate);
+        } catch (SQLException e) {
+            throw new ServiceException("Error retrieving transactions", e);
+        }
+    }
+
+    // Pass the previous page's cursor to continue, or null for the newest transactions
+    public TransactionDAO.Page getUserTransactionPage(Integer userId, TransactionDAO.PageCursor after, int pageSize)
+            throws ServiceException {
+        if (pageSize < 1) {
+            throw new ValidationException("Page size must be at least 1");
+        }
+        try {
+            return transactionDAO.findPageByUserId(userId, after, pageSize);
+        } catch (SQLException e) {
+            throw new ServiceException("Error retrieving transactions", e);
+        }
+    }
+
+    public TransactionDAO.Page getUserTransactionPage(Integer userId, TransactionDAO.SortColumn column,
+            boolean ascending, int offset, int pageSize) throws ServiceException {
+        if (pageSize < 1 || offset < 0) {
+            throw new ValidationException("Invalid page range");
+        }
+        try {
+            return transactionDAO.findPageByUserId(userId, column, ascending, offset, pageSize);
+        } catch (SQLException e) {
+            throw new ServiceException("Error retrieving transactions", e);
+        }
+    }
+
+    public int countUserTransactions(Integer userId) throws ServiceException {
+        try {
+            return transactionDAO.countByUserId(userId);
+        } catch (SQLException e) {
+            throw new ServiceException("Error counting transactions", e);
+        }
+    }
+
+    public void forEachUserTransaction(Integer userId, LocalDate startDate, LocalDate endDate,
+            Consumer<? super Transaction> action) throws ServiceException {
+        try {
+            transactionDAO.forEachByUserIdAndDateRange(userId, startDate, endDate, action);
+        } catch (SQLException e) {
+            throw new ServiceException("Error retrieving transactions", e);
+        }
+    }
+
+    // The caller must close the stream to return its database connection to the pool
+    public Stream<Transaction> streamUserTransactions(Integer userId, LocalDate startDate, LocalDate endDate)
+            throws ServiceException {
+        try {
+            return transactionDAO.streamByUserIdAndDateRange(userId, startDate, endDate);
+        } catch (SQLException e) {
+            throw new ServiceException("Error retrieving transactions", e);
+        }
+    }
+
+    // Sums for every category with transactions in the period; look up others with get(id), which returns zero
+    public CategoryTotals getTransactionTotalsByCategory(Integer userId, LocalDate startDate, LocalDate endDate)
+            throws ServiceException {
+        try {
+            return resultCache.get("totalsByCategory", userId, () -> {
+                CategoryTotals indexed = sumIndex.getTotalsByCategory(userId, startDate, endDate);
+                return indexed != null ? indexed : transactionDAO.getTotalsByCategory(userId, startDate, endDate);
+            }, startDate, endDate);
         } catch (SQLException e) {
             throw new ServiceException("Error retrieving transaction", e);
         }
     }
 
+    // Chart data: one total per bucket, zero for buckets without transactions; type and categoryId may be null
+    public TimeSeries getTransactionTotalsByBucket(Integer userId, LocalDate startDate, LocalDate endDate,
+            Granularity granularity, Category.TransactionType type, Integer categoryId) throws ServiceException {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new ValidationException("Invalid date range");
+        }
+        if (granularity == null) {
+            throw new ValidationException("Granularity is required");
+        }
+        try {
+            return resultCache.get("totalsByBucket", userId,
+                    () -> transactionDAO.getTotalsByBucket(userId, startDate, endDate, granularity, type, categoryId),
+                    startDate, endDate, granularity, type, categoryId);
+        } catch (SQLException e) {
+            throw new ServiceException("Error retrieving transaction totals", e);
+        }
+    }
+
     public BigDecimal calculateBalance(Integer userId, LocalDate start, LocalDate end) throws ServiceException {
         try {
-            BigDecimal income = transactionDAO.getSumByTypeAndPeriod(
-                    userId, Category.TransactionType.INCOME, start, end);
-            BigDecimal expenses = transactionDAO.getSumByTypeAndPeriod(
-                    userId, Category.TransactionType.EXPENSE, start, end);
+            BigDecimal income = sumByTypeAndPeriod(userId, Category.TransactionType.INCOME, start, end);
+            BigDecimal expenses = sumByTypeAndPeriod(userId, Category.TransactionType.EXPENSE, start, end);
             return income.subtract(expenses);
         } catch (SQLException e) {
             throw new ServiceException("Error calculating balance", e);
@@ -110,7 +282,7 @@ public class TransactionService {
 
     public BigDecimal calculateIncome(Integer userId, LocalDate start, LocalDate end) throws ServiceException {
         try {
-            return transactionDAO.getSumByTypeAndPeriod(userId, Category.TransactionType.INCOME, start, end);
+            return sumByTypeAndPeriod(userId, Category.TransactionType.INCOME, start, end);
         } catch (SQLException e) {
             throw new ServiceException("Error calculating income", e);
         }
@@ -118,23 +290,65 @@ public class TransactionService {
 
     public BigDecimal calculateExpenses(Integer userId, LocalDate start, LocalDate end) throws ServiceException {
         try {
-            return transactionDAO.getSumByTypeAndPeriod(userId, Category.TransactionType.EXPENSE, start, end);
+            return sumByTypeAndPeriod(userId, Category.TransactionType.EXPENSE, start, end);
         } catch (SQLException e) {
             throw new ServiceException("Error calculating expenses", e);
         }
     }
 
+    // Answered from the result cache, then the in-memory index when the user is loaded, otherwise from the rollup
+    private BigDecimal sumByTypeAndPeriod(Integer userId, Category.TransactionType type, LocalDate start,
+            LocalDate end) throws SQLException {
+        return resultCache.get("sumByTypeAndPeriod", userId, () -> {
+            BigDecimal indexed = sumIndex.getSumByTypeAndPeriod(userId, type, start, end);
+            return indexed != null ? indexed : transactionDAO.getSumByTypeAndPeriod(userId, type, start, end);
+        }, type, start, end);
+    }
+
     public void deleteTransaction(Integer transactionId) throws ServiceException {
         try {
-            transactionDAO.delete(transactionId);
+            Optional<Transaction> transaction = transactionDAO.findById(transactionId);
+            if (transaction.isPresent() && transactionDAO.delete(transactionId)) {
+                sumIndex.deleted(transaction.get());
+                resultCache.invalidate(transaction.get().getUserId());
+                eventBus.publish(new TransactionDeleted(transaction.get()));
+            }
         } catch (SQLException e) {
             throw new ServiceException("Error deleting transaction", e);
         }
     }
 
+    public static class BulkAddResult {
+        private final List<Transaction> transactions;
+        private final long elapsedNanos;
+
+        public BulkAddResult(List<Transaction> transactions, long elapsedNanos) {
+            this.transactions = transactions;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        // Getters
+        public List<Transaction> getTransactions() {
+            return transactions;
+        }
+
+        public int getCount() {
+            return transactions.size();
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getRowsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : transactions.size() * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+
     private void validateTransaction(BigDecimal amount, Integer categoryId, Category.TransactionType type,
             LocalDate transactionDate) throws ValidationException {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+        // Compared in paise, so an amount that rounds to zero is rejected too
+        if (amount == null || Money.toMinor(amount) <= 0) {
             throw new ValidationException("Amount must be greater than zero");
         }
         if (categoryId == null) {
@@ -149,5 +363,8 @@ public class TransactionService {
         if (transactionDate.isAfter(LocalDate.now())) {
             throw new ValidationException("Transaction date cannot be in the future");
         }
+        if (transactionDate.isBefore(MIN_TRANSACTION_DATE)) {
+            throw new ValidationException("Transaction date cannot be before " + MIN_TRANSACTION_DATE);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,286 @@
+package com.mymoneymate.services;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.mymoneymate.dao.TransactionDAO;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.CategoryTotals;
+import com.mymoneymate.models.Money;
+import com.mymoneymate.models.Transaction;
+import com.mymoneymate.services.exceptions.ServiceException;
+
+/**
+ * In-memory range sums for the logged-in user. Amounts are kept in minor
+ * units (paise) in Fenwick trees over epoch-day buckets, one per transaction
+ * type and one per category, so the sum over any date range takes
+ * O(log days) and no query.
+ *
+ * The trees are filled from the daily_totals rollup at login and then kept up
+ * to date by TransactionService after each successful write. Until a user is
+ * loaded the sum methods return null and callers fall back to SQL. A user
+ * whose transactions span more than DaySums.MAX_DAYS is not kept in memory
+ * either, so one mistyped year cannot make every tree hundreds of thousands
+ * of days long.
+ */
+public final class TransactionSumIndex {
+	private static TransactionSumIndex instance;
+
+	private final TransactionDAO transactionDAO;
+	private volatile UserSums sums;
+
+	private TransactionSumIndex(TransactionDAO transactionDAO) {
+		this.transactionDAO = transactionDAO;
+	}
+
+	public static synchronized TransactionSumIndex getInstance() {
+		if (instance == null) {
+			instance = new TransactionSumIndex(new TransactionDAO());
+		}
+		return instance;
+	}
+
+	// Replaces whatever was loaded; call before the user's first write of the session
+	public void load(Integer userId) throws ServiceException {
+		UserSums loaded = new UserSums(userId);
+		try {
+			transactionDAO.forEachDailyTotal(userId, loaded::add);
+		} catch (SQLException e) {
+			throw new ServiceException("Error loading transaction totals", e);
+		}
+		if (loaded.outOfRange) {
+			System.err.println("Transactions of user " + userId + " span too many days; totals will come from SQL");
+			loaded = null;
+		}
+		sums = loaded;
+	}
+
+	public void unload() {
+		sums = null;
+	}
+
+	public boolean isLoaded(Integer userId) {
+		UserSums current = sums;
+		return current != null && current.userId == userId.intValue();
+	}
+
+	// Returns null when the user is not loaded
+	public BigDecimal getSumByTypeAndPeriod(Integer userId, Category.TransactionType type, LocalDate startDate,
+			LocalDate endDate) {
+		UserSums current = sums;
+		if (current == null || current.userId != userId.intValue()) {
+			return null;
+		}
+		return Money.toBigDecimal(current.sumByType(type, startDate.toEpochDay(), endDate.toEpochDay()));
+	}
+
+	// Returns null when the user is not loaded
+	public CategoryTotals getTotalsByCategory(Integer userId, LocalDate startDate, LocalDate endDate) {
+		UserSums current = sums;
+		if (current == null || current.userId != userId.intValue()) {
+			return null;
+		}
+		return current.totalsByCategory(startDate.toEpochDay(), endDate.toEpochDay());
+	}
+
+	// Fills the pivot from memory; false when the user is not loaded
+	boolean fill(Integer userId, ReportPivot pivot) {
+		UserSums current = sums;
+		if (current == null || current.userId != userId.intValue()) {
+			return false;
+		}
+		current.fill(pivot);
+		return true;
+	}
+
+	void added(Transaction transaction) {
+		apply(transaction, 1);
+	}
+
+	void addedAll(Collection<Transaction> transactions) {
+		for (Transaction transaction : transactions) {
+			apply(transaction, 1);
+		}
+	}
+
+	void updated(Transaction previous, Transaction transaction) {
+		apply(previous, -1);
+		apply(transaction, 1);
+	}
+
+	void deleted(Transaction transaction) {
+		apply(transaction, -1);
+	}
+
+	private void apply(Transaction transaction, int sign) {
+		UserSums current = sums;
+		if (current != null && current.userId == transaction.getUserId().intValue()) {
+			current.add(transaction.getTransactionDate().toEpochDay(), transaction.getCategoryId(),
+					transaction.getType(), sign * transaction.getAmountMinorUnits());
+			if (current.outOfRange) {
+				System.err.println("Transactions of user " + current.userId
+						+ " span too many days; totals will come from SQL");
+				sums = null;
+			}
+		}
+	}
+
+	private static final class UserSums {
+		private final int userId;
+		private final DaySums[] byType = new DaySums[Category.TransactionType.values().length];
+		// Sorted by id, as CategoryTotals expects
+		private final Map<Integer, DaySums> byCategory = new TreeMap<>();
+		// Set once a day did not fit a tree; the sums are incomplete from then on
+		private volatile boolean outOfRange;
+
+		UserSums(int userId) {
+			this.userId = userId;
+			for (int i = 0; i < byType.length; i++) {
+				byType[i] = new DaySums();
+			}
+		}
+
+		synchronized void add(long day, int categoryId, Category.TransactionType type, long amountMinor) {
+			if (!byType[type.ordinal()].add(day, amountMinor)
+					|| !byCategory.computeIfAbsent(categoryId, id -> new DaySums()).add(day, amountMinor)) {
+				outOfRange = true;
+			}
+		}
+
+		synchronized long sumByType(Category.TransactionType type, long firstDay, long lastDay) {
+			return byType[type.ordinal()].sum(firstDay, lastDay);
+		}
+
+		synchronized void fill(ReportPivot pivot) {
+			for (int i = 0; i < pivot.getMonthCount(); i++) {
+				long firstDay = pivot.getFirstDay(i);
+				long lastDay = pivot.getLastDay(i);
+				for (Category.TransactionType type : Category.TransactionType.values()) {
+					pivot.addTotal(i, type, byType[type.ordinal()].sum(firstDay, lastDay));
+				}
+				for (Map.Entry<Integer, DaySums> entry : byCategory.entrySet()) {
+					long amountMinor = entry.getValue().sum(firstDay, lastDay);
+					if (amountMinor != 0) {
+						pivot.addCategoryTotal(i, entry.getKey(), amountMinor);
+					}
+				}
+			}
+		}
+
+		// Categories with no amount in the range are left out, like the grouped query does
+		synchronized CategoryTotals totalsByCategory(long firstDay, long lastDay) {
+			List<Integer> ids = new ArrayList<>();
+			List<BigDecimal> totals = new ArrayList<>();
+			for (Map.Entry<Integer, DaySums> entry : byCategory.entrySet()) {
+				long amountMinor = entry.getValue().sum(firstDay, lastDay);
+				if (amountMinor != 0) {
+					ids.add(entry.getKey());
+					totals.add(Money.toBigDecimal(amountMinor));
+				}
+			}
+			int[] categoryIds = new int[ids.size()];
+			for (int i = 0; i < categoryIds.length; i++) {
+				categoryIds[i] = ids.get(i);
+			}
+			return new CategoryTotals(categoryIds, totals.toArray(new BigDecimal[0]));
+		}
+	}
+
+	/**
+	 * Fenwick tree of minor units per epoch day. It covers a window of days that
+	 * grows, doubling in size, whenever a day outside it is added, up to
+	 * MAX_DAYS.
+	 */
+	static final class DaySums {
+		private static final int INITIAL_DAYS = 64;
+		// A hundred years
+		static final int MAX_DAYS = 36_525;
+
+		private long firstDay;
+		// 1-based; tree[i] holds the sum of the (i & -i) days ending at firstDay + i - 1
+		private long[] tree;
+		// Oldest and newest day added; the window around them may be larger
+		private long minDay;
+		private long maxDay;
+
+		// False, leaving the tree unchanged, when the days added would span more than MAX_DAYS
+		boolean add(long day, long amountMinor) {
+			if (tree == null) {
+				firstDay = day;
+				tree = new long[INITIAL_DAYS + 1];
+				minDay = day;
+				maxDay = day;
+			} else if ((day < firstDay || day >= firstDay + size()) && !grow(day)) {
+				return false;
+			}
+			minDay = Math.min(minDay, day);
+			maxDay = Math.max(maxDay, day);
+			for (int i = (int) (day - firstDay) + 1; i < tree.length; i += i & -i) {
+				tree[i] += amountMinor;
+			}
+			return true;
+		}
+
+		// Sum of the days from fromDay to toDay, both included
+		long sum(long fromDay, long toDay) {
+			return fromDay > toDay ? 0 : prefix(toDay) - prefix(fromDay - 1);
+		}
+
+		// Sum of every day up to and including the given one
+		private long prefix(long day) {
+			if (tree == null || day < firstDay) {
+				return 0;
+			}
+			long sum = 0;
+			for (int i = (int) Math.min(day - firstDay + 1, size()); i > 0; i -= i & -i) {
+				sum += tree[i];
+			}
+			return sum;
+		}
+
+		private int size() {
+			return tree.length - 1;
+		}
+
+		private boolean grow(long day) {
+			long lastDay = firstDay + size() - 1;
+			long lo = Math.min(minDay, day);
+			long hi = Math.max(maxDay, day);
+			if (hi - lo + 1 > MAX_DAYS) {
+				return false;
+			}
+			int newSize = (int) Math.min(Math.max(hi - lo + 1, 2L * size()), MAX_DAYS);
+			// Keep the far end of the old window where it fits, so growing again in the same direction is rare
+			long newFirstDay = day < firstDay
+					? Math.min(lastDay, lo + newSize - 1) - newSize + 1
+					: Math.max(firstDay, hi - newSize + 1);
+
+			// Undo the old tree into per-day values, copy the used days into the new window and build it, all in O(n)
+			long[] days = tree.clone();
+			for (int i = size(); i >= 1; i--) {
+				int parent = i + (i & -i);
+				if (parent <= size()) {
+					days[parent] -= days[i];
+				}
+			}
+			long[] grown = new long[newSize + 1];
+			System.arraycopy(days, (int) (minDay - firstDay) + 1, grown, (int) (minDay - newFirstDay) + 1,
+					(int) (maxDay - minDay) + 1);
+			for (int i = 1; i <= newSize; i++) {
+				int parent = i + (i & -i);
+				if (parent <= newSize) {
+					grown[parent] += grown[i];
+				}
+			}
+			firstDay = newFirstDay;
+			tree = grown;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.mymoneymate.services.events;
+
+import com.mymoneymate.models.Budget;
+
+public final class BudgetChanged implements DomainEvent {
+    private final Change change;
+    private final Budget budget;
+
+    // For DELETED the budget is the row as it was before it was removed
+    public BudgetChanged(Change change, Budget budget) {
+        this.change = change;
+        this.budget = Snapshots.copyOf(budget);
+    }
+
+    // Getters
+    public Change getChange() {
+        return change;
+    }
+
+    public Budget getBudget() {
+        return budget;
+    }
+
+    public Integer getUserId() {
+        return budget.getUserId();
+    }
+}
@@ -0,0 +1,23 @@
+package com.mymoneymate.services.events;
+
+import com.mymoneymate.models.Category;
+
+public final class CategoryChanged implements DomainEvent {
+    private final Change change;
+    private final Category category;
+
+    // For DELETED the category is the row as it was before it was removed
+    public CategoryChanged(Change change, Category category) {
+        this.change = change;
+        this.category = Snapshots.copyOf(category);
+    }
+
+    // Getters
+    public Change getChange() {
+        return change;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+}
@@ -0,0 +1,16 @@
+package com.mymoneymate.services.events;
+
+/**
+ * Something that changed in the data, published by the service layer through
+ * the EventBus once the change is committed. Events carry copies of the rows
+ * involved; the copies are shared by every subscriber and must be treated as
+ * read-only.
+ */
+public interface DomainEvent {
+
+    enum Change {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
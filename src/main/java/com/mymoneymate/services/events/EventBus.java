@@ -0,0 +1,117 @@
+package com.mymoneymate.services.events;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-process delivery of DomainEvents from the services to whoever keeps
+ * derived state: views, caches, rollups. Publishing never blocks; events go
+ * into a bounded queue and a single daemon thread hands them to subscribers
+ * in publish order.
+ *
+ * If the queue is full the event is dropped and counted, and an EventsDropped
+ * event is delivered once the dispatcher catches up. Subscribers that keep
+ * derived state should listen for it and reload.
+ */
+public final class EventBus {
+    static final int DEFAULT_CAPACITY = 1024;
+
+    private static EventBus instance;
+
+    private final BlockingQueue<DomainEvent> queue;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong droppedTotal = new AtomicLong();
+    private final AtomicLong droppedSinceNotice = new AtomicLong();
+
+    EventBus(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Thread dispatcher = new Thread(this::dispatch, "mymoneymate-events");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    public static synchronized EventBus getInstance() {
+        if (instance == null) {
+            instance = new EventBus(DEFAULT_CAPACITY);
+        }
+        return instance;
+    }
+
+    /**
+     * Calls the handler on the dispatcher thread for every published event of
+     * the given type, including subtypes. Handlers must be quick; anything
+     * slow or touching Swing should be handed off to another thread.
+     */
+    public <E extends DomainEvent> Subscription subscribe(Class<E> type, Consumer<? super E> handler) {
+        Subscription subscription = new Subscription(type, handler);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    // Call only after the change has been committed
+    public void publish(DomainEvent event) {
+        if (!queue.offer(event)) {
+            droppedTotal.incrementAndGet();
+            droppedSinceNotice.incrementAndGet();
+            System.err.println("Event queue full, dropped " + event.getClass().getSimpleName());
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedTotal.get();
+    }
+
+    private void dispatch() {
+        while (true) {
+            DomainEvent event;
+            try {
+                event = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            long dropped = droppedSinceNotice.getAndSet(0);
+            if (dropped > 0) {
+                deliver(new EventsDropped(dropped));
+            }
+            deliver(event);
+        }
+    }
+
+    @SuppressWarnings("CallToPrintStackTrace")
+    private void deliver(DomainEvent event) {
+        for (Subscription subscription : subscriptions) {
+            try {
+                subscription.deliver(event);
+            } catch (RuntimeException e) {
+                // One failing subscriber must not stop the others or the dispatcher
+                System.err.println("Error handling " + event.getClass().getSimpleName() + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public final class Subscription implements AutoCloseable {
+        private final Class<? extends DomainEvent> type;
+        private final Consumer<DomainEvent> handler;
+
+        private <E extends DomainEvent> Subscription(Class<E> type, Consumer<? super E> handler) {
+            this.type = type;
+            this.handler = event -> handler.accept(type.cast(event));
+        }
+
+        private void deliver(DomainEvent event) {
+            if (type.isInstance(event)) {
+                handler.accept(event);
+            }
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.mymoneymate.services.events;
+
+/**
+ * Delivered to every subscriber after the bus had to drop events because its
+ * queue was full. Anything derived from events may be out of date and should
+ * be reloaded from the database.
+ */
+public final class EventsDropped implements DomainEvent {
+    private final long count;
+
+    public EventsDropped(long count) {
+        this.count = count;
+    }
+
+    // Getters
+    public long getCount() {
+        return count;
+    }
+}
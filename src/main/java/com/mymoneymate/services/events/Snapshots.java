@@ -0,0 +1,30 @@
+package com.mymoneymate.services.events;
+
+import com.mymoneymate.models.Budget;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.Transaction;
+
+// Events keep their own copies, so later edits to the caller's objects cannot change an event in flight
+final class Snapshots {
+
+    private Snapshots() {
+    }
+
+    static Transaction copyOf(Transaction transaction) {
+        return new Transaction(transaction);
+    }
+
+    static Budget copyOf(Budget budget) {
+        Budget copy = new Budget(budget.getUserId(), budget.getCategoryId(), budget.getAmount(), budget.getPeriod(),
+                budget.getStartDate(), budget.getEndDate());
+        copy.setId(budget.getId());
+        copy.setCreatedAt(budget.getCreatedAt());
+        return copy;
+    }
+
+    static Category copyOf(Category category) {
+        Category copy = new Category(category.getName(), category.getType(), category.getDescription());
+        copy.setId(category.getId());
+        return copy;
+    }
+}
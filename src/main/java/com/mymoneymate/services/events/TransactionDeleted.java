@@ -0,0 +1,20 @@
+package com.mymoneymate.services.events;
+
+import com.mymoneymate.models.Transaction;
+
+public final class TransactionDeleted implements DomainEvent {
+    private final Transaction transaction;
+
+    public TransactionDeleted(Transaction transaction) {
+        this.transaction = Snapshots.copyOf(transaction);
+    }
+
+    // Getters
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    public Integer getUserId() {
+        return transaction.getUserId();
+    }
+}
@@ -0,0 +1,27 @@
+package com.mymoneymate.services.events;
+
+import com.mymoneymate.models.Transaction;
+
+// Carries the row as it was before the update too, so totals can be adjusted without re-reading
+public final class TransactionUpdated implements DomainEvent {
+    private final Transaction previous;
+    private final Transaction transaction;
+
+    public TransactionUpdated(Transaction previous, Transaction transaction) {
+        this.previous = Snapshots.copyOf(previous);
+        this.transaction = Snapshots.copyOf(transaction);
+    }
+
+    // Getters
+    public Transaction getPrevious() {
+        return previous;
+    }
+
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    public Integer getUserId() {
+        return transaction.getUserId();
+    }
+}
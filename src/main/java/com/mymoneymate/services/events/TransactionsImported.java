@@ -0,0 +1,34 @@
+package com.mymoneymate.services.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.mymoneymate.models.Transaction;
+
+// One event for a whole bulk insert rather than one per row
+public final class TransactionsImported implements DomainEvent {
+    private final List<Transaction> transactions;
+
+    public TransactionsImported(List<Transaction> transactions) {
+        List<Transaction> copies = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            copies.add(Snapshots.copyOf(transaction));
+        }
+        this.transactions = Collections.unmodifiableList(copies);
+    }
+
+    // Getters
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    public boolean involvesUser(Integer userId) {
+        for (Transaction transaction : transactions) {
+            if (transaction.getUserId().equals(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,427 @@
+package com.mymoneymate.tools;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.mymoneymate.dao.BudgetDAO;
+import com.mymoneymate.dao.CategoryDAO;
+import com.mymoneymate.dao.DatabaseManager;
+import com.mymoneymate.dao.TransactionDAO;
+import com.mymoneymate.dao.UserDAO;
+import com.mymoneymate.models.Budget;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.Money;
+import com.mymoneymate.models.Transaction;
+import com.mymoneymate.models.User;
+
+/**
+ * Fills a database with synthetic users, transactions and monthly budgets for
+ * load tests and benchmarks. The data depends only on the options: each user
+ * draws from its own Random seeded from the base seed and the user's index.
+ *
+ * Every user gets a salary on the first of each month that starts inside the
+ * window, so a partial first month has none. The salaries count towards the
+ * transactions per user, and the rest of them are spread over the months by a
+ * seasonal weight and over the categories by the category weights. Budgets are set near each month's
+ * actual spend, so some are overrun and some are not.
+ *
+ * From the command line it writes a fresh SQLite file, see {@link #main}.
+ */
+public class DatasetGenerator {
+    private static final String SALARY = "Salary";
+    private static final int COMMIT_ROWS = 10_000;
+    private static final int FLUSH_ROWS = 100_000;
+
+    // Relative transaction volume for January to December
+    private static final double[] DEFAULT_SEASONALITY = { 1.0, 0.85, 0.95, 1.0, 1.0, 1.05, 1.0, 1.0, 0.95, 1.1,
+            1.2, 1.45 };
+
+    // Per default category: draw weight and amount range in paise
+    private static final Map<String, long[]> DEFAULT_EXPENSES = new LinkedHashMap<>();
+    private static final Map<String, long[]> DEFAULT_INCOME = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_EXPENSES.put("Food", new long[] { 30, 5_000, 150_000 });
+        DEFAULT_EXPENSES.put("Groceries", new long[] { 20, 20_000, 500_000 });
+        DEFAULT_EXPENSES.put("Transport", new long[] { 15, 2_000, 300_000 });
+        DEFAULT_EXPENSES.put("Shopping", new long[] { 10, 50_000, 2_000_000 });
+        DEFAULT_EXPENSES.put("Entertainment", new long[] { 8, 20_000, 500_000 });
+        DEFAULT_EXPENSES.put("Other Expenses", new long[] { 7, 1_000, 300_000 });
+        DEFAULT_EXPENSES.put("Utilities", new long[] { 5, 50_000, 500_000 });
+        DEFAULT_EXPENSES.put("Healthcare", new long[] { 4, 20_000, 2_000_000 });
+        DEFAULT_EXPENSES.put("Rent", new long[] { 1, 1_000_000, 5_000_000 });
+        DEFAULT_INCOME.put("Freelance", new long[] { 5, 500_000, 5_000_000 });
+        DEFAULT_INCOME.put("Investments", new long[] { 3, 10_000, 2_000_000 });
+        DEFAULT_INCOME.put("Other Income", new long[] { 2, 10_000, 1_000_000 });
+    }
+
+    private final Options options;
+    private final List<Draw> expenses = new ArrayList<>();
+    private final List<Draw> income = new ArrayList<>();
+    private Category salary;
+
+    public DatasetGenerator(Options options, List<Category> categories) {
+        options.validate();
+        this.options = options;
+        for (Category category : categories) {
+            if (category.getName().equals(SALARY)) {
+                salary = category;
+            } else if (category.getType() == Category.TransactionType.EXPENSE) {
+                addDraw(expenses, category, options.expenseWeights.get(category.getName()));
+            } else {
+                addDraw(income, category, DEFAULT_INCOME.get(category.getName()));
+            }
+        }
+        if (salary == null || expenses.isEmpty()) {
+            throw new IllegalArgumentException("Generating needs the Salary category and at least one expense category");
+        }
+    }
+
+    public static void main(String[] args) {
+        try {
+            File out = new File("build/data/dataset.db");
+            boolean overwrite = false;
+            Options options = new Options();
+            for (String arg : args) {
+                String[] option = arg.split("=", 2);
+                String value = option.length > 1 ? option[1] : "";
+                switch (option[0]) {
+                    case "--out" -> out = new File(value);
+                    case "--overwrite" -> overwrite = true;
+                    case "--users" -> options.withUsers(Integer.parseInt(value));
+                    case "--transactions" -> options.withTransactionsPerUser(Integer.parseInt(value));
+                    case "--years" -> options.withYears(Integer.parseInt(value));
+                    case "--last-day" -> options.withLastDay(LocalDate.parse(value));
+                    case "--income-share" -> options.withIncomeShare(Double.parseDouble(value));
+                    case "--seed" -> options.withSeed(Long.parseLong(value));
+                    case "--no-budgets" -> options.withBudgets(false);
+                    default -> throw new IllegalArgumentException("Unknown option " + arg);
+                }
+            }
+            if (out.exists() && !(overwrite && out.delete())) {
+                throw new IllegalArgumentException(out + " already exists; pass --overwrite to replace it");
+            }
+            new File(out.getPath() + "-wal").delete();
+            new File(out.getPath() + "-shm").delete();
+            if (out.getAbsoluteFile().getParentFile() != null) {
+                out.getAbsoluteFile().getParentFile().mkdirs();
+            }
+            System.setProperty(DatabaseManager.DB_URL_PROPERTY, "jdbc:sqlite:" + out.getPath());
+
+            DatasetGenerator generator = new DatasetGenerator(options, new CategoryDAO().findAll());
+            Result result = generator.generate();
+            System.out.println("Wrote " + out + ": " + result);
+            DatabaseManager.getInstance().shutdown();
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        } catch (SQLException e) {
+            System.err.println("Error generating dataset: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    public static String username(int userIndex) {
+        return String.format("user%05d", userIndex);
+    }
+
+    // Writes every user through the DAO bulk paths; the database should be empty apart from the categories
+    public Result generate() throws SQLException {
+        long start = System.nanoTime();
+        UserDAO userDAO = new UserDAO();
+        TransactionDAO transactionDAO = new TransactionDAO();
+        BudgetDAO budgetDAO = new BudgetDAO();
+
+        List<Integer> userIds = new ArrayList<>();
+        List<Transaction> pending = new ArrayList<>();
+        long transactionCount = 0;
+        long budgetCount = 0;
+        for (int i = 0; i < options.users; i++) {
+            String username = username(i);
+            User user = userDAO.create(new User(username, "password", username + "@example.com"));
+            userIds.add(user.getId());
+
+            UserData data = generateUser(i, user.getId());
+            pending.addAll(data.getTransactions());
+            if (pending.size() >= FLUSH_ROWS) {
+                transactionCount += transactionDAO.createAll(pending, COMMIT_ROWS).size();
+                pending.clear();
+            }
+            budgetCount += budgetDAO.createAll(data.getBudgets()).size();
+        }
+        transactionCount += transactionDAO.createAll(pending, COMMIT_ROWS).size();
+        return new Result(userIds, transactionCount, budgetCount, System.nanoTime() - start);
+    }
+
+    // The rows for one user, without touching the database
+    UserData generateUser(int userIndex, Integer userId) {
+        Random random = new Random(options.seed * 1_000_003L + userIndex);
+        long salaryPaise = 2_500_000 + random.nextInt(12_500_001);
+        LocalDate firstDay = options.lastDay.minusYears(options.years).plusDays(1);
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(firstDay); !month.isAfter(YearMonth.from(options.lastDay));
+                month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        int salaryMonths = 0;
+        for (YearMonth month : months) {
+            if (!month.atDay(1).isBefore(firstDay)) {
+                salaryMonths++;
+            }
+        }
+        // Too few transactions for a salary every month gives salaries in the earliest months only
+        int salariesLeft = Math.min(salaryMonths, options.transactionsPerUser);
+        int[] counts = spread(options.transactionsPerUser - salariesLeft, months);
+
+        List<Transaction> transactions = new ArrayList<>(options.transactionsPerUser);
+        List<Budget> budgets = new ArrayList<>();
+        for (int m = 0; m < months.size(); m++) {
+            YearMonth month = months.get(m);
+            LocalDate from = month.atDay(1).isBefore(firstDay) ? firstDay : month.atDay(1);
+            LocalDate to = month.atEndOfMonth().isAfter(options.lastDay) ? options.lastDay : month.atEndOfMonth();
+            int days = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+            long[] spent = new long[expenses.size()];
+
+            if (salariesLeft > 0 && from.equals(month.atDay(1))) {
+                transactions.add(new Transaction(userId, Money.ofMinor(salaryPaise), salary.getId(),
+                        "Monthly salary", from, Category.TransactionType.INCOME));
+                salariesLeft--;
+            }
+            for (int k = 0; k < counts[m]; k++) {
+                LocalDate day = from.plusDays(random.nextInt(days));
+                boolean isIncome = !income.isEmpty() && random.nextDouble() < options.incomeShare;
+                List<Draw> draws = isIncome ? income : expenses;
+                int index = pick(draws, random);
+                Draw draw = draws.get(index);
+                long paise = draw.minPaise + (long) (random.nextDouble() * (draw.maxPaise - draw.minPaise));
+                transactions.add(new Transaction(userId, Money.ofMinor(paise), draw.category.getId(),
+                        draw.category.getName() + " " + (k + 1), day, draw.category.getType()));
+                if (!isIncome) {
+                    spent[index] += paise;
+                }
+            }
+
+            if (options.budgets) {
+                for (int c = 0; c < expenses.size(); c++) {
+                    if (spent[c] == 0) {
+                        continue;
+                    }
+                    // Between 80% and 130% of the month's spend, rounded up to whole hundreds of rupees
+                    long target = (long) (spent[c] * (0.8 + random.nextDouble() * 0.5));
+                    long paise = (target / 10_000 + 1) * 10_000;
+                    budgets.add(new Budget(userId, expenses.get(c).category.getId(), Money.ofMinor(paise),
+                            Budget.BudgetPeriod.MONTHLY, month.atDay(1), month.atEndOfMonth()));
+                }
+            }
+        }
+        return new UserData(transactions, budgets);
+    }
+
+    // Splits total over the months in proportion to their seasonal weight, largest remainders first
+    private int[] spread(int total, List<YearMonth> months) {
+        double weightSum = 0;
+        for (YearMonth month : months) {
+            weightSum += options.seasonality[month.getMonthValue() - 1];
+        }
+        int[] counts = new int[months.size()];
+        double[] remainders = new double[months.size()];
+        int assigned = 0;
+        for (int m = 0; m < months.size(); m++) {
+            double share = total * options.seasonality[months.get(m).getMonthValue() - 1] / weightSum;
+            counts[m] = (int) share;
+            remainders[m] = share - counts[m];
+            assigned += counts[m];
+        }
+        while (assigned < total) {
+            int largest = 0;
+            for (int m = 1; m < months.size(); m++) {
+                if (remainders[m] > remainders[largest]) {
+                    largest = m;
+                }
+            }
+            counts[largest]++;
+            remainders[largest] = -1;
+            assigned++;
+        }
+        return counts;
+    }
+
+    private static int pick(List<Draw> draws, Random random) {
+        long weightSum = 0;
+        for (Draw draw : draws) {
+            weightSum += draw.weight;
+        }
+        long ticket = (long) (random.nextDouble() * weightSum);
+        for (int i = 0; i < draws.size(); i++) {
+            ticket -= draws.get(i).weight;
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        return draws.size() - 1;
+    }
+
+    private static void addDraw(List<Draw> draws, Category category, long[] profile) {
+        if (profile != null && profile[0] > 0) {
+            draws.add(new Draw(category, profile[0], profile[1], profile[2]));
+        }
+    }
+
+    private static final class Draw {
+        private final Category category;
+        private final long weight;
+        private final long minPaise;
+        private final long maxPaise;
+
+        Draw(Category category, long weight, long minPaise, long maxPaise) {
+            this.category = category;
+            this.weight = weight;
+            this.minPaise = minPaise;
+            this.maxPaise = maxPaise;
+        }
+    }
+
+    /**
+     * What to generate. Expense weights are keyed by category name and hold
+     * the draw weight and the amount range in paise; categories without an
+     * entry get no transactions.
+     */
+    public static class Options {
+        private int users = 10;
+        private int transactionsPerUser = 2_000;
+        private int years = 3;
+        private LocalDate lastDay = LocalDate.of(2024, 12, 31);
+        private double incomeShare = 0.1;
+        private long seed = 42L;
+        private boolean budgets = true;
+        private double[] seasonality = DEFAULT_SEASONALITY.clone();
+        private Map<String, long[]> expenseWeights = new LinkedHashMap<>(DEFAULT_EXPENSES);
+
+        public Options withUsers(int users) {
+            this.users = users;
+            return this;
+        }
+
+        // Including the monthly salaries
+        public Options withTransactionsPerUser(int transactionsPerUser) {
+            this.transactionsPerUser = transactionsPerUser;
+            return this;
+        }
+
+        public Options withYears(int years) {
+            this.years = years;
+            return this;
+        }
+
+        public Options withLastDay(LocalDate lastDay) {
+            this.lastDay = lastDay;
+            return this;
+        }
+
+        // Share of the non-salary transactions that are income
+        public Options withIncomeShare(double incomeShare) {
+            this.incomeShare = incomeShare;
+            return this;
+        }
+
+        public Options withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Options withBudgets(boolean budgets) {
+            this.budgets = budgets;
+            return this;
+        }
+
+        public Options withSeasonality(double[] seasonality) {
+            this.seasonality = seasonality.clone();
+            return this;
+        }
+
+        public Options withExpenseWeight(String categoryName, long weight, long minPaise, long maxPaise) {
+            expenseWeights.put(categoryName, new long[] { weight, minPaise, maxPaise });
+            return this;
+        }
+
+        private void validate() {
+            if (users < 0 || transactionsPerUser < 0 || years < 1) {
+                throw new IllegalArgumentException("Users and transactions cannot be negative, years must be at least 1");
+            }
+            if (incomeShare < 0 || incomeShare > 1) {
+                throw new IllegalArgumentException("Income share must be between 0 and 1");
+            }
+            if (seasonality.length != 12) {
+                throw new IllegalArgumentException("Seasonality needs one weight per month");
+            }
+            for (long[] profile : expenseWeights.values()) {
+                if (profile[0] < 0 || profile[1] < 1 || profile[2] < profile[1]) {
+                    throw new IllegalArgumentException("Expense weights need a weight of 0 or more and a valid amount range");
+                }
+            }
+        }
+    }
+
+    static final class UserData {
+        private final List<Transaction> transactions;
+        private final List<Budget> budgets;
+
+        UserData(List<Transaction> transactions, List<Budget> budgets) {
+            this.transactions = transactions;
+            this.budgets = budgets;
+        }
+
+        // Getters
+        List<Transaction> getTransactions() {
+            return transactions;
+        }
+
+        List<Budget> getBudgets() {
+            return budgets;
+        }
+    }
+
+    public static class Result {
+        private final List<Integer> userIds;
+        private final long transactionCount;
+        private final long budgetCount;
+        private final long elapsedNanos;
+
+        public Result(List<Integer> userIds, long transactionCount, long budgetCount, long elapsedNanos) {
+            this.userIds = userIds;
+            this.transactionCount = transactionCount;
+            this.budgetCount = budgetCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        // Getters
+        public List<Integer> getUserIds() {
+            return userIds;
+        }
+
+        public long getTransactionCount() {
+            return transactionCount;
+        }
+
+        public long getBudgetCount() {
+            return budgetCount;
+        }
+
+        public double getRowsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : (transactionCount + budgetCount) * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d users, %d transactions, %d budgets in %.1fs (%.0f rows/s)", userIds.size(),
+                    transactionCount, budgetCount, elapsedNanos / 1_000_000_000.0, getRowsPerSecond());
+        }
+    }
+}
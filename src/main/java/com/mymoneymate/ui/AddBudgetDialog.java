@@ -38,6 +38,8 @@ public class AddBudgetDialog extends JDialog {
 	private final JTextField startDateField;
 	private final JTextField endDateField;
 	private final JComboBox<Category> categoryComboBox;
+	private final JButton saveButton;
+	private final BackgroundLoader loader = new BackgroundLoader();
 	private boolean budgetAdded = false;
 
 	public AddBudgetDialog(JFrame parent, Integer userId) {
@@ -103,7 +105,7 @@ public class AddBudgetDialog extends JDialog {
 
 		// Buttons
 		JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-		JButton saveButton = new JButton("Save");
+		saveButton = new JButton("Save");
 		JButton cancelButton = new JButton("Cancel");
 		cancelButton.setForeground(Color.RED);
 
@@ -137,53 +139,54 @@ public class AddBudgetDialog extends JDialog {
 	}
 
 	private void handleSave() {
+		BigDecimal amount;
 		try {
-			BigDecimal amount;
-			try {
-				amount = new BigDecimal(amountField.getText().trim());
-				if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-					throw new NumberFormatException("Amount must be positive");
-				}
-			} catch (NumberFormatException e) {
-				JOptionPane.showMessageDialog(this, "Please enter a valid positive amount", "Invalid Amount",
-						JOptionPane.ERROR_MESSAGE);
-				return;
+			amount = new BigDecimal(amountField.getText().trim());
+			if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+				throw new NumberFormatException("Amount must be positive");
 			}
+		} catch (NumberFormatException e) {
+			JOptionPane.showMessageDialog(this, "Please enter a valid positive amount", "Invalid Amount",
+					JOptionPane.ERROR_MESSAGE);
+			return;
+		}
 
-			LocalDate startDate;
-			LocalDate endDate;
-			try {
-				startDate = LocalDate.parse(startDateField.getText().trim());
-				endDate = endDateField.getText().trim().isEmpty() ? null
-						: LocalDate.parse(endDateField.getText().trim());
-				if (endDate != null && startDate.isAfter(endDate)) {
-					JOptionPane.showMessageDialog(this, "Start date cannot be after end date", "Invalid Date",
-							JOptionPane.ERROR_MESSAGE);
-					return;
-				}
-			} catch (DateTimeParseException e) {
-				JOptionPane.showMessageDialog(this, "Please enter a valid date in YYYY-MM-DD format", "Invalid Date",
+		LocalDate startDate;
+		LocalDate endDate;
+		try {
+			startDate = LocalDate.parse(startDateField.getText().trim());
+			endDate = endDateField.getText().trim().isEmpty() ? null
+					: LocalDate.parse(endDateField.getText().trim());
+			if (endDate != null && startDate.isAfter(endDate)) {
+				JOptionPane.showMessageDialog(this, "Start date cannot be after end date", "Invalid Date",
 						JOptionPane.ERROR_MESSAGE);
 				return;
 			}
+		} catch (DateTimeParseException e) {
+			JOptionPane.showMessageDialog(this, "Please enter a valid date in YYYY-MM-DD format", "Invalid Date",
+					JOptionPane.ERROR_MESSAGE);
+			return;
+		}
 
-			Category category = (Category) categoryComboBox.getSelectedItem();
-			if (category == null) {
-				JOptionPane.showMessageDialog(this, "Please select a category", "Invalid Category",
-						JOptionPane.ERROR_MESSAGE);
-				return;
-			}
+		Category category = (Category) categoryComboBox.getSelectedItem();
+		if (category == null) {
+			JOptionPane.showMessageDialog(this, "Please select a category", "Invalid Category",
+					JOptionPane.ERROR_MESSAGE);
+			return;
+		}
 
-			Budget.BudgetPeriod period = (Budget.BudgetPeriod) periodComboBox.getSelectedItem();
+		Budget.BudgetPeriod period = (Budget.BudgetPeriod) periodComboBox.getSelectedItem();
 
-			budgetService.createBudget(userId, category.getId(), amount, period, startDate, endDate);
+		saveButton.setEnabled(false);
+		loader.run("save", () -> budgetService.createBudget(userId, category.getId(), amount, period, startDate,
+				endDate), () -> {
 			budgetAdded = true;
 			dispose();
-
-		} catch (ServiceException e) {
+		}, e -> {
+			saveButton.setEnabled(true);
 			JOptionPane.showMessageDialog(this, "Error saving budget: " + e.getMessage(), "Error",
 					JOptionPane.ERROR_MESSAGE);
-		}
+		});
 	}
 
 	public boolean isBudgetAdded() {
@@ -21,7 +21,6 @@ import javax.swing.JTextField;
 
 import com.mymoneymate.models.Category;
 import com.mymoneymate.services.CategoryService;
-import com.mymoneymate.services.exceptions.ServiceException;
 
 public class AddCategoryDialog extends JDialog {
 	private final CategoryService categoryService;
@@ -29,6 +28,8 @@ public class AddCategoryDialog extends JDialog {
 	private final JTextField nameField;
 	private final JTextArea descriptionArea;
 	private final JComboBox<Category.TransactionType> typeComboBox;
+	private final JButton saveButton;
+	private final BackgroundLoader loader = new BackgroundLoader();
 	private boolean categoryAdded = false;
 
 	public AddCategoryDialog(JFrame parent, Integer userId) {
@@ -76,7 +77,7 @@ public class AddCategoryDialog extends JDialog {
 
 		// Buttons
 		JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-		JButton saveButton = new JButton("Save");
+		saveButton = new JButton("Save");
 		JButton cancelButton = new JButton("Cancel");
 		cancelButton.setForeground(Color.RED);
 
@@ -97,18 +98,22 @@ public class AddCategoryDialog extends JDialog {
 	}
 
 	private void handleSave() {
-		try {
-			categoryService.createCategory(currentUserId, nameField.getText(),
-					(Category.TransactionType) typeComboBox.getSelectedItem(), descriptionArea.getText());
+		String name = nameField.getText();
+		Category.TransactionType type = (Category.TransactionType) typeComboBox.getSelectedItem();
+		String description = descriptionArea.getText();
+
+		saveButton.setEnabled(false);
+		loader.run("save", () -> categoryService.createCategory(currentUserId, name, type, description), () -> {
 			categoryAdded = true;
 			dispose();
-		} catch (ServiceException e) {
-			System.err.println("Error Saving Category: " + e.getCause().getMessage());
+		}, e -> {
+			saveButton.setEnabled(true);
+			System.err.println("Error Saving Category: " + e.getMessage());
 			JOptionPane.showMessageDialog(this,
 					"Error Saving Category: " + e.getMessage(),
 					"Error",
 					JOptionPane.ERROR_MESSAGE);
-		}
+		});
 	}
 
 	public boolean isCategoryAdded() {
@@ -39,6 +39,8 @@ public class AddTransactionDialog extends JDialog {
     private final JTextArea descriptionArea;
     private final JComboBox<Category> categoryComboBox;
     private final JComboBox<Category.TransactionType> typeComboBox;
+    private final JButton saveButton;
+    private final BackgroundLoader loader = new BackgroundLoader();
     private boolean transactionAdded = false;
 
     public AddTransactionDialog(JFrame parent, Integer userId) {
@@ -108,7 +110,7 @@ public class AddTransactionDialog extends JDialog {
 
         // Buttons
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-        JButton saveButton = new JButton("Save");
+        saveButton = new JButton("Save");
         JButton cancelButton = new JButton("Cancel");
         cancelButton.setForeground(Color.RED);
 
@@ -148,56 +150,60 @@ public class AddTransactionDialog extends JDialog {
     }
 
     private void handleSave() {
+        // Validate amount
+        BigDecimal amount;
         try {
-            // Validate amount
-            BigDecimal amount;
-            try {
-                amount = new BigDecimal(amountField.getText().trim());
-                if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-                    throw new NumberFormatException("Amount must be positive");
-                }
-            } catch (NumberFormatException e) {
-                JOptionPane.showMessageDialog(this,
-                        "Please enter a valid positive amount",
-                        "Invalid Amount",
-                        JOptionPane.ERROR_MESSAGE);
-                return;
+            amount = new BigDecimal(amountField.getText().trim());
+            if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+                throw new NumberFormatException("Amount must be positive");
             }
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this,
+                    "Please enter a valid positive amount",
+                    "Invalid Amount",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
 
-            // Validate date
-            LocalDate date;
-            try {
-                date = LocalDate.parse(dateField.getText().trim());
-            } catch (DateTimeParseException e) {
-                JOptionPane.showMessageDialog(this,
-                        "Please enter a valid date in YYYY-MM-DD format",
-                        "Invalid Date",
-                        JOptionPane.ERROR_MESSAGE);
-                return;
-            }
+        // Validate date
+        LocalDate date;
+        try {
+            date = LocalDate.parse(dateField.getText().trim());
+        } catch (DateTimeParseException e) {
+            JOptionPane.showMessageDialog(this,
+                    "Please enter a valid date in YYYY-MM-DD format",
+                    "Invalid Date",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
 
-            // Get selected category
-            Category category = (Category) categoryComboBox.getSelectedItem();
-            if (category == null) {
-                JOptionPane.showMessageDialog(this,
-                        "Please select a category",
-                        "Invalid Category",
-                        JOptionPane.ERROR_MESSAGE);
-                return;
-            }
+        // Get selected category
+        Category category = (Category) categoryComboBox.getSelectedItem();
+        if (category == null) {
+            JOptionPane.showMessageDialog(this,
+                    "Please select a category",
+                    "Invalid Category",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
 
-            transactionService.addTransaction(userId, amount, category.getId(), descriptionArea.getText().trim(), date,
-                    (Category.TransactionType) typeComboBox.getSelectedItem());
+        String description = descriptionArea.getText().trim();
+        Category.TransactionType type = (Category.TransactionType) typeComboBox.getSelectedItem();
+
+        // Saving may wait on the writer connection, so keep the dialog responsive meanwhile
+        saveButton.setEnabled(false);
+        loader.run("save", () -> transactionService.addTransaction(userId, amount, category.getId(), description,
+                date, type), () -> {
             transactionAdded = true;
             dispose();
-
-        } catch (ServiceException e) {
-            System.err.println("Error saving transaction: " + e.getCause().getMessage());
+        }, e -> {
+            saveButton.setEnabled(true);
+            System.err.println("Error saving transaction: " + e.getMessage());
             JOptionPane.showMessageDialog(this,
                     "Error saving transaction: " + e.getMessage(),
                     "Error",
                     JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
 
     public boolean isTransactionAdded() {
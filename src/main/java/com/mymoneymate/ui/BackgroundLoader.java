@@ -0,0 +1,91 @@
+package com.mymoneymate.ui;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Runs database work for a view on a shared pool of background threads and
+ * applies the outcome on the Event Dispatch Thread, so a slow query or a
+ * busy database never freezes the window.
+ *
+ * Requests are keyed by what they load. A new request for a key supersedes
+ * the pending one: the old task is cancelled and its result is dropped even
+ * if it has already finished. Methods must be called on the EDT.
+ */
+public class BackgroundLoader {
+    // Work that touches the single writer connection serialises there anyway, so a small pool is enough
+    private static final int THREADS = 2;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "mymoneymate-loader-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, Future<?>> pending = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public <T> void load(String key, Callable<T> query, Consumer<? super T> onSuccess,
+            Consumer<? super Exception> onFailure) {
+        Future<?>[] self = new Future<?>[1];
+        self[0] = EXECUTOR.submit(() -> {
+            try {
+                T result = query.call();
+                deliver(key, self, () -> onSuccess.accept(result));
+            } catch (Exception e) {
+                deliver(key, self, () -> onFailure.accept(e));
+            }
+        });
+        Future<?> previous = pending.put(key, self[0]);
+        if (previous != null) {
+            previous.cancel(true);
+        }
+    }
+
+    public void run(String key, Action action, Runnable onSuccess, Consumer<? super Exception> onFailure) {
+        load(key, () -> {
+            action.run();
+            return null;
+        }, result -> onSuccess.run(), onFailure);
+    }
+
+    public void cancel(String key) {
+        Future<?> previous = pending.remove(key);
+        if (previous != null) {
+            previous.cancel(true);
+        }
+    }
+
+    // Called when the view goes away, e.g. on logout
+    public void cancelAll() {
+        for (String key : pending.keySet()) {
+            cancel(key);
+        }
+    }
+
+    public boolean isLoading(String key) {
+        return pending.containsKey(key);
+    }
+
+    // self[0] is read on the EDT, after load() has stored it, even if the task finished first
+    private void deliver(String key, Future<?>[] self, Runnable apply) {
+        SwingUtilities.invokeLater(() -> {
+            // Only the latest request for a key may touch the UI
+            if (pending.remove(key, self[0])) {
+                apply.run();
+            }
+        });
+    }
+}
@@ -2,6 +2,7 @@ package com.mymoneymate.ui;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
@@ -12,15 +13,17 @@ import java.awt.Insets;
 import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.temporal.TemporalAdjusters;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -40,6 +43,7 @@ import javax.swing.UIManager;
 import javax.swing.border.Border;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.ChangeListener;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.JTableHeader;
 
@@ -56,12 +60,27 @@ import org.jfree.data.general.DefaultPieDataset;
 import com.mymoneymate.dao.UserDAO;
 import com.mymoneymate.models.Budget;
 import com.mymoneymate.models.Category;
+import com.mymoneymate.models.CategoryTotals;
+import com.mymoneymate.models.Granularity;
+import com.mymoneymate.models.Money;
+import com.mymoneymate.models.TimeSeries;
 import com.mymoneymate.models.Transaction;
-import com.mymoneymate.models.User;
+import com.mymoneymate.models.TransactionRow;
 import com.mymoneymate.services.BudgetService;
 import com.mymoneymate.services.BudgetService.BudgetStatus;
 import com.mymoneymate.services.CategoryService;
+import com.mymoneymate.services.QueryResultCache;
 import com.mymoneymate.services.TransactionService;
+import com.mymoneymate.services.TransactionSumIndex;
+import com.mymoneymate.services.events.BudgetChanged;
+import com.mymoneymate.services.events.CategoryChanged;
+import com.mymoneymate.services.events.DomainEvent;
+import com.mymoneymate.services.events.EventBus;
+import com.mymoneymate.services.events.EventsDropped;
+import com.mymoneymate.services.events.TransactionAdded;
+import com.mymoneymate.services.events.TransactionDeleted;
+import com.mymoneymate.services.events.TransactionUpdated;
+import com.mymoneymate.services.events.TransactionsImported;
 import com.mymoneymate.services.exceptions.ServiceException;
 import com.toedter.calendar.JDateChooser;
 
@@ -74,180 +93,206 @@ public class DashboardPanel extends JPanel {
     private final BudgetService budgetService = new BudgetService();
     private final CategoryService categoryService = new CategoryService();
     private final UserDAO userDAO = new UserDAO();
+    private final BackgroundLoader loader = new BackgroundLoader();
+    private EventBus.Subscription eventSubscription;
     private JTabbedPane tabbedPane;
+    private JTable transactionsTable;
+    private TransactionTableModel transactionModel;
+    private JTable budgetTable;
+    // Tabs that have not been built yet or show outdated data
+    private final Set<Tab> staleTabs = EnumSet.allOf(Tab.class);
+    private int selectedChart;
     private final Font defaultFont = UIManager.getFont("Label.font");
 
+    // The kinds of data a change can touch
+    private enum Data {
+        TRANSACTIONS, BUDGETS, CATEGORIES, PROFILE
+    }
+
+    // In display order; each tab lists the data it shows
+    private enum Tab {
+        OVERVIEW("Overview", Data.TRANSACTIONS, Data.CATEGORIES, Data.PROFILE),
+        TRANSACTIONS("Transactions", Data.TRANSACTIONS, Data.CATEGORIES),
+        BUDGET("Budget", Data.BUDGETS, Data.TRANSACTIONS, Data.CATEGORIES),
+        CATEGORY("Category", Data.CATEGORIES, Data.TRANSACTIONS),
+        REPORTS("Reports", Data.TRANSACTIONS, Data.BUDGETS, Data.CATEGORIES),
+        ACCOUNT("Account", Data.PROFILE);
+
+        private final String title;
+        private final Set<Data> dependsOn;
+
+        Tab(String title, Data first, Data... rest) {
+            this.title = title;
+            this.dependsOn = EnumSet.of(first, rest);
+        }
+    }
+
     public DashboardPanel(MainWindow mainWindow, int userId) {
         this.mainWindow = mainWindow;
         this.currentUserId = userId;
         UIManager.put("TabbedPane.font", defaultFont.deriveFont(Font.BOLD, 16));
         setLayout(new BorderLayout());
         initializeComponents();
+        // Changes saved anywhere, not only in this panel's dialogs, refresh the tabs that show them
+        eventSubscription = EventBus.getInstance().subscribe(DomainEvent.class,
+                event -> SwingUtilities.invokeLater(() -> handleEvent(event)));
     }
 
     private void initializeComponents() {
         // Create tabbed pane
         tabbedPane = new JTabbedPane();
 
-        // Add tabs
-        tabbedPane.addTab("Overview", createOverviewPanel());
-        tabbedPane.addTab("Transactions", createTransactionsPanel());
-        tabbedPane.addTab("Budget", createBudgetPanel());
-        tabbedPane.addTab("Category", createCategoryPanel());
-        tabbedPane.addTab("Reports", createReportsPanel());
-        tabbedPane.addTab("Account", createAccountPanel());
+        // Add tabs; each one is built the first time it is shown
+        for (Tab tab : Tab.values()) {
+            tabbedPane.addTab(tab.title, new JPanel(new BorderLayout()));
+        }
+        tabbedPane.addChangeListener(e -> showSelectedTab());
 
         add(tabbedPane, BorderLayout.CENTER);
+        showSelectedTab();
     }
 
-    private JPanel createOverviewPanel() {
-        JPanel panel = new JPanel(new BorderLayout());
-        panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+    // Builds the selected tab if it is new or stale; the other stale tabs wait until they are selected
+    private void showSelectedTab() {
+        int index = tabbedPane.getSelectedIndex();
+        if (index < 0) {
+            return;
+        }
+        Tab tab = Tab.values()[index];
+        if (!staleTabs.remove(tab)) {
+            return;
+        }
+        if (tab == Tab.TRANSACTIONS && transactionModel != null) {
+            // Reloading the model keeps the table, its sort order and the scroll position
+            transactionModel.reload(this::showTransactionsError);
+            return;
+        }
 
-        // Get Summary Data
-        try {
-            // Top Panel with Greeting and App Title
-            JPanel topPanel = new JPanel(new GridLayout(2, 1));
-            topPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
-
-            String userName = userDAO.findById(currentUserId).get().getUsername();
-            JLabel appTitleLabel = new JLabel("MyMoneyMate - Personal Finance Management System", SwingConstants.CENTER);
-            appTitleLabel.setFont(defaultFont.deriveFont(Font.BOLD, 24));
-
-            JLabel greetingLabel = new JLabel("Hi, " + userName, SwingConstants.CENTER);
-            greetingLabel.setFont(defaultFont.deriveFont(Font.BOLD, 18));
-
-            topPanel.add(appTitleLabel);
-            topPanel.add(greetingLabel);
-
-            // Buttons Panel
-            JPanel buttonPanel = new JPanel();
-            buttonPanel.setLayout(new BoxLayout(buttonPanel, BoxLayout.X_AXIS));
-            buttonPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
-
-            JButton addTransactionButton = new JButton("Add Transaction");
-            addTransactionButton.addActionListener(e -> showAddTransactionDialog());
-            JButton addBudgetButton = new JButton("Add Budget");
-            addBudgetButton.addActionListener(e -> showAddBudgetDialog());
-            JButton addCategoryButton = new JButton("Add Category");
-            addCategoryButton.addActionListener(e -> showAddCategoryDialog());
-            JButton logoutButton = new JButton("Logout");
-            logoutButton.addActionListener(e -> handleLogout());
-            logoutButton.setForeground(Color.RED);
-
-            addTransactionButton.setFocusPainted(false);
-            addBudgetButton.setFocusPainted(false);
-            addCategoryButton.setFocusPainted(false);
-            logoutButton.setFocusPainted(false);
-
-            buttonPanel.add(Box.createHorizontalGlue());
-            buttonPanel.add(addTransactionButton);
-            buttonPanel.add(Box.createRigidArea(new Dimension(20, 0)));
-            buttonPanel.add(addBudgetButton);
-            buttonPanel.add(Box.createRigidArea(new Dimension(20, 0)));
-            buttonPanel.add(addCategoryButton);
-            buttonPanel.add(Box.createRigidArea(new Dimension(20, 0)));
-            buttonPanel.add(logoutButton);
-            buttonPanel.add(Box.createHorizontalGlue());
-
-            JPanel topPanel2 = new JPanel(new GridLayout(2, 1));
-            topPanel2.setBorder(BorderFactory.createEmptyBorder(1, 1, 1, 1));
-            topPanel2.add(topPanel, BorderLayout.NORTH);
-            topPanel2.add(buttonPanel, BorderLayout.CENTER);
-
-            panel.add(topPanel2, BorderLayout.NORTH);
-
-            // Get Summary Data
-            LocalDate monthStartDate = LocalDate.now().withDayOfMonth(1);
-            LocalDate endDate = LocalDate.now();
+        JPanel container = (JPanel) tabbedPane.getComponentAt(index);
+        container.removeAll();
+        container.add(createTab(tab), BorderLayout.CENTER);
+        container.revalidate();
+        container.repaint();
+    }
 
-            BigDecimal monthIncome = transactionService.calculateIncome(currentUserId, monthStartDate, endDate);
-            BigDecimal monthExpenses = transactionService.calculateExpenses(currentUserId, monthStartDate, endDate);
-            BigDecimal monthBalance = transactionService.calculateBalance(currentUserId, monthStartDate, endDate);
-
-            BigDecimal totalBalance = transactionService.calculateBalance(currentUserId, LocalDate.of(1970, 1, 1), endDate);
-
-            // Summary Panel
-            JPanel summaryPanel = new JPanel(new GridLayout(4, 1));
-            summaryPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
-
-            Font boldFont = defaultFont.deriveFont(Font.BOLD, 16);
-
-            JPanel mothIncomePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 20, 0));
-            JLabel monthIncomeLabel = new JLabel("Month Income:");
-            monthIncomeLabel.setFont(boldFont);
-            mothIncomePanel.add(monthIncomeLabel);
-            mothIncomePanel.add(new JLabel("₹" + monthIncome.toString()));
-            summaryPanel.add(mothIncomePanel);
-
-            JPanel monthExpensesPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 20, 0));
-            JLabel monthExpensesLabel = new JLabel("Month Expenses:");
-            monthExpensesLabel.setFont(boldFont);
-            monthExpensesPanel.add(monthExpensesLabel);
-            monthExpensesPanel.add(new JLabel("₹" + monthExpenses.toString()));
-            summaryPanel.add(monthExpensesPanel);
-
-            JPanel monthBalancePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 20, 0));
-            JLabel monthBalanceLabel = new JLabel("Month Balance:");
-            monthBalanceLabel.setFont(boldFont);
-            monthBalancePanel.add(monthBalanceLabel);
-            monthBalancePanel.add(new JLabel("₹" + monthBalance.toString()));
-            summaryPanel.add(monthBalancePanel);
-
-            JPanel totalBalancePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 20, 0));
-            JLabel totalBalanceLabel = new JLabel("Current Balance:");
-            totalBalanceLabel.setFont(boldFont);
-            totalBalancePanel.add(totalBalanceLabel);
-            totalBalancePanel.add(new JLabel("₹" + totalBalance.toString()));
-            summaryPanel.add(totalBalancePanel);
-
-            panel.add(summaryPanel, BorderLayout.CENTER);
-
-            // Recent Transactions
-            List<Transaction> recentTransactions = transactionService.getUserTransactions(currentUserId, endDate.minusDays(7), endDate);
-
-            String[] columnNames = {"Date", "Category", "Amount", "Description"};
-            Object[][] data = new Object[recentTransactions.size()][4];
-
-            for (int i = 0; i < recentTransactions.size(); i++) {
-                Transaction t = recentTransactions.get(i);
-                data[i][0] = t.getTransactionDate().toString();
-                data[i][1] = categoryService.getCategoryById(t.getCategoryId()).getName();
-                data[i][2] = t;
-                data[i][3] = t.getDescription();
+    private JPanel createTab(Tab tab) {
+        return switch (tab) {
+            case OVERVIEW -> createOverviewPanel();
+            case TRANSACTIONS -> createTransactionsPanel();
+            case BUDGET -> createBudgetPanel();
+            case CATEGORY -> createCategoryPanel();
+            case REPORTS -> createReportsPanel();
+            case ACCOUNT -> createAccountPanel();
+        };
+    }
+
+    private void handleEvent(DomainEvent event) {
+        if (eventSubscription == null) {
+            return;
+        }
+        if (event instanceof TransactionAdded added) {
+            dataChangedFor(added.getUserId(), Data.TRANSACTIONS);
+        } else if (event instanceof TransactionUpdated updated) {
+            dataChangedFor(updated.getUserId(), Data.TRANSACTIONS);
+        } else if (event instanceof TransactionDeleted deleted) {
+            dataChangedFor(deleted.getUserId(), Data.TRANSACTIONS);
+        } else if (event instanceof TransactionsImported imported) {
+            if (imported.involvesUser(currentUserId)) {
+                dataChanged(Data.TRANSACTIONS);
             }
+        } else if (event instanceof BudgetChanged changed) {
+            dataChangedFor(changed.getUserId(), Data.BUDGETS);
+        } else if (event instanceof CategoryChanged) {
+            dataChanged(Data.CATEGORIES);
+        } else if (event instanceof EventsDropped) {
+            dataChanged(Data.values());
+        }
+    }
 
-            JTable transactionTable = new JTable(data, columnNames);
-            transactionTable.setFillsViewportHeight(true);
-            transactionTable.setRowHeight(36);
-            transactionTable.setBorder(null);
-            transactionTable.setShowGrid(false);
-            transactionTable.getTableHeader().setReorderingAllowed(false);
-            transactionTable.getTableHeader().setResizingAllowed(false);
-            transactionTable.getTableHeader().setFont(defaultFont.deriveFont(Font.BOLD, 18));
-            DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
-            centerRenderer.setHorizontalAlignment(JLabel.CENTER);
-
-            for (int x = 0; x < transactionTable.getColumnCount(); x++) {
-                if (x == 2) {
-                    transactionTable.getColumnModel().getColumn(x).setCellRenderer(new AmountCellRenderer());
-                } else {
-                    transactionTable.getColumnModel().getColumn(x).setCellRenderer(centerRenderer);
+    // Other users' changes do not show on this dashboard
+    private void dataChangedFor(int userId, Data change) {
+        if (userId == currentUserId) {
+            dataChanged(change);
+        }
+    }
+
+    // Marks only the tabs that show the changed data as stale and refreshes the one on screen
+    private void dataChanged(Data... changes) {
+        for (Tab tab : Tab.values()) {
+            for (Data change : changes) {
+                if (tab.dependsOn.contains(change)) {
+                    staleTabs.add(tab);
                 }
             }
+        }
+        showSelectedTab();
+    }
+
+    private JPanel createOverviewPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+
+        // Top Panel with Greeting and App Title
+        JPanel topPanel = new JPanel(new GridLayout(2, 1));
+        topPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        JLabel appTitleLabel = new JLabel("MyMoneyMate - Personal Finance Management System", SwingConstants.CENTER);
+        appTitleLabel.setFont(defaultFont.deriveFont(Font.BOLD, 24));
+
+        JLabel greetingLabel = new JLabel("Hi", SwingConstants.CENTER);
+        greetingLabel.setFont(defaultFont.deriveFont(Font.BOLD, 18));
 
-            JTableHeader transactionTableHeader = transactionTable.getTableHeader();
-            DefaultTableCellRenderer headerRenderer = (DefaultTableCellRenderer) transactionTableHeader.getDefaultRenderer();
-            headerRenderer.setHorizontalAlignment(JLabel.CENTER);
-            transactionTableHeader.setDefaultRenderer(headerRenderer);
+        topPanel.add(appTitleLabel);
+        topPanel.add(greetingLabel);
+
+        // Buttons Panel
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setLayout(new BoxLayout(buttonPanel, BoxLayout.X_AXIS));
+        buttonPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
 
-            JScrollPane scrollPane = new JScrollPane(transactionTable);
-            scrollPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        JButton addTransactionButton = new JButton("Add Transaction");
+        addTransactionButton.addActionListener(e -> showAddTransactionDialog());
+        JButton addBudgetButton = new JButton("Add Budget");
+        addBudgetButton.addActionListener(e -> showAddBudgetDialog());
+        JButton addCategoryButton = new JButton("Add Category");
+        addCategoryButton.addActionListener(e -> showAddCategoryDialog());
+        JButton logoutButton = new JButton("Logout");
+        logoutButton.addActionListener(e -> handleLogout());
+        logoutButton.setForeground(Color.RED);
 
-            panel.add(scrollPane, BorderLayout.SOUTH);
+        addTransactionButton.setFocusPainted(false);
+        addBudgetButton.setFocusPainted(false);
+        addCategoryButton.setFocusPainted(false);
+        logoutButton.setFocusPainted(false);
 
-            return panel;
-        } catch (ServiceException | SQLException e) {
+        buttonPanel.add(Box.createHorizontalGlue());
+        buttonPanel.add(addTransactionButton);
+        buttonPanel.add(Box.createRigidArea(new Dimension(20, 0)));
+        buttonPanel.add(addBudgetButton);
+        buttonPanel.add(Box.createRigidArea(new Dimension(20, 0)));
+        buttonPanel.add(addCategoryButton);
+        buttonPanel.add(Box.createRigidArea(new Dimension(20, 0)));
+        buttonPanel.add(logoutButton);
+        buttonPanel.add(Box.createHorizontalGlue());
+
+        JPanel topPanel2 = new JPanel(new GridLayout(2, 1));
+        topPanel2.setBorder(BorderFactory.createEmptyBorder(1, 1, 1, 1));
+        topPanel2.add(topPanel, BorderLayout.NORTH);
+        topPanel2.add(buttonPanel, BorderLayout.CENTER);
+
+        panel.add(topPanel2, BorderLayout.NORTH);
+
+        // Summary and recent transactions are filled in once they have been read
+        JLabel placeholder = new JLabel("Loading...", SwingConstants.CENTER);
+        panel.add(placeholder, BorderLayout.CENTER);
+        loader.load("overview", this::loadOverview, data -> {
+            greetingLabel.setText("Hi, " + data.userName);
+            panel.remove(placeholder);
+            panel.add(createSummaryPanel(data), BorderLayout.CENTER);
+            panel.add(createRecentTransactionsPane(data.recentTransactions), BorderLayout.SOUTH);
+            panel.revalidate();
+            panel.repaint();
+        }, e -> {
             System.err.println("Error getting summary data");
             e.printStackTrace();
 
@@ -261,9 +306,105 @@ public class DashboardPanel extends JPanel {
             summaryPanel.add(new JLabel("Current Balance:"));
             summaryPanel.add(new JLabel("₹0.00"));
 
-            panel.add(summaryPanel, BorderLayout.CENTER);
-            return panel;
+            showLoaded(panel, placeholder, summaryPanel);
+        });
+
+        return panel;
+    }
+
+    // Runs on the loader thread, so it must not touch any component
+    private OverviewData loadOverview() throws ServiceException, SQLException {
+        OverviewData data = new OverviewData();
+        data.userName = userDAO.findById(currentUserId).get().getUsername();
+
+        LocalDate monthStartDate = LocalDate.now().withDayOfMonth(1);
+        LocalDate endDate = LocalDate.now();
+
+        data.monthIncome = transactionService.calculateIncome(currentUserId, monthStartDate, endDate);
+        data.monthExpenses = transactionService.calculateExpenses(currentUserId, monthStartDate, endDate);
+        data.monthBalance = transactionService.calculateBalance(currentUserId, monthStartDate, endDate);
+        data.totalBalance = transactionService.calculateBalance(currentUserId, LocalDate.of(1970, 1, 1), endDate);
+
+        data.recentTransactions = transactionService.getUserTransactionRows(currentUserId, endDate.minusDays(7), endDate);
+        return data;
+    }
+
+    private JPanel createSummaryPanel(OverviewData data) {
+        JPanel summaryPanel = new JPanel(new GridLayout(4, 1));
+        summaryPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        Font boldFont = defaultFont.deriveFont(Font.BOLD, 16);
+
+        JPanel mothIncomePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 20, 0));
+        JLabel monthIncomeLabel = new JLabel("Month Income:");
+        monthIncomeLabel.setFont(boldFont);
+        mothIncomePanel.add(monthIncomeLabel);
+        mothIncomePanel.add(new JLabel("₹" + data.monthIncome.toString()));
+        summaryPanel.add(mothIncomePanel);
+
+        JPanel monthExpensesPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 20, 0));
+        JLabel monthExpensesLabel = new JLabel("Month Expenses:");
+        monthExpensesLabel.setFont(boldFont);
+        monthExpensesPanel.add(monthExpensesLabel);
+        monthExpensesPanel.add(new JLabel("₹" + data.monthExpenses.toString()));
+        summaryPanel.add(monthExpensesPanel);
+
+        JPanel monthBalancePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 20, 0));
+        JLabel monthBalanceLabel = new JLabel("Month Balance:");
+        monthBalanceLabel.setFont(boldFont);
+        monthBalancePanel.add(monthBalanceLabel);
+        monthBalancePanel.add(new JLabel("₹" + data.monthBalance.toString()));
+        summaryPanel.add(monthBalancePanel);
+
+        JPanel totalBalancePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 20, 0));
+        JLabel totalBalanceLabel = new JLabel("Current Balance:");
+        totalBalanceLabel.setFont(boldFont);
+        totalBalancePanel.add(totalBalanceLabel);
+        totalBalancePanel.add(new JLabel("₹" + data.totalBalance.toString()));
+        summaryPanel.add(totalBalancePanel);
+
+        return summaryPanel;
+    }
+
+    private JScrollPane createRecentTransactionsPane(List<TransactionRow> recentTransactions) {
+        String[] columnNames = {"Date", "Category", "Amount", "Description"};
+        Object[][] data = new Object[recentTransactions.size()][4];
+
+        for (int i = 0; i < recentTransactions.size(); i++) {
+            Transaction t = recentTransactions.get(i).getTransaction();
+            data[i][0] = t.getTransactionDate().toString();
+            data[i][1] = recentTransactions.get(i).getCategoryName();
+            data[i][2] = t;
+            data[i][3] = t.getDescription();
         }
+
+        JTable transactionTable = new JTable(data, columnNames);
+        transactionTable.setFillsViewportHeight(true);
+        transactionTable.setRowHeight(36);
+        transactionTable.setBorder(null);
+        transactionTable.setShowGrid(false);
+        transactionTable.getTableHeader().setReorderingAllowed(false);
+        transactionTable.getTableHeader().setResizingAllowed(false);
+        transactionTable.getTableHeader().setFont(defaultFont.deriveFont(Font.BOLD, 18));
+        DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
+        centerRenderer.setHorizontalAlignment(JLabel.CENTER);
+
+        for (int x = 0; x < transactionTable.getColumnCount(); x++) {
+            if (x == 2) {
+                transactionTable.getColumnModel().getColumn(x).setCellRenderer(new AmountCellRenderer());
+            } else {
+                transactionTable.getColumnModel().getColumn(x).setCellRenderer(centerRenderer);
+            }
+        }
+
+        JTableHeader transactionTableHeader = transactionTable.getTableHeader();
+        DefaultTableCellRenderer headerRenderer = (DefaultTableCellRenderer) transactionTableHeader.getDefaultRenderer();
+        headerRenderer.setHorizontalAlignment(JLabel.CENTER);
+        transactionTableHeader.setDefaultRenderer(headerRenderer);
+
+        JScrollPane scrollPane = new JScrollPane(transactionTable);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        return scrollPane;
     }
 
     private JPanel createTransactionsPanel() {
@@ -271,9 +412,12 @@ public class DashboardPanel extends JPanel {
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
 
         // Add transaction table
-        String[] columns = {"Date", "Category", "Amount", "Description"};
-        Object[][] data = getTransactions();
-        JTable transactionsTable = new JTable(data, columns);
+        TransactionTableModel model = new TransactionTableModel(transactionService, categoryService, currentUserId,
+                loader);
+        model.reload(this::showTransactionsError);
+        JTable transactionsTable = new JTable(model);
+        this.transactionsTable = transactionsTable;
+        this.transactionModel = model;
 
         transactionsTable.setRowHeight(36);
         transactionsTable.setBorder(null);
@@ -305,6 +449,16 @@ public class DashboardPanel extends JPanel {
         DefaultTableCellRenderer headerRenderer = (DefaultTableCellRenderer) transactionsTableHeader.getDefaultRenderer();
         headerRenderer.setHorizontalAlignment(JLabel.CENTER);
         transactionsTableHeader.setDefaultRenderer(headerRenderer);
+        // Sorting is done by the database, not by a RowSorter over loaded rows
+        transactionsTableHeader.addMouseListener(new java.awt.event.MouseAdapter() {
+            @Override
+            public void mouseClicked(java.awt.event.MouseEvent e) {
+                int column = transactionsTable.columnAtPoint(e.getPoint());
+                if (column >= 0) {
+                    model.sortBy(transactionsTable.convertColumnIndexToModel(column));
+                }
+            }
+        });
 
         JScrollPane scrollPane = new JScrollPane(transactionsTable);
 
@@ -319,14 +473,34 @@ public class DashboardPanel extends JPanel {
         return panel;
     }
 
+    private void showTransactionsError(Exception e) {
+        System.err.println("Error getting transactions");
+        e.printStackTrace();
+        JOptionPane.showMessageDialog(this,
+                "Error loading transactions: " + e.getMessage(),
+                "Error",
+                JOptionPane.ERROR_MESSAGE);
+    }
+
     private JPanel createBudgetPanel() {
         JPanel panel = new JPanel(new BorderLayout(10, 10));
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
 
-        // Add budget table
+        // Add buttons
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        JButton addButton = new JButton("Add Budget");
+        addButton.addActionListener(e -> showAddBudgetDialog());
+        buttonPanel.add(addButton);
+
+        panel.add(buttonPanel, BorderLayout.NORTH);
+        loadInto(panel, "budgets", this::getBudgets, this::createBudgetTable, "Error loading budgets");
+        return panel;
+    }
+
+    private JScrollPane createBudgetTable(Object[][] data) {
         String[] columns = {"Category", "Amount", "Spent", "Usage", "Period"};
-        Object[][] data = getBudgets();
         JTable budgetTable = new JTable(data, columns);
+        this.budgetTable = budgetTable;
 
         budgetTable.setRowHeight(36);
         budgetTable.setBorder(null);
@@ -355,26 +529,28 @@ public class DashboardPanel extends JPanel {
         headerRenderer.setHorizontalAlignment(JLabel.CENTER);
         budgetTableHeader.setDefaultRenderer(headerRenderer);
 
-        JScrollPane scrollPane = new JScrollPane(budgetTable);
+        return new JScrollPane(budgetTable);
+    }
+
+    private JPanel createCategoryPanel() {
+        JPanel panel = new JPanel(new BorderLayout(10, 10));
+        panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
 
         // Add buttons
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
-        JButton addButton = new JButton("Add Budget");
-        addButton.addActionListener(e -> showAddBudgetDialog());
+        buttonPanel.setLayout(new BoxLayout(buttonPanel, BoxLayout.X_AXIS));
+        buttonPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
+        JButton addButton = new JButton("Add Category");
+        addButton.addActionListener(e -> showAddCategoryDialog());
         buttonPanel.add(addButton);
 
         panel.add(buttonPanel, BorderLayout.NORTH);
-        panel.add(scrollPane, BorderLayout.CENTER);
+        loadInto(panel, "categories", this::getCategories, this::createCategoryTable, "Error loading categories");
         return panel;
     }
 
-    private JPanel createCategoryPanel() {
-        JPanel panel = new JPanel(new BorderLayout(10, 10));
-        panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
-
-        // Add category table
+    private JScrollPane createCategoryTable(Object[][] data) {
         String[] columns = {"Category", "Type", "Added/Spent"};
-        Object[][] data = getCategories();
         JTable categoryTable = new JTable(data, columns);
         categoryTable.setRowHeight(36);
         categoryTable.setBorder(null);
@@ -395,19 +571,7 @@ public class DashboardPanel extends JPanel {
         headerRenderer.setHorizontalAlignment(JLabel.CENTER);
         categoryTableHeader.setDefaultRenderer(headerRenderer);
 
-        JScrollPane scrollPane = new JScrollPane(categoryTable);
-
-        // Add buttons
-        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
-        buttonPanel.setLayout(new BoxLayout(buttonPanel, BoxLayout.X_AXIS));
-        buttonPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
-        JButton addButton = new JButton("Add Category");
-        addButton.addActionListener(e -> showAddCategoryDialog());
-        buttonPanel.add(addButton);
-
-        panel.add(buttonPanel, BorderLayout.NORTH);
-        panel.add(scrollPane, BorderLayout.CENTER);
-        return panel;
+        return new JScrollPane(categoryTable);
     }
 
     private JPanel createReportsPanel() {
@@ -441,12 +605,29 @@ public class DashboardPanel extends JPanel {
         controlPanel.add(toDate);
         controlPanel.add(generateButton);
 
-        // Create tabbed pane for different charts
+        // Create tabbed pane for different charts; a chart is only built when its tab is shown
         JTabbedPane chartsTabbedPane = new JTabbedPane();
-        chartsTabbedPane.addTab("Expense Overview", createExpenseOverviewPanel());
-        chartsTabbedPane.addTab("Category Distribution", createCategoryDistributionPanel());
-        chartsTabbedPane.addTab("Income vs Expenses", createIncomeExpenseComparisonPanel());
-        chartsTabbedPane.addTab("Budget Analysis", createBudgetAnalysisPanel());
+        List<Supplier<JPanel>> charts = List.of(
+                this::createExpenseOverviewPanel,
+                this::createCategoryDistributionPanel,
+                this::createIncomeExpenseComparisonPanel,
+                this::createBudgetAnalysisPanel);
+        chartsTabbedPane.addTab("Expense Overview", new JPanel(new BorderLayout()));
+        chartsTabbedPane.addTab("Category Distribution", new JPanel(new BorderLayout()));
+        chartsTabbedPane.addTab("Income vs Expenses", new JPanel(new BorderLayout()));
+        chartsTabbedPane.addTab("Budget Analysis", new JPanel(new BorderLayout()));
+        chartsTabbedPane.setSelectedIndex(selectedChart);
+
+        ChangeListener showChart = e -> {
+            selectedChart = chartsTabbedPane.getSelectedIndex();
+            JPanel container = (JPanel) chartsTabbedPane.getComponentAt(selectedChart);
+            if (container.getComponentCount() == 0) {
+                container.add(charts.get(selectedChart).get(), BorderLayout.CENTER);
+                container.revalidate();
+            }
+        };
+        chartsTabbedPane.addChangeListener(showChart);
+        showChart.stateChanged(null);
 
         panel.add(controlPanel, BorderLayout.NORTH);
         panel.add(chartsTabbedPane, BorderLayout.CENTER);
@@ -457,32 +638,24 @@ public class DashboardPanel extends JPanel {
     private JPanel createExpenseOverviewPanel() {
         JPanel panel = new JPanel(new BorderLayout());
 
-        // Create dataset for the line chart
-        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        loadInto(panel, "chart-expense-overview", () -> {
+            // Create dataset for the line chart
+            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
 
-        try {
             LocalDate startDate = LocalDate.now().minusMonths(6);
             LocalDate endDate = LocalDate.now();
 
-            // Get monthly expenses
-            List<Transaction> transactions = transactionService.getUserTransactions(currentUserId, startDate, endDate);
-
-            // Group transactions by month
-            Map<YearMonth, BigDecimal> monthlyExpenses = transactions.stream()
-                    .filter(t -> t.getType() == Category.TransactionType.EXPENSE)
-                    .collect(Collectors.groupingBy(
-                            t -> YearMonth.from(t.getTransactionDate()),
-                            Collectors.mapping(
-                                    Transaction::getAmount,
-                                    Collectors.reducing(BigDecimal.ZERO, BigDecimal::add)
-                            )
-                    ));
+            // Get monthly expenses, summed by the database
+            TimeSeries monthlyExpenses = transactionService.getTransactionTotalsByBucket(currentUserId, startDate,
+                    endDate, Granularity.MONTH, Category.TransactionType.EXPENSE, null);
 
             // Add data to dataset
-            monthlyExpenses.forEach((month, amount)
-                    -> dataset.addValue(amount.doubleValue(), "Expenses", month.toString())
-            );
-
+            for (int i = 0; i < monthlyExpenses.size(); i++) {
+                dataset.addValue(Money.toDouble(monthlyExpenses.getTotalMinor(i)), "Expenses",
+                        monthlyExpenses.getLabel(i));
+            }
+            return dataset;
+        }, dataset -> {
             // Create the chart
             JFreeChart lineChart = ChartFactory.createLineChart(
                     "Monthly Expenses Overview",
@@ -503,12 +676,8 @@ public class DashboardPanel extends JPanel {
             // Add the chart to a panel
             ChartPanel chartPanel = new ChartPanel(lineChart);
             chartPanel.setPreferredSize(new Dimension(800, 400));
-            panel.add(chartPanel, BorderLayout.CENTER);
-
-        } catch (ServiceException e) {
-            e.printStackTrace();
-            panel.add(new JLabel("Error generating expense overview chart"), BorderLayout.CENTER);
-        }
+            return chartPanel;
+        }, "Error generating expense overview chart");
 
         return panel;
     }
@@ -516,35 +685,24 @@ public class DashboardPanel extends JPanel {
     private JPanel createCategoryDistributionPanel() {
         JPanel panel = new JPanel(new BorderLayout());
 
-        // Create dataset for the pie chart
-        DefaultPieDataset dataset = new DefaultPieDataset();
+        loadInto(panel, "chart-category-distribution", () -> {
+            // Create dataset for the pie chart
+            DefaultPieDataset dataset = new DefaultPieDataset();
 
-        try {
             LocalDate startDate = LocalDate.now().withDayOfMonth(1);
             LocalDate endDate = LocalDate.now();
 
-            // Get category-wise expenses
-            List<Transaction> transactions = transactionService.getUserTransactions(currentUserId, startDate, endDate);
-            Map<Integer, BigDecimal> categoryExpenses = transactions.stream()
-                    .filter(t -> t.getType() == Category.TransactionType.EXPENSE)
-                    .collect(Collectors.groupingBy(
-                            Transaction::getCategoryId,
-                            Collectors.mapping(
-                                    Transaction::getAmount,
-                                    Collectors.reducing(BigDecimal.ZERO, BigDecimal::add)
-                            )
-                    ));
-
-            // Add data to dataset
-            categoryExpenses.forEach((categoryId, amount) -> {
-                try {
-                    String categoryName = categoryService.getCategoryById(categoryId).getName();
-                    dataset.setValue(categoryName, amount.doubleValue());
-                } catch (ServiceException e) {
-                    e.printStackTrace();
+            // Category-wise sums from one grouped query, as on the Category tab; categories without expenses are left out
+            CategoryTotals categorySpent = transactionService.getTransactionTotalsByCategory(currentUserId, startDate,
+                    endDate);
+            for (Category category : categoryService.getCategoriesByType(Category.TransactionType.EXPENSE)) {
+                BigDecimal spent = categorySpent.get(category.getId());
+                if (spent.signum() > 0) {
+                    dataset.setValue(category.getName(), spent.doubleValue());
                 }
-            });
-
+            }
+            return dataset;
+        }, dataset -> {
             // Create the chart
             JFreeChart pieChart = ChartFactory.createPieChart(
                     "Expense Distribution by Category",
@@ -561,12 +719,8 @@ public class DashboardPanel extends JPanel {
             // Add the chart to a panel
             ChartPanel chartPanel = new ChartPanel(pieChart);
             chartPanel.setPreferredSize(new Dimension(800, 400));
-            panel.add(chartPanel, BorderLayout.CENTER);
-
-        } catch (ServiceException e) {
-            e.printStackTrace();
-            panel.add(new JLabel("Error generating category distribution chart"), BorderLayout.CENTER);
-        }
+            return chartPanel;
+        }, "Error generating category distribution chart");
 
         return panel;
     }
@@ -574,43 +728,27 @@ public class DashboardPanel extends JPanel {
     private JPanel createIncomeExpenseComparisonPanel() {
         JPanel panel = new JPanel(new BorderLayout());
 
-        // Create dataset for the bar chart
-        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        loadInto(panel, "chart-income-expense", () -> {
+            // Create dataset for the bar chart
+            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
 
-        try {
             LocalDate startDate = LocalDate.now().minusMonths(6);
             LocalDate endDate = LocalDate.now();
 
-            // Get monthly income and expenses
-            List<Transaction> transactions = transactionService.getUserTransactions(currentUserId, startDate, endDate);
-
-            // Group transactions by month and type
-            Map<YearMonth, Map<Category.TransactionType, BigDecimal>> monthlyTransactions = transactions.stream()
-                    .collect(Collectors.groupingBy(
-                            t -> YearMonth.from(t.getTransactionDate()),
-                            Collectors.groupingBy(
-                                    Transaction::getType,
-                                    Collectors.mapping(
-                                            Transaction::getAmount,
-                                            Collectors.reducing(BigDecimal.ZERO, BigDecimal::add)
-                                    )
-                            )
-                    ));
+            // Get monthly income and expenses; both series have the same months
+            TimeSeries monthlyIncome = transactionService.getTransactionTotalsByBucket(currentUserId, startDate,
+                    endDate, Granularity.MONTH, Category.TransactionType.INCOME, null);
+            TimeSeries monthlyExpenses = transactionService.getTransactionTotalsByBucket(currentUserId, startDate,
+                    endDate, Granularity.MONTH, Category.TransactionType.EXPENSE, null);
 
             // Add data to dataset
-            monthlyTransactions.forEach((month, typeMap) -> {
-                dataset.addValue(
-                        typeMap.getOrDefault(Category.TransactionType.INCOME, BigDecimal.ZERO).doubleValue(),
-                        "Income",
-                        month.toString()
-                );
-                dataset.addValue(
-                        typeMap.getOrDefault(Category.TransactionType.EXPENSE, BigDecimal.ZERO).doubleValue(),
-                        "Expenses",
-                        month.toString()
-                );
-            });
-
+            for (int i = 0; i < monthlyIncome.size(); i++) {
+                String month = monthlyIncome.getLabel(i);
+                dataset.addValue(Money.toDouble(monthlyIncome.getTotalMinor(i)), "Income", month);
+                dataset.addValue(Money.toDouble(monthlyExpenses.getTotalMinor(i)), "Expenses", month);
+            }
+            return dataset;
+        }, dataset -> {
             // Create the chart
             JFreeChart barChart = ChartFactory.createBarChart(
                     "Income vs Expenses Comparison",
@@ -635,12 +773,8 @@ public class DashboardPanel extends JPanel {
             // Add the chart to a panel
             ChartPanel chartPanel = new ChartPanel(barChart);
             chartPanel.setPreferredSize(new Dimension(800, 400));
-            panel.add(chartPanel, BorderLayout.CENTER);
-
-        } catch (ServiceException e) {
-            e.printStackTrace();
-            panel.add(new JLabel("Error generating income vs expenses chart"), BorderLayout.CENTER);
-        }
+            return chartPanel;
+        }, "Error generating income vs expenses chart");
 
         return panel;
     }
@@ -648,22 +782,23 @@ public class DashboardPanel extends JPanel {
     private JPanel createBudgetAnalysisPanel() {
         JPanel panel = new JPanel(new BorderLayout());
 
-        // Create dataset for the bar chart
-        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        loadInto(panel, "chart-budget-analysis", () -> {
+            // Create dataset for the bar chart
+            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
 
-        try {
             // Get all budgets and their status
             List<BudgetStatus> budgetStatuses = budgetService.checkAllBudgets(currentUserId);
 
             // Add data to dataset
             for (BudgetStatus status : budgetStatuses) {
                 Budget budget = status.getBudget();
-                String categoryName = categoryService.getCategoryById(budget.getCategoryId()).getName();
+                String categoryName = status.getCategoryName();
 
                 dataset.addValue(budget.getAmount().doubleValue(), "Budget", categoryName);
                 dataset.addValue(status.getSpent().doubleValue(), "Spent", categoryName);
             }
-
+            return dataset;
+        }, dataset -> {
             // Create the chart
             JFreeChart barChart = ChartFactory.createBarChart(
                     "Budget vs Actual Spending",
@@ -688,12 +823,8 @@ public class DashboardPanel extends JPanel {
             // Add the chart to a panel
             ChartPanel chartPanel = new ChartPanel(barChart);
             chartPanel.setPreferredSize(new Dimension(800, 400));
-            panel.add(chartPanel, BorderLayout.CENTER);
-
-        } catch (ServiceException e) {
-            e.printStackTrace();
-            panel.add(new JLabel("Error generating budget analysis chart"), BorderLayout.CENTER);
-        }
+            return chartPanel;
+        }, "Error generating budget analysis chart");
 
         return panel;
     }
@@ -703,22 +834,17 @@ public class DashboardPanel extends JPanel {
         LocalDate startDate = fromDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
         LocalDate endDate = toDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
 
-        try {
-            // Get transactions for the selected period
-            List<Transaction> transactions = transactionService.getUserTransactions(currentUserId, startDate, endDate);
-
-            // Calculate summaries
-            BigDecimal totalIncome = transactions.stream()
-                    .filter(t -> t.getType() == Category.TransactionType.INCOME)
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        loader.load("report", () -> {
+            // Served by the result cache, the sum index or the daily rollup; no transaction rows are read
+            return new Money[] {
+                    Money.of(transactionService.calculateIncome(currentUserId, startDate, endDate)),
+                    Money.of(transactionService.calculateExpenses(currentUserId, startDate, endDate))
+            };
+        }, totals -> {
+            Money totalIncome = totals[0];
+            Money totalExpenses = totals[1];
 
-            BigDecimal totalExpenses = transactions.stream()
-                    .filter(t -> t.getType() == Category.TransactionType.EXPENSE)
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal netSavings = totalIncome.subtract(totalExpenses);
+            Money netSavings = totalIncome.minus(totalExpenses);
 
             // Create and show report dialog
             StringBuilder report = new StringBuilder();
@@ -740,20 +866,18 @@ public class DashboardPanel extends JPanel {
                     scrollPane,
                     "Financial Report",
                     JOptionPane.INFORMATION_MESSAGE);
-
-        } catch (ServiceException e) {
+        }, e -> {
             e.printStackTrace();
             JOptionPane.showMessageDialog(this,
                     "Error generating report: " + e.getMessage(),
                     "Error",
                     JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
 
     public void refreshReportsPanel() {
-        JPanel reportPanel = (JPanel) tabbedPane.getComponentAt(4);
-        reportPanel.removeAll();
-        reportPanel.add(createReportsPanel());
+        staleTabs.add(Tab.REPORTS);
+        showSelectedTab();
     }
 
     private JPanel createAccountPanel() {
@@ -771,37 +895,28 @@ public class DashboardPanel extends JPanel {
         gbc.insets = new Insets(5, 10, 5, 10);
         gbc.anchor = GridBagConstraints.WEST;
 
-        try {
-            Optional<User> user = userDAO.findById(currentUserId);
-            if (user.isPresent()) {
-                JLabel nameLabel = new JLabel("Name: ");
-                JLabel nameValue = new JLabel(user.get().getUsername());
-                JLabel emailLabel = new JLabel("Email: ");
-                JLabel emailValue = new JLabel(user.get().getEmail());
-
-                nameLabel.setFont(defaultFont.deriveFont(Font.BOLD, 16));
-                emailLabel.setFont(defaultFont.deriveFont(Font.BOLD, 16));
-                nameValue.setFont(defaultFont.deriveFont(Font.PLAIN, 16));
-                emailValue.setFont(defaultFont.deriveFont(Font.PLAIN, 16));
-
-                gbc.gridx = 0;
-                gbc.gridy = 0;
-                userInfoPanel.add(nameLabel, gbc);
-                gbc.gridx = 1;
-                userInfoPanel.add(nameValue, gbc);
-
-                gbc.gridx = 0;
-                gbc.gridy = 1;
-                userInfoPanel.add(emailLabel, gbc);
-                gbc.gridx = 1;
-                userInfoPanel.add(emailValue, gbc);
-            }
-        } catch (SQLException e) {
-            System.err.println("Error getting user information");
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(this, "Error loading user information: " + e.getMessage(), "Error",
-                    JOptionPane.ERROR_MESSAGE);
-        }
+        // The value labels are filled in once the user has been read
+        JLabel nameLabel = new JLabel("Name: ");
+        JLabel nameValue = new JLabel("Loading...");
+        JLabel emailLabel = new JLabel("Email: ");
+        JLabel emailValue = new JLabel("Loading...");
+
+        nameLabel.setFont(defaultFont.deriveFont(Font.BOLD, 16));
+        emailLabel.setFont(defaultFont.deriveFont(Font.BOLD, 16));
+        nameValue.setFont(defaultFont.deriveFont(Font.PLAIN, 16));
+        emailValue.setFont(defaultFont.deriveFont(Font.PLAIN, 16));
+
+        gbc.gridx = 0;
+        gbc.gridy = 0;
+        userInfoPanel.add(nameLabel, gbc);
+        gbc.gridx = 1;
+        userInfoPanel.add(nameValue, gbc);
+
+        gbc.gridx = 0;
+        gbc.gridy = 1;
+        userInfoPanel.add(emailLabel, gbc);
+        gbc.gridx = 1;
+        userInfoPanel.add(emailValue, gbc);
 
         // Buttons Panel
         JPanel buttonPanel = new JPanel();
@@ -833,6 +948,7 @@ public class DashboardPanel extends JPanel {
         panel.add(userInfoPanel, BorderLayout.NORTH);
         panel.add(buttonPanel, BorderLayout.SOUTH);
 
+        loadProfile(nameValue, emailValue);
         return panel;
     }
 
@@ -841,77 +957,31 @@ public class DashboardPanel extends JPanel {
                 (JFrame) SwingUtilities.getWindowAncestor(this),
                 currentUserId);
         dialog.setVisible(true);
-
-        if (dialog.isTransactionAdded()) {
-            refreshPanels();
-        }
-    }
-
-    private Object[][] getTransactions() {
-        LocalDate startDate = LocalDate.of(1970, 1, 1);
-        LocalDate endDate = LocalDate.now();
-        try {
-            List<Transaction> transactions = transactionService.getUserTransactions(
-                    currentUserId, startDate, endDate);
-            Object[][] data = new Object[transactions.size()][4];
-            for (int i = 0; i < transactions.size(); i++) {
-                Transaction transaction = transactions.get(i);
-                data[i][0] = transaction.getTransactionDate().toString();
-                data[i][1] = categoryService.getCategoryById(transaction.getCategoryId()).getName();
-                data[i][2] = transaction;
-                data[i][3] = transaction.getDescription();
-            }
-            return data;
-        } catch (ServiceException e) {
-            System.err.println("Error getting transactions");
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(this,
-                    "Error loading transactions: " + e.getMessage(),
-                    "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            return new Object[0][];
-        }
     }
 
     private void showEditTransactionDialog() {
-        JPanel panel = (JPanel) tabbedPane.getComponentAt(1);
-        JTable table = (JTable) ((JScrollPane) panel.getComponent(1)).getViewport().getView();
+        JTable table = transactionsTable;
         int selectedRow = table.getSelectedRow();
         if (selectedRow == -1) {
             selectedRow = 1;
         }
 
-        try {
-            Transaction transaction = (Transaction) table.getValueAt(selectedRow, 2);
-            LocalDate date = LocalDate.parse((String) table.getValueAt(selectedRow, 0));
-            Category category = categoryService.getCategoriesByName((String) table.getValueAt(selectedRow, 1)).get();
-            Category.TransactionType type = transaction.getType();
-            BigDecimal amount = (BigDecimal) transaction.getAmount();
-            String description = (String) table.getValueAt(selectedRow, 3);
-
-            List<Transaction> transactions = transactionService.getUserTransactions(currentUserId, date, date);
-            Transaction transactionToEdit = transactions.stream()
-                    .filter(t -> t.getAmount().equals(amount) && t.getDescription().equals(description)
-                    && t.getType().equals(type) && t.getCategoryId().equals(category.getId()))
-                    .findFirst()
-                    .orElseThrow(() -> new ServiceException("Transaction not found"));
-
-            EditTransactionDialog dialog = new EditTransactionDialog(
-                    (JFrame) SwingUtilities.getWindowAncestor(this),
-                    currentUserId,
-                    transactionToEdit);
-            dialog.setVisible(true);
-
-            if (dialog.isTransactionUpdated()) {
-                refreshPanels();
-            }
-        } catch (ServiceException e) {
-            System.err.println("Error editing transaction: " + e.getCause().getMessage());
+        // The model row already holds the full transaction, so there is nothing to look up
+        Transaction cached = ((TransactionTableModel) table.getModel()).getTransactionAt(selectedRow);
+        if (cached == null) {
             JOptionPane.showMessageDialog(this,
-                    "Error editing transaction: " + e.getMessage(),
+                    "Error editing transaction: Transaction not found",
                     "Error",
                     JOptionPane.ERROR_MESSAGE);
+            return;
         }
+
+        // The dialog edits a copy; the table only changes once the saved row is reloaded
+        EditTransactionDialog dialog = new EditTransactionDialog(
+                (JFrame) SwingUtilities.getWindowAncestor(this),
+                currentUserId,
+                new Transaction(cached));
+        dialog.setVisible(true);
     }
 
     private void showAddBudgetDialog() {
@@ -919,43 +989,27 @@ public class DashboardPanel extends JPanel {
                 (JFrame) SwingUtilities.getWindowAncestor(this),
                 currentUserId);
         dialog.setVisible(true);
-
-        if (dialog.isBudgetAdded()) {
-            refreshPanels();
-        }
     }
 
-    private Object[][] getBudgets() {
-        try {
-            List<BudgetStatus> budgets = budgetService.checkAllBudgets(currentUserId);
-            Object[][] data = new Object[budgets.size()][5];
-
-            for (int i = 0; i < budgets.size(); i++) {
-                BudgetStatus budgetStatus = budgets.get(i);
-                Budget budget = budgetStatus.getBudget();
-                int categoryId = budget.getCategoryId();
-                String categoryName = categoryService.getCategoryById(categoryId).getName();
-                data[i][0] = categoryName;
-                data[i][1] = "₹" + budget.getAmount().toString();
-                data[i][2] = "₹" + budgetStatus.getSpent().toString();
-                data[i][3] = budgetStatus.getPercentageUsed();
-                data[i][4] = budget.getPeriod().name();
-            }
-            return data;
-        } catch (ServiceException e) {
-            System.err.println("Error getting budgets: " + e.getCause().getMessage());
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(this,
-                    "Error loading budgets: " + e.getMessage(),
-                    "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            return new Object[0][];
+    // Runs on the loader thread
+    private Object[][] getBudgets() throws ServiceException {
+        List<BudgetStatus> budgets = budgetService.checkAllBudgets(currentUserId);
+        Object[][] data = new Object[budgets.size()][5];
+
+        for (int i = 0; i < budgets.size(); i++) {
+            BudgetStatus budgetStatus = budgets.get(i);
+            Budget budget = budgetStatus.getBudget();
+            data[i][0] = budgetStatus.getCategoryName();
+            data[i][1] = "₹" + budget.getAmount().toString();
+            data[i][2] = "₹" + budgetStatus.getSpent().toString();
+            data[i][3] = budgetStatus.getPercentageUsed();
+            data[i][4] = budget.getPeriod().name();
         }
+        return data;
     }
 
     private void showEditBudgetDialog() {
-        JPanel panel = (JPanel) tabbedPane.getComponentAt(2);
-        JTable table = (JTable) ((JScrollPane) panel.getComponent(1)).getViewport().getView();
+        JTable table = budgetTable;
         int selectedRow = table.getSelectedRow();
         if (selectedRow == -1) {
             selectedRow = 1;
@@ -965,33 +1019,33 @@ public class DashboardPanel extends JPanel {
         BigDecimal amount = (BigDecimal) new BigDecimal(((String) table.getValueAt(selectedRow, 1)).substring(1));
         Budget.BudgetPeriod period = Budget.BudgetPeriod.valueOf((String) table.getValueAt(selectedRow, 4));
 
-        try {
+        loader.load("edit-budget", () -> {
             Optional<Category> category = categoryService.getCategoriesByName(categoryName);
-            if (category.isPresent()) {
-                List<Budget> budgets = budgetService.getUserBudgets(currentUserId);
-                Budget budgetToEdit = budgets.stream()
-                        .filter(b -> Objects.equals(b.getCategoryId(), category.get().getId())
-                        && b.getAmount().equals(amount) && b.getPeriod().equals(period))
-                        .findFirst()
-                        .orElseThrow(() -> new ServiceException("Budget not found"));
-
-                EditBudgetDialog dialog = new EditBudgetDialog(
-                        (JFrame) SwingUtilities.getWindowAncestor(this),
-                        currentUserId,
-                        budgetToEdit);
-                dialog.setVisible(true);
-
-                if (dialog.isBudgetUpdated()) {
-                    refreshPanels();
-                }
+            if (category.isEmpty()) {
+                return Optional.<Budget>empty();
             }
-        } catch (ServiceException ex) {
-            System.err.println("Error editing budget: " + ex.getCause().getMessage());
+            List<Budget> budgets = budgetService.getUserBudgets(currentUserId);
+            return Optional.of(budgets.stream()
+                    .filter(b -> Objects.equals(b.getCategoryId(), category.get().getId())
+                    && b.getAmount().equals(amount) && b.getPeriod().equals(period))
+                    .findFirst()
+                    .orElseThrow(() -> new ServiceException("Budget not found")));
+        }, budgetToEdit -> {
+            if (budgetToEdit.isEmpty()) {
+                return;
+            }
+            EditBudgetDialog dialog = new EditBudgetDialog(
+                    (JFrame) SwingUtilities.getWindowAncestor(this),
+                    currentUserId,
+                    budgetToEdit.get());
+            dialog.setVisible(true);
+        }, ex -> {
+            System.err.println("Error editing budget: " + ex.getMessage());
             JOptionPane.showMessageDialog(this,
                     "Error editing budget: " + ex.getMessage(),
                     "Error",
                     JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
 
     private void showAddCategoryDialog() {
@@ -999,35 +1053,22 @@ public class DashboardPanel extends JPanel {
                 (JFrame) SwingUtilities.getWindowAncestor(this),
                 currentUserId);
         dialog.setVisible(true);
-
-        if (dialog.isCategoryAdded()) {
-            refreshPanels();
-        }
     }
 
-    private Object[][] getCategories() {
-        try {
-            List<Category> categories = categoryService.getAllCategories();
-            List<BigDecimal> categorySpent = transactionService.getTransactionTotalsByCategory(currentUserId,
-                    LocalDate.now().withDayOfMonth(1), LocalDate.now().with(TemporalAdjusters.lastDayOfMonth()));
-            Object[][] data = new Object[categories.size()][3];
-
-            for (int i = 0; i < categories.size(); i++) {
-                Category category = categories.get(i);
-                data[i][0] = category.getName();
-                data[i][1] = category.getType().name();
-                data[i][2] = "₹" + categorySpent.get(i).toString();
-            }
-            return data;
-        } catch (ServiceException e) {
-            System.err.println("Error getting categories: " + e.getCause().getMessage());
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(this,
-                    "Error loading categories: " + e.getMessage(),
-                    "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            return new Object[0][];
+    // Runs on the loader thread
+    private Object[][] getCategories() throws ServiceException {
+        List<Category> categories = categoryService.getAllCategories();
+        CategoryTotals categorySpent = transactionService.getTransactionTotalsByCategory(currentUserId,
+                LocalDate.now().withDayOfMonth(1), LocalDate.now().with(TemporalAdjusters.lastDayOfMonth()));
+        Object[][] data = new Object[categories.size()][3];
+
+        for (int i = 0; i < categories.size(); i++) {
+            Category category = categories.get(i);
+            data[i][0] = category.getName();
+            data[i][1] = category.getType().name();
+            data[i][2] = "₹" + categorySpent.get(category.getId()).toString();
         }
+        return data;
     }
 
     private void showEditProfileDialog() {
@@ -1037,23 +1078,22 @@ public class DashboardPanel extends JPanel {
         dialog.setVisible(true);
 
         if (dialog.isProfileUpdated()) {
-            refreshProfile();
+            dataChanged(Data.PROFILE);
         }
     }
 
-    private void refreshProfile() {
-        // Update profile
-        JPanel profilePanel = (JPanel) tabbedPane.getComponentAt(5);
-        JPanel userInfoPanel = (JPanel) profilePanel.getComponent(0);
-        JLabel nameLabel = (JLabel) userInfoPanel.getComponent(1);
-        JLabel emailLabel = (JLabel) userInfoPanel.getComponent(3);
-        try {
-            Optional<User> user = userDAO.findById(currentUserId);
-            nameLabel.setText(user.get().getUsername());
-            emailLabel.setText(user.get().getEmail());
-        } catch (SQLException e) {
+    private void loadProfile(JLabel nameLabel, JLabel emailLabel) {
+        loader.load("account", () -> userDAO.findById(currentUserId), user -> {
+            user.ifPresent(u -> {
+                nameLabel.setText(u.getUsername());
+                emailLabel.setText(u.getEmail());
+            });
+        }, e -> {
+            System.err.println("Error getting user information");
             e.printStackTrace();
-        }
+            JOptionPane.showMessageDialog(this, "Error loading user information: " + e.getMessage(), "Error",
+                    JOptionPane.ERROR_MESSAGE);
+        });
     }
 
     private void showChangePasswordDialog() {
@@ -1067,20 +1107,6 @@ public class DashboardPanel extends JPanel {
         }
     }
 
-    private void refreshPanels() {
-        tabbedPane.removeAll();
-
-        // Add tabs
-        tabbedPane.addTab("Overview", createOverviewPanel());
-        tabbedPane.addTab("Transactions", createTransactionsPanel());
-        tabbedPane.addTab("Budget", createBudgetPanel());
-        tabbedPane.addTab("Category", createCategoryPanel());
-        tabbedPane.addTab("Reports", createReportsPanel());
-        tabbedPane.addTab("Account", createAccountPanel());
-
-        add(tabbedPane, BorderLayout.CENTER);
-    }
-
     private void handleLogout() {
         int result = JOptionPane.showConfirmDialog(this,
                 "Are you sure you want to logout?",
@@ -1088,10 +1114,48 @@ public class DashboardPanel extends JPanel {
                 JOptionPane.YES_NO_OPTION);
 
         if (result == JOptionPane.YES_OPTION) {
+            eventSubscription.close();
+            eventSubscription = null;
+            loader.cancelAll();
+            TransactionSumIndex.getInstance().unload();
+            QueryResultCache.getInstance().clear();
             mainWindow.showLogin();
         }
     }
 
+    /**
+     * Shows a placeholder in the centre of the container, runs the query on the
+     * loader and replaces the placeholder with the component built from its
+     * result, or with an error label if the query fails.
+     */
+    private <T> void loadInto(JPanel container, String key, Callable<T> query, Function<T, Component> view,
+            String errorMessage) {
+        JLabel placeholder = new JLabel("Loading...", SwingConstants.CENTER);
+        container.add(placeholder, BorderLayout.CENTER);
+        loader.load(key, query, result -> showLoaded(container, placeholder, view.apply(result)), e -> {
+            System.err.println(errorMessage + ": " + e.getMessage());
+            e.printStackTrace();
+            showLoaded(container, placeholder, new JLabel(errorMessage, SwingConstants.CENTER));
+        });
+    }
+
+    private static void showLoaded(JPanel container, Component placeholder, Component content) {
+        container.remove(placeholder);
+        container.add(content, BorderLayout.CENTER);
+        container.revalidate();
+        container.repaint();
+    }
+
+    // Everything the overview tab reads, gathered off the EDT in one go
+    private static class OverviewData {
+        private String userName;
+        private BigDecimal monthIncome;
+        private BigDecimal monthExpenses;
+        private BigDecimal monthBalance;
+        private BigDecimal totalBalance;
+        private List<TransactionRow> recentTransactions;
+    }
+
     class AmountCellRenderer extends DefaultTableCellRenderer {
 
         public AmountCellRenderer() {
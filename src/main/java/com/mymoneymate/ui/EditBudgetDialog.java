@@ -36,6 +36,9 @@ public class EditBudgetDialog extends JDialog {
 	private final JComboBox<Budget.BudgetPeriod> periodComboBox;
 	private final JTextField startDateField;
 	private final JTextField endDateField;
+	private final JButton saveButton;
+	private final JButton deleteButton;
+	private final BackgroundLoader loader = new BackgroundLoader();
 	private boolean budgetUpdated = false;
 
 	public EditBudgetDialog(JFrame parent, Integer userId, Budget oldBudget) {
@@ -118,8 +121,8 @@ public class EditBudgetDialog extends JDialog {
 
 		// Buttons
 		JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-		JButton saveButton = new JButton("Save");
-		JButton deleteButton = new JButton("Delete");
+		saveButton = new JButton("Save");
+		deleteButton = new JButton("Delete");
 		JButton cancelButton = new JButton("Cancel");
 
 		// Style the buttons
@@ -146,55 +149,55 @@ public class EditBudgetDialog extends JDialog {
 	}
 
 	private void handleSave() {
+		BigDecimal amount;
 		try {
-			BigDecimal amount;
-			try {
-				amount = new BigDecimal(amountField.getText().trim());
-				if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-					throw new NumberFormatException("Amount must be positive");
-				}
-			} catch (NumberFormatException e) {
-				JOptionPane.showMessageDialog(this, "Please enter a valid positive amount", "Invalid Amount",
-						JOptionPane.ERROR_MESSAGE);
-				return;
+			amount = new BigDecimal(amountField.getText().trim());
+			if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+				throw new NumberFormatException("Amount must be positive");
 			}
+		} catch (NumberFormatException e) {
+			JOptionPane.showMessageDialog(this, "Please enter a valid positive amount", "Invalid Amount",
+					JOptionPane.ERROR_MESSAGE);
+			return;
+		}
 
-			LocalDate startDate;
-			LocalDate endDate;
-			try {
-				startDate = LocalDate.parse(startDateField.getText().trim());
-				endDate = endDateField.getText().trim().isEmpty() ? null
-						: LocalDate.parse(endDateField.getText().trim());
-				if (endDate != null && startDate.isAfter(endDate)) {
-					JOptionPane.showMessageDialog(this, "Start date cannot be after end date", "Invalid Date",
-							JOptionPane.ERROR_MESSAGE);
-					return;
-				}
-			} catch (DateTimeParseException e) {
-				JOptionPane.showMessageDialog(this, "Please enter a valid date in YYYY-MM-DD format", "Invalid Date",
+		LocalDate startDate;
+		LocalDate endDate;
+		try {
+			startDate = LocalDate.parse(startDateField.getText().trim());
+			endDate = endDateField.getText().trim().isEmpty() ? null
+					: LocalDate.parse(endDateField.getText().trim());
+			if (endDate != null && startDate.isAfter(endDate)) {
+				JOptionPane.showMessageDialog(this, "Start date cannot be after end date", "Invalid Date",
 						JOptionPane.ERROR_MESSAGE);
 				return;
 			}
+		} catch (DateTimeParseException e) {
+			JOptionPane.showMessageDialog(this, "Please enter a valid date in YYYY-MM-DD format", "Invalid Date",
+					JOptionPane.ERROR_MESSAGE);
+			return;
+		}
 
-			Budget.BudgetPeriod period = (Budget.BudgetPeriod) periodComboBox.getSelectedItem();
+		Budget.BudgetPeriod period = (Budget.BudgetPeriod) periodComboBox.getSelectedItem();
 
-			// Update the budget
-			budget.setAmount(amount);
-			budget.setPeriod(period);
-			budget.setStartDate(startDate);
-			budget.setEndDate(endDate);
+		// Update the budget
+		budget.setAmount(amount);
+		budget.setPeriod(period);
+		budget.setStartDate(startDate);
+		budget.setEndDate(endDate);
 
-			budgetService.updateBudget(budget);
+		setButtonsEnabled(false);
+		loader.run("save", () -> budgetService.updateBudget(budget), () -> {
 			budgetUpdated = true;
 			dispose();
-
-		} catch (ServiceException e) {
-			System.err.println("Error saving budget: " + e.getCause().getMessage());
+		}, e -> {
+			setButtonsEnabled(true);
+			System.err.println("Error saving budget: " + e.getMessage());
 			JOptionPane.showMessageDialog(this,
 					"Error saving budget: " + e.getMessage(),
 					"Error",
 					JOptionPane.ERROR_MESSAGE);
-		}
+		});
 	}
 
 	private void handleDelete() {
@@ -207,17 +210,24 @@ public class EditBudgetDialog extends JDialog {
 			return;
 		}
 
-		try {
-			budgetService.deleteBudget(budget.getId());
+		setButtonsEnabled(false);
+		loader.run("delete", () -> budgetService.deleteBudget(budget.getId()), () -> {
 			budgetUpdated = true;
 			dispose();
-		} catch (ServiceException e) {
-			System.err.println("Error deleting budget: " + e.getCause().getMessage());
+		}, e -> {
+			setButtonsEnabled(true);
+			System.err.println("Error deleting budget: " + e.getMessage());
 			JOptionPane.showMessageDialog(this,
 					"Error deleting budget: " + e.getMessage(),
 					"Error",
 					JOptionPane.ERROR_MESSAGE);
-		}
+		});
+	}
+
+	// Only one write at a time while the dialog waits for the database
+	private void setButtonsEnabled(boolean enabled) {
+		saveButton.setEnabled(enabled);
+		deleteButton.setEnabled(enabled);
 	}
 
 	public boolean isBudgetUpdated() {
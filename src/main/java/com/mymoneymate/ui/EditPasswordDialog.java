@@ -18,7 +18,6 @@ import javax.swing.JPasswordField;
 import javax.swing.JTextField;
 
 import com.mymoneymate.services.UserService;
-import com.mymoneymate.services.exceptions.ServiceException;
 
 public class EditPasswordDialog extends JDialog {
 
@@ -27,6 +26,8 @@ public class EditPasswordDialog extends JDialog {
     private final JTextField oldPasswordField;
     private final JTextField passwordField;
     private final JTextField confirmPasswordField;
+    private final JButton saveButton;
+    private final BackgroundLoader loader = new BackgroundLoader();
     private boolean passwordUpdated = false;
 
     public EditPasswordDialog(JFrame parent, Integer userId) {
@@ -70,7 +71,7 @@ public class EditPasswordDialog extends JDialog {
         // Buttons Panel
         JPanel buttonPanel;
         buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-        JButton saveButton = new JButton("Save");
+        saveButton = new JButton("Save");
         JButton cancelButton = new JButton("Cancel");
         cancelButton.setForeground(Color.RED);
 
@@ -91,28 +92,32 @@ public class EditPasswordDialog extends JDialog {
     }
 
     private void handleSave() {
-        try {
-            String oldPassword = oldPasswordField.getText().trim();
-            String newPassword = passwordField.getText().trim();
-            String confirmPassword = confirmPasswordField.getText().trim();
-
-            if (oldPassword.isEmpty() || newPassword.isEmpty() || confirmPassword.isEmpty()) {
-                JOptionPane.showMessageDialog(this, "All fields are required", "Error", JOptionPane.ERROR_MESSAGE);
-                return;
-            }
-            if (newPassword.equals(confirmPassword)) {
-                if (userService.updatePassword(currentUserId, newPassword, oldPassword)) {
+        String oldPassword = oldPasswordField.getText().trim();
+        String newPassword = passwordField.getText().trim();
+        String confirmPassword = confirmPasswordField.getText().trim();
+
+        if (oldPassword.isEmpty() || newPassword.isEmpty() || confirmPassword.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "All fields are required", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        if (newPassword.equals(confirmPassword)) {
+            // Checking the old password reads and writes the users table, so it runs off the EDT
+            saveButton.setEnabled(false);
+            loader.load("save", () -> userService.updatePassword(currentUserId, newPassword, oldPassword), updated -> {
+                if (updated) {
                     passwordUpdated = true;
                     JOptionPane.showMessageDialog(this, "Password updated successfully", "Success", JOptionPane.INFORMATION_MESSAGE);
                     dispose();
                 } else {
+                    saveButton.setEnabled(true);
                     JOptionPane.showMessageDialog(this, "Password update failed", "Error", JOptionPane.ERROR_MESSAGE);
                 }
-            } else {
-                JOptionPane.showMessageDialog(this, "Passwords do not match", "Error", JOptionPane.ERROR_MESSAGE);
-            }
-        } catch (ServiceException e) {
-            JOptionPane.showMessageDialog(this, "Error updating password: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }, e -> {
+                saveButton.setEnabled(true);
+                JOptionPane.showMessageDialog(this, "Error updating password: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            });
+        } else {
+            JOptionPane.showMessageDialog(this, "Passwords do not match", "Error", JOptionPane.ERROR_MESSAGE);
         }
     }
 
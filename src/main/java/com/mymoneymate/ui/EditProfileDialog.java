@@ -6,8 +6,6 @@ import java.awt.FlowLayout;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
-import java.sql.SQLException;
-import java.util.Optional;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -27,6 +25,10 @@ public class EditProfileDialog extends JDialog {
     private final UserDAO userDAO;
     private final JTextField emailField;
     private final JTextField usernameField;
+    private final JButton saveButton;
+    private final BackgroundLoader loader = new BackgroundLoader();
+    // Read by loadUserData; saving stays disabled until it is there
+    private User user;
     private boolean profileUpdated = false;
 
     public EditProfileDialog(JFrame parent, Integer userId) {
@@ -59,11 +61,10 @@ public class EditProfileDialog extends JDialog {
         gbc.gridx = 1;
         mainPanel.add(emailField, gbc);
 
-        loadUserData();
-
         // Buttons Panel
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-        JButton saveButton = new JButton("Save");
+        saveButton = new JButton("Save");
+        saveButton.setEnabled(false);
         JButton cancelButton = new JButton("Cancel");
         cancelButton.setForeground(Color.RED);
 
@@ -77,6 +78,8 @@ public class EditProfileDialog extends JDialog {
         add(mainPanel, BorderLayout.CENTER);
         add(buttonPanel, BorderLayout.SOUTH);
 
+        loadUserData();
+
         // Set dialog properties
         pack();
         setLocationRelativeTo(parent);
@@ -84,46 +87,45 @@ public class EditProfileDialog extends JDialog {
     }
 
     private void loadUserData() {
-        try {
-            userDAO.findById(currentUserId).ifPresent(user -> {
-                usernameField.setText(user.getUsername());
-                emailField.setText(user.getEmail());
-            });
-        } catch (SQLException e) {
-            JOptionPane.showMessageDialog(this, "Error loading user data: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        loader.load("user", () -> userDAO.findById(currentUserId), loaded -> loaded.ifPresent(user -> {
+            this.user = user;
+            usernameField.setText(user.getUsername());
+            emailField.setText(user.getEmail());
+            saveButton.setEnabled(true);
+        }), e -> JOptionPane.showMessageDialog(this, "Error loading user data: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
     }
 
     private void handleSave() {
-        try {
-            String newUsername = usernameField.getText().trim();
-            String newEmail = emailField.getText().trim();
+        String newUsername = usernameField.getText().trim();
+        String newEmail = emailField.getText().trim();
 
-            if (newUsername.isEmpty() || newEmail.isEmpty()) {
-                JOptionPane.showMessageDialog(this, "Username and Email cannot be empty", "Invalid Input", JOptionPane.WARNING_MESSAGE);
-                return;
-            }
+        if (newUsername.isEmpty() || newEmail.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Username and Email cannot be empty", "Invalid Input", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
 
-            Optional<User> userOptional = userDAO.findById(currentUserId);
-            if (userOptional.isEmpty()) {
-                JOptionPane.showMessageDialog(this, "User not found", "Error", JOptionPane.ERROR_MESSAGE);
-                return;
-            }
+        if (user == null) {
+            JOptionPane.showMessageDialog(this, "User not found", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
 
-            User user = userOptional.get();
-            user.setUsername(newUsername);
-            user.setEmail(newEmail);
+        user.setUsername(newUsername);
+        user.setEmail(newEmail);
 
-            if (userDAO.update(user)) {
+        saveButton.setEnabled(false);
+        loader.load("save", () -> userDAO.update(user), updated -> {
+            if (updated) {
                 profileUpdated = true;
                 JOptionPane.showMessageDialog(this, "Profile updated successfully", "Success", JOptionPane.INFORMATION_MESSAGE);
                 dispose();
             } else {
+                saveButton.setEnabled(true);
                 JOptionPane.showMessageDialog(this, "Failed to update profile", "Error", JOptionPane.ERROR_MESSAGE);
             }
-        } catch (SQLException e) {
+        }, e -> {
+            saveButton.setEnabled(true);
             JOptionPane.showMessageDialog(this, "Error updating profile: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
 
     public boolean isProfileUpdated() {
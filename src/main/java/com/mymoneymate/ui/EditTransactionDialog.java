@@ -40,6 +40,9 @@ public class EditTransactionDialog extends JDialog {
     private final JTextArea descriptionArea;
     private final JComboBox<Category> categoryComboBox;
     private final JComboBox<Category.TransactionType> typeComboBox;
+    private final JButton saveButton;
+    private final JButton deleteButton;
+    private final BackgroundLoader loader = new BackgroundLoader();
     private boolean transactionUpdated = false;
 
     public EditTransactionDialog(JFrame parent, Integer userId, Transaction transaction) {
@@ -121,8 +124,8 @@ public class EditTransactionDialog extends JDialog {
 
         // Buttons
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-        JButton saveButton = new JButton("Save");
-        JButton deleteButton = new JButton("Delete");
+        saveButton = new JButton("Save");
+        deleteButton = new JButton("Delete");
         JButton cancelButton = new JButton("Cancel");
 
         // Style the buttons
@@ -165,62 +168,62 @@ public class EditTransactionDialog extends JDialog {
     }
 
     private void handleSave() {
+        // Validate amount
+        BigDecimal amount;
         try {
-            // Validate amount
-            BigDecimal amount;
-            try {
-                amount = new BigDecimal(amountField.getText().trim());
-                if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-                    throw new NumberFormatException("Amount must be positive");
-                }
-            } catch (NumberFormatException e) {
-                JOptionPane.showMessageDialog(this,
-                        "Please enter a valid positive amount",
-                        "Invalid Amount",
-                        JOptionPane.ERROR_MESSAGE);
-                return;
+            amount = new BigDecimal(amountField.getText().trim());
+            if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+                throw new NumberFormatException("Amount must be positive");
             }
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this,
+                    "Please enter a valid positive amount",
+                    "Invalid Amount",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
 
-            // Validate date
-            LocalDate date;
-            try {
-                date = LocalDate.parse(dateField.getText().trim());
-            } catch (DateTimeParseException e) {
-                JOptionPane.showMessageDialog(this,
-                        "Please enter a valid date in YYYY-MM-DD format",
-                        "Invalid Date",
-                        JOptionPane.ERROR_MESSAGE);
-                return;
-            }
+        // Validate date
+        LocalDate date;
+        try {
+            date = LocalDate.parse(dateField.getText().trim());
+        } catch (DateTimeParseException e) {
+            JOptionPane.showMessageDialog(this,
+                    "Please enter a valid date in YYYY-MM-DD format",
+                    "Invalid Date",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
 
-            // Get selected category
-            Category category = (Category) categoryComboBox.getSelectedItem();
-            if (category == null) {
-                JOptionPane.showMessageDialog(this,
-                        "Please select a category",
-                        "Invalid Category",
-                        JOptionPane.ERROR_MESSAGE);
-                return;
-            }
+        // Get selected category
+        Category category = (Category) categoryComboBox.getSelectedItem();
+        if (category == null) {
+            JOptionPane.showMessageDialog(this,
+                    "Please select a category",
+                    "Invalid Category",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
 
-            // Update the transaction
-            transaction.setAmount(amount);
-            transaction.setCategoryId(category.getId());
-            transaction.setDescription(descriptionArea.getText().trim());
-            transaction.setTransactionDate(date);
-            transaction.setType((Category.TransactionType) typeComboBox.getSelectedItem());
+        // Update the transaction
+        transaction.setAmount(amount);
+        transaction.setCategoryId(category.getId());
+        transaction.setDescription(descriptionArea.getText().trim());
+        transaction.setTransactionDate(date);
+        transaction.setType((Category.TransactionType) typeComboBox.getSelectedItem());
 
-            transactionService.updateTransaction(transaction);
+        setButtonsEnabled(false);
+        loader.run("save", () -> transactionService.updateTransaction(transaction), () -> {
             transactionUpdated = true;
             dispose();
-
-        } catch (ServiceException e) {
-            System.err.println("Error updating transaction: " + e.getCause().getMessage());
+        }, e -> {
+            setButtonsEnabled(true);
+            System.err.println("Error updating transaction: " + e.getMessage());
             JOptionPane.showMessageDialog(this,
                     "Error updating transaction: " + e.getMessage(),
                     "Error",
                     JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
 
     private void handleDelete() {
@@ -233,17 +236,24 @@ public class EditTransactionDialog extends JDialog {
             return;
         }
 
-        try {
-            transactionService.deleteTransaction(transaction.getId());
+        setButtonsEnabled(false);
+        loader.run("delete", () -> transactionService.deleteTransaction(transaction.getId()), () -> {
             transactionUpdated = true;
             dispose();
-        } catch (ServiceException e) {
-            System.err.println("Error deleting transaction: " + e.getCause().getMessage());
+        }, e -> {
+            setButtonsEnabled(true);
+            System.err.println("Error deleting transaction: " + e.getMessage());
             JOptionPane.showMessageDialog(this,
                     "Error deleting transaction: " + e.getMessage(),
                     "Error",
                     JOptionPane.ERROR_MESSAGE);
-        }
+        });
+    }
+
+    // Only one write at a time while the dialog waits for the database
+    private void setButtonsEnabled(boolean enabled) {
+        saveButton.setEnabled(enabled);
+        deleteButton.setEnabled(enabled);
     }
 
     public boolean isTransactionUpdated() {
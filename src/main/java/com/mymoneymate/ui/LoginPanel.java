@@ -4,7 +4,6 @@ import java.awt.FlowLayout;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
-import java.sql.SQLException;
 import java.util.Optional;
 
 import javax.swing.ImageIcon;
@@ -18,11 +17,14 @@ import javax.swing.JTextField;
 
 import com.mymoneymate.dao.UserDAO;
 import com.mymoneymate.models.User;
+import com.mymoneymate.services.TransactionSumIndex;
+import com.mymoneymate.services.exceptions.ServiceException;
 
 public class LoginPanel extends JPanel {
 
     private final MainWindow mainWindow;
     private final UserDAO userDAO;
+    private final BackgroundLoader loader = new BackgroundLoader();
 
     private JTextField usernameField;
     private JPasswordField passwordField;
@@ -105,8 +107,15 @@ public class LoginPanel extends JPanel {
             return;
         }
 
-        try {
+        setButtonsEnabled(false);
+        loader.load("login", () -> {
             Optional<User> user = userDAO.findByUsername(username);
+            if (user.isPresent() && user.get().getPassword().equals(password)) {
+                loadSums(user.get().getId());
+            }
+            return user;
+        }, user -> {
+            setButtonsEnabled(true);
             if (user.isPresent() && user.get().getPassword().equals(password)) {
                 mainWindow.showDashboard(user.get().getId());
             } else {
@@ -115,14 +124,29 @@ public class LoginPanel extends JPanel {
                         "Login Error",
                         JOptionPane.ERROR_MESSAGE);
             }
-        } catch (SQLException ex) {
+        }, ex -> {
+            setButtonsEnabled(true);
             JOptionPane.showMessageDialog(this,
                     "Database error: " + ex.getMessage(),
                     "Error",
                     JOptionPane.ERROR_MESSAGE);
+        });
+    }
+
+    // The sums index only speeds up the dashboard; without it the sums are read from the database
+    private static void loadSums(Integer userId) {
+        try {
+            TransactionSumIndex.getInstance().load(userId);
+        } catch (ServiceException e) {
+            System.err.println("Error loading transaction totals: " + e.getMessage());
         }
     }
 
+    private void setButtonsEnabled(boolean enabled) {
+        loginButton.setEnabled(enabled);
+        registerButton.setEnabled(enabled);
+    }
+
     private void showRegistrationDialog() {
         JDialog dialog = new JDialog(mainWindow, "Register New User", true);
         dialog.setLayout(new GridBagLayout());
@@ -155,23 +179,24 @@ public class LoginPanel extends JPanel {
 
         JButton registerBtn = new JButton("Register");
         registerBtn.addActionListener(e -> {
-            try {
-                User newUser = new User(
-                        newUsernameField.getText(),
-                        new String(newPasswordField.getPassword()),
-                        emailField.getText());
-                userDAO.create(newUser);
+            User newUser = new User(
+                    newUsernameField.getText(),
+                    new String(newPasswordField.getPassword()),
+                    emailField.getText());
+            registerBtn.setEnabled(false);
+            loader.run("register", () -> userDAO.create(newUser), () -> {
                 JOptionPane.showMessageDialog(dialog,
                         "Registration successful! Please login.",
                         "Success",
                         JOptionPane.INFORMATION_MESSAGE);
                 dialog.dispose();
-            } catch (SQLException ex) {
+            }, ex -> {
+                registerBtn.setEnabled(true);
                 JOptionPane.showMessageDialog(dialog,
                         "Registration failed: " + ex.getMessage(),
                         "Error",
                         JOptionPane.ERROR_MESSAGE);
-            }
+            });
         });
 
         gbc.gridx = 0;
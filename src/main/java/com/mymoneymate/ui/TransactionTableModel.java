@@ -0,0 +1,185 @@
+package com.mymoneymate.ui;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.swing.table.AbstractTableModel;
+
+import com.mymoneymate.dao.TransactionDAO;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.Transaction;
+import com.mymoneymate.services.CategoryService;
+import com.mymoneymate.services.TransactionService;
+
+/**
+ * Table model over all of a user's transactions that only keeps the rows near
+ * what is on screen. The row count comes from a COUNT(*) query, rows are read
+ * in fixed-size blocks as the table asks for them, and only the most recently
+ * used blocks are kept. Sorting is done by SQLite, so re-sorting just drops
+ * the cached blocks.
+ *
+ * All queries run on the BackgroundLoader. Rows whose block is still loading
+ * read as empty and are repainted when the block arrives.
+ */
+public class TransactionTableModel extends AbstractTableModel {
+
+    static final int BLOCK_SIZE = 200;
+    private static final int MAX_CACHED_BLOCKS = 16;
+    private static final String[] COLUMNS = {"Date", "Category", "Amount", "Description"};
+    private static final TransactionDAO.SortColumn[] SORT_COLUMNS = {
+        TransactionDAO.SortColumn.DATE,
+        TransactionDAO.SortColumn.CATEGORY,
+        TransactionDAO.SortColumn.AMOUNT,
+        TransactionDAO.SortColumn.DESCRIPTION
+    };
+
+    private final TransactionService transactionService;
+    private final CategoryService categoryService;
+    private final int userId;
+    private final BackgroundLoader loader;
+    private Map<Integer, String> categoryNames = new HashMap<>();
+    private final Map<Integer, TransactionDAO.Page> blocks = new LinkedHashMap<>(MAX_CACHED_BLOCKS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, TransactionDAO.Page> eldest) {
+            return size() > MAX_CACHED_BLOCKS;
+        }
+    };
+    private final Set<Integer> loadingBlocks = new HashSet<>();
+    // Bumped whenever cached blocks become invalid, so blocks still in flight are dropped on arrival
+    private int generation;
+    private int rowCount;
+    private TransactionDAO.SortColumn sortColumn = TransactionDAO.SortColumn.DATE;
+    private boolean ascending;
+
+    public TransactionTableModel(TransactionService transactionService, CategoryService categoryService, int userId,
+            BackgroundLoader loader) {
+        this.transactionService = transactionService;
+        this.categoryService = categoryService;
+        this.userId = userId;
+        this.loader = loader;
+    }
+
+    // Re-reads the row count and category names in the background, then drops every cached block
+    public void reload(Consumer<? super Exception> onFailure) {
+        loader.load("transactions-count", () -> {
+            Map<Integer, String> names = new HashMap<>();
+            for (Category category : categoryService.getAllCategories()) {
+                names.put(category.getId(), category.getName());
+            }
+            return Map.entry(transactionService.countUserTransactions(userId), names);
+        }, loaded -> {
+            rowCount = loaded.getKey();
+            categoryNames = loaded.getValue();
+            invalidate();
+        }, onFailure);
+    }
+
+    // Clicking the same column again flips the direction; dates start newest first, the rest ascending
+    public void sortBy(int column) {
+        TransactionDAO.SortColumn selected = SORT_COLUMNS[column];
+        ascending = selected == sortColumn ? !ascending : selected != TransactionDAO.SortColumn.DATE;
+        sortColumn = selected;
+        invalidate();
+    }
+
+    // Returns null while the row's block is still loading
+    public Transaction getTransactionAt(int row) {
+        TransactionDAO.Page block = getBlock(row / BLOCK_SIZE);
+        if (block == null) {
+            return null;
+        }
+        List<Transaction> transactions = block.getTransactions();
+        int index = row % BLOCK_SIZE;
+        return index < transactions.size() ? transactions.get(index) : null;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Transaction transaction = getTransactionAt(row);
+        if (transaction == null) {
+            return null;
+        }
+        return switch (column) {
+            case 0 -> transaction.getTransactionDate().toString();
+            case 1 -> categoryNames.getOrDefault(transaction.getCategoryId(), "");
+            case 2 -> transaction;
+            default -> transaction.getDescription();
+        };
+    }
+
+    private void invalidate() {
+        generation++;
+        blocks.clear();
+        for (int blockIndex : loadingBlocks) {
+            loader.cancel(blockKey(blockIndex));
+        }
+        loadingBlocks.clear();
+        fireTableDataChanged();
+    }
+
+    private TransactionDAO.Page getBlock(int blockIndex) {
+        TransactionDAO.Page block = blocks.get(blockIndex);
+        if (block == null && loadingBlocks.add(blockIndex)) {
+            requestBlock(blockIndex);
+        }
+        return block;
+    }
+
+    private void requestBlock(int blockIndex) {
+        int requestGeneration = generation;
+        // Seeking from the previous block's last row avoids OFFSET walking every skipped row;
+        // a cursor is only present while sorted by date, newest first
+        TransactionDAO.Page previous = blockIndex > 0 ? blocks.get(blockIndex - 1) : null;
+        TransactionDAO.PageCursor after = previous != null ? previous.getNextCursor() : null;
+        TransactionDAO.SortColumn column = sortColumn;
+        boolean ascendingOrder = ascending;
+
+        loader.load(blockKey(blockIndex), () -> after != null
+                ? transactionService.getUserTransactionPage(userId, after, BLOCK_SIZE)
+                : transactionService.getUserTransactionPage(userId, column, ascendingOrder, blockIndex * BLOCK_SIZE,
+                        BLOCK_SIZE),
+                block -> blockLoaded(requestGeneration, blockIndex, block),
+                e -> {
+                    System.err.println("Error loading transactions: " + e.getMessage());
+                    // Cache the failure as an empty block so painting does not retry the query for every cell
+                    blockLoaded(requestGeneration, blockIndex, new TransactionDAO.Page(List.of(), null, false));
+                });
+    }
+
+    private void blockLoaded(int requestGeneration, int blockIndex, TransactionDAO.Page block) {
+        if (requestGeneration != generation) {
+            return;
+        }
+        loadingBlocks.remove(blockIndex);
+        blocks.put(blockIndex, block);
+        int firstRow = blockIndex * BLOCK_SIZE;
+        int lastRow = Math.min(firstRow + BLOCK_SIZE, rowCount) - 1;
+        if (firstRow <= lastRow) {
+            fireTableRowsUpdated(firstRow, lastRow);
+        }
+    }
+
+    private static String blockKey(int blockIndex) {
+        return "transactions-block-" + blockIndex;
+    }
+}
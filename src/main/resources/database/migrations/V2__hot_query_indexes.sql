@@ -0,0 +1,8 @@
+-- Per-user date range lookups (findByUserIdAndDateRange, findByUserId)
+CREATE INDEX IF NOT EXISTS idx_transactions_user_date ON transactions (user_id, transaction_date);
+-- Covering index for income/expense sums over a period
+CREATE INDEX IF NOT EXISTS idx_transactions_user_type_date_amount ON transactions (user_id, type, transaction_date, amount);
+-- Covering index for per-category sums and totals over a period
+CREATE INDEX IF NOT EXISTS idx_transactions_user_category_date_amount ON transactions (user_id, category_id, transaction_date, amount);
+-- Budget lookups by user, period and start date
+CREATE INDEX IF NOT EXISTS idx_budgets_user_period_start ON budgets (user_id, period, start_date);
@@ -0,0 +1,4 @@
+-- Keyset pagination of a user's transactions, newest first (findPageByUserId).
+-- Also serves findByUserId and the date range lookups, so it replaces idx_transactions_user_date.
+CREATE INDEX IF NOT EXISTS idx_transactions_user_date_created_id ON transactions (user_id, transaction_date, created_at, id);
+DROP INDEX IF EXISTS idx_transactions_user_date;
@@ -0,0 +1,55 @@
+-- Per-day rollup of transactions, so range sums read one row per day and category
+-- instead of every transaction. amount_sum is in cents to keep repeated updates exact.
+CREATE TABLE IF NOT EXISTS daily_totals (
+	user_id INTEGER NOT NULL,
+	day DATE NOT NULL,
+	category_id INTEGER NOT NULL,
+	type TEXT NOT NULL,
+	amount_sum INTEGER NOT NULL,
+	txn_count INTEGER NOT NULL,
+	PRIMARY KEY (user_id, day, category_id, type)
+) WITHOUT ROWID;
+-- Income/expense totals over a period (getSumByTypeAndPeriod, sumByUserIdAndType)
+CREATE INDEX IF NOT EXISTS idx_daily_totals_user_type_day ON daily_totals (user_id, type, day, amount_sum);
+INSERT INTO daily_totals (user_id, day, category_id, type, amount_sum, txn_count)
+SELECT user_id, transaction_date, category_id, type, SUM(CAST(ROUND(amount * 100) AS INTEGER)), COUNT(*)
+FROM transactions
+GROUP BY user_id, transaction_date, category_id, type;
+-- The triggers run inside the statement that changed the transaction, so the
+-- rollup commits or rolls back together with it on every write path
+CREATE TRIGGER IF NOT EXISTS trg_transactions_daily_totals_insert
+AFTER INSERT ON transactions
+BEGIN
+	INSERT INTO daily_totals (user_id, day, category_id, type, amount_sum, txn_count)
+	VALUES (NEW.user_id, NEW.transaction_date, NEW.category_id, NEW.type, CAST(ROUND(NEW.amount * 100) AS INTEGER), 1)
+	ON CONFLICT (user_id, day, category_id, type) DO UPDATE
+	SET amount_sum = amount_sum + excluded.amount_sum,
+		txn_count = txn_count + 1;
+END;
+CREATE TRIGGER IF NOT EXISTS trg_transactions_daily_totals_delete
+AFTER DELETE ON transactions
+BEGIN
+	UPDATE daily_totals
+	SET amount_sum = amount_sum - CAST(ROUND(OLD.amount * 100) AS INTEGER),
+		txn_count = txn_count - 1
+	WHERE user_id = OLD.user_id AND day = OLD.transaction_date AND category_id = OLD.category_id AND type = OLD.type;
+	DELETE FROM daily_totals
+	WHERE user_id = OLD.user_id AND day = OLD.transaction_date AND category_id = OLD.category_id AND type = OLD.type
+		AND txn_count = 0;
+END;
+CREATE TRIGGER IF NOT EXISTS trg_transactions_daily_totals_update
+AFTER UPDATE OF user_id, amount, category_id, transaction_date, type ON transactions
+BEGIN
+	UPDATE daily_totals
+	SET amount_sum = amount_sum - CAST(ROUND(OLD.amount * 100) AS INTEGER),
+		txn_count = txn_count - 1
+	WHERE user_id = OLD.user_id AND day = OLD.transaction_date AND category_id = OLD.category_id AND type = OLD.type;
+	DELETE FROM daily_totals
+	WHERE user_id = OLD.user_id AND day = OLD.transaction_date AND category_id = OLD.category_id AND type = OLD.type
+		AND txn_count = 0;
+	INSERT INTO daily_totals (user_id, day, category_id, type, amount_sum, txn_count)
+	VALUES (NEW.user_id, NEW.transaction_date, NEW.category_id, NEW.type, CAST(ROUND(NEW.amount * 100) AS INTEGER), 1)
+	ON CONFLICT (user_id, day, category_id, type) DO UPDATE
+	SET amount_sum = amount_sum + excluded.amount_sum,
+		txn_count = txn_count + 1;
+END;
@@ -0,0 +1,84 @@
+-- Amounts move from DECIMAL, which SQLite keeps as REAL, to INTEGER paise.
+-- SQLite cannot change a column type, so both tables are rebuilt and copied.
+CREATE TABLE transactions_new (
+	id INTEGER PRIMARY KEY AUTOINCREMENT,
+	user_id INTEGER NOT NULL,
+	amount INTEGER NOT NULL,
+	category_id INTEGER NOT NULL,
+	description TEXT,
+	transaction_date DATE NOT NULL,
+	type TEXT NOT NULL CHECK (type IN ('INCOME', 'EXPENSE')),
+	created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+	FOREIGN KEY (user_id) REFERENCES users(id),
+	FOREIGN KEY (category_id) REFERENCES categories(id)
+);
+INSERT INTO transactions_new (id, user_id, amount, category_id, description, transaction_date, type, created_at)
+SELECT id, user_id, CAST(ROUND(amount * 100) AS INTEGER), category_id, description, transaction_date, type, created_at
+FROM transactions;
+-- Keep the AUTOINCREMENT high-water mark so ids of deleted rows are never reused
+DELETE FROM sqlite_sequence WHERE name = 'transactions_new';
+INSERT INTO sqlite_sequence (name, seq) SELECT 'transactions_new', seq FROM sqlite_sequence WHERE name = 'transactions';
+DROP TABLE transactions;
+ALTER TABLE transactions_new RENAME TO transactions;
+CREATE TABLE budgets_new (
+	id INTEGER PRIMARY KEY AUTOINCREMENT,
+	user_id INTEGER NOT NULL,
+	category_id INTEGER NOT NULL,
+	amount INTEGER NOT NULL,
+	period TEXT NOT NULL CHECK (
+		period IN ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY')
+	),
+	start_date DATE NOT NULL,
+	end_date DATE,
+	created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+	FOREIGN KEY (user_id) REFERENCES users(id),
+	FOREIGN KEY (category_id) REFERENCES categories(id)
+);
+INSERT INTO budgets_new (id, user_id, category_id, amount, period, start_date, end_date, created_at)
+SELECT id, user_id, category_id, CAST(ROUND(amount * 100) AS INTEGER), period, start_date, end_date, created_at
+FROM budgets;
+DELETE FROM sqlite_sequence WHERE name = 'budgets_new';
+INSERT INTO sqlite_sequence (name, seq) SELECT 'budgets_new', seq FROM sqlite_sequence WHERE name = 'budgets';
+DROP TABLE budgets;
+ALTER TABLE budgets_new RENAME TO budgets;
+-- Dropping the old tables dropped their indexes and triggers; recreate them.
+-- The type/date/amount index is not restored: the sums it covered read daily_totals now.
+CREATE INDEX IF NOT EXISTS idx_transactions_user_category_date_amount ON transactions (user_id, category_id, transaction_date, amount);
+CREATE INDEX IF NOT EXISTS idx_transactions_user_date_created_id ON transactions (user_id, transaction_date, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_budgets_user_period_start ON budgets (user_id, period, start_date);
+CREATE TRIGGER trg_transactions_daily_totals_insert
+AFTER INSERT ON transactions
+BEGIN
+	INSERT INTO daily_totals (user_id, day, category_id, type, amount_sum, txn_count)
+	VALUES (NEW.user_id, NEW.transaction_date, NEW.category_id, NEW.type, NEW.amount, 1)
+	ON CONFLICT (user_id, day, category_id, type) DO UPDATE
+	SET amount_sum = amount_sum + excluded.amount_sum,
+		txn_count = txn_count + 1;
+END;
+CREATE TRIGGER trg_transactions_daily_totals_delete
+AFTER DELETE ON transactions
+BEGIN
+	UPDATE daily_totals
+	SET amount_sum = amount_sum - OLD.amount,
+		txn_count = txn_count - 1
+	WHERE user_id = OLD.user_id AND day = OLD.transaction_date AND category_id = OLD.category_id AND type = OLD.type;
+	DELETE FROM daily_totals
+	WHERE user_id = OLD.user_id AND day = OLD.transaction_date AND category_id = OLD.category_id AND type = OLD.type
+		AND txn_count = 0;
+END;
+CREATE TRIGGER trg_transactions_daily_totals_update
+AFTER UPDATE OF user_id, amount, category_id, transaction_date, type ON transactions
+BEGIN
+	UPDATE daily_totals
+	SET amount_sum = amount_sum - OLD.amount,
+		txn_count = txn_count - 1
+	WHERE user_id = OLD.user_id AND day = OLD.transaction_date AND category_id = OLD.category_id AND type = OLD.type;
+	DELETE FROM daily_totals
+	WHERE user_id = OLD.user_id AND day = OLD.transaction_date AND category_id = OLD.category_id AND type = OLD.type
+		AND txn_count = 0;
+	INSERT INTO daily_totals (user_id, day, category_id, type, amount_sum, txn_count)
+	VALUES (NEW.user_id, NEW.transaction_date, NEW.category_id, NEW.type, NEW.amount, 1)
+	ON CONFLICT (user_id, day, category_id, type) DO UPDATE
+	SET amount_sum = amount_sum + excluded.amount_sum,
+		txn_count = txn_count + 1;
+END;
@@ -0,0 +1,21 @@
+-- Dates become INTEGER day counts since 1970-01-01 (see DateCodec). Rows written
+-- through java.sql.Date hold local-midnight epoch milliseconds; any ISO strings
+-- are converted too. The daily_totals triggers move each rollup row to its new day.
+UPDATE transactions
+SET transaction_date = CASE typeof(transaction_date)
+		WHEN 'text' THEN CAST(julianday(date(transaction_date)) - 2440587.5 AS INTEGER)
+		ELSE CAST(julianday(date(transaction_date / 1000, 'unixepoch', 'localtime')) - 2440587.5 AS INTEGER)
+	END
+WHERE typeof(transaction_date) IN ('integer', 'real', 'text');
+UPDATE budgets
+SET start_date = CASE typeof(start_date)
+		WHEN 'text' THEN CAST(julianday(date(start_date)) - 2440587.5 AS INTEGER)
+		ELSE CAST(julianday(date(start_date / 1000, 'unixepoch', 'localtime')) - 2440587.5 AS INTEGER)
+	END
+WHERE typeof(start_date) IN ('integer', 'real', 'text');
+UPDATE budgets
+SET end_date = CASE typeof(end_date)
+		WHEN 'text' THEN CAST(julianday(date(end_date)) - 2440587.5 AS INTEGER)
+		ELSE CAST(julianday(date(end_date / 1000, 'unixepoch', 'localtime')) - 2440587.5 AS INTEGER)
+	END
+WHERE typeof(end_date) IN ('integer', 'real', 'text');
@@ -0,0 +1,3 @@
+-- Per-category sums over a date range: budget spend (checkAllBudgets, checkBudgetStatus) and getSumByPeriodAndCategory.
+-- The primary key leads with the day, so without this every budget reads all categories of its date range.
+CREATE INDEX IF NOT EXISTS idx_daily_totals_user_category_day ON daily_totals (user_id, category_id, day, amount_sum);
@@ -0,0 +1,41 @@
+package com.mymoneymate;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+import com.mymoneymate.dao.BudgetDAO;
+import com.mymoneymate.dao.TransactionDAO;
+import com.mymoneymate.dao.UserDAO;
+import com.mymoneymate.models.Budget;
+import com.mymoneymate.models.Transaction;
+import com.mymoneymate.models.User;
+
+/**
+ * Throwaway users for tests that run against the shared database. Create one
+ * per test and purge it afterwards; deleting through the DAOs keeps the
+ * daily totals rollup in step.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    // Unique name such as txuser_1a2b3c4d, so tests never collide with each other or real data
+    public static User create(String prefix) throws SQLException {
+        String username = prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
+        return new UserDAO().create(new User(username, "password123", username + "@example.com"));
+    }
+
+    // Deletes the user's transactions and budgets, then the user
+    public static void purge(User user) throws SQLException {
+        TransactionDAO transactionDAO = new TransactionDAO();
+        for (Transaction transaction : transactionDAO.findByUserId(user.getId())) {
+            transactionDAO.delete(transaction.getId());
+        }
+        BudgetDAO budgetDAO = new BudgetDAO();
+        for (Budget budget : budgetDAO.findByUserId(user.getId())) {
+            budgetDAO.delete(budget.getId());
+        }
+        new UserDAO().delete(user.getId());
+    }
+}
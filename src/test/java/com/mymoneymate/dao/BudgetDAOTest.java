@@ -0,0 +1,66 @@
+package com.mymoneymate.dao;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mymoneymate.TestUsers;
+import com.mymoneymate.models.Budget;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.User;
+
+public class BudgetDAOTest {
+    private BudgetDAO budgetDAO;
+    private User user;
+    private Category expenseCategory;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        budgetDAO = new BudgetDAO();
+        user = TestUsers.create("budgetdaouser");
+        expenseCategory = new CategoryDAO().findByType(Category.TransactionType.EXPENSE).get(0);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestUsers.purge(user);
+    }
+
+    @Test
+    void testDatesAreStoredAsEpochDays() throws SQLException {
+        LocalDate start = LocalDate.of(2024, 10, 1);
+        LocalDate end = LocalDate.of(2024, 10, 31);
+        Budget created = budgetDAO.create(new Budget(user.getId(), expenseCategory.getId(), new BigDecimal("250.00"),
+                Budget.BudgetPeriod.MONTHLY, start, end));
+
+        try (Connection conn = DatabaseManager.getInstance().getReadConnection();
+                PreparedStatement statement = conn.prepareStatement(
+                        "SELECT typeof(start_date), start_date, end_date FROM budgets WHERE id = ?")) {
+            statement.setInt(1, created.getId());
+            try (ResultSet rs = statement.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals("integer", rs.getString(1));
+                assertEquals(start.toEpochDay(), rs.getLong(2));
+                assertEquals(end.toEpochDay(), rs.getLong(3));
+            }
+        }
+        List<Budget> found = budgetDAO.findByDateRange(start, start);
+        assertTrue(found.stream().anyMatch(b -> b.getId().equals(created.getId())));
+        assertFalse(budgetDAO.findByDateRange(start.plusDays(1), end).stream()
+                .anyMatch(b -> b.getId().equals(created.getId())));
+        Budget read = budgetDAO.findById(created.getId()).get();
+        assertEquals(start, read.getStartDate());
+        assertEquals(end, read.getEndDate());
+    }
+}
@@ -0,0 +1,164 @@
+package com.mymoneymate.dao;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionPoolTest {
+    private File dbFile;
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dbFile = File.createTempFile("pool-test", ".db");
+        pool = new ConnectionPool("jdbc:sqlite:" + dbFile.getAbsolutePath(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+        dbFile.delete();
+        new File(dbFile.getPath() + "-wal").delete();
+        new File(dbFile.getPath() + "-shm").delete();
+    }
+
+    @Test
+    void testConnectionsAreConfiguredAndReused() throws SQLException {
+        try (Connection conn = pool.borrowWriter(); Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("PRAGMA journal_mode")) {
+            assertTrue(rs.next());
+            assertEquals("wal", rs.getString(1));
+        }
+        try (Connection conn = pool.borrowWriter()) {
+            assertEquals(1, pool.getStats().getActive());
+        }
+
+        ConnectionPool.PoolStats stats = pool.getStats();
+        assertEquals(0, stats.getActive());
+        assertEquals(1, stats.getIdle());
+        assertEquals(2, stats.getBorrowCount());
+    }
+
+    @Test
+    void testReadersAreReadOnly() throws SQLException {
+        try (Connection conn = pool.borrowWriter(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE items (id INTEGER PRIMARY KEY)");
+        }
+        try (Connection conn = pool.borrowReader(); Statement stmt = conn.createStatement()) {
+            assertThrows(SQLException.class, () -> stmt.execute("INSERT INTO items (id) VALUES (1)"));
+        }
+    }
+
+    @Test
+    void testReturnedConnectionCannotBeUsed() throws SQLException {
+        Connection conn = pool.borrowReader();
+        conn.close();
+        conn.close();
+        assertTrue(conn.isClosed());
+        assertThrows(SQLException.class, conn::createStatement);
+        assertEquals(1, pool.getStats().getIdle());
+    }
+
+    @Test
+    void testUncommittedWorkIsRolledBackOnReturn() throws SQLException {
+        try (Connection conn = pool.borrowWriter(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE items (id INTEGER PRIMARY KEY)");
+        }
+        try (Connection conn = pool.borrowWriter(); Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            stmt.execute("INSERT INTO items (id) VALUES (1)");
+        }
+        try (Connection conn = pool.borrowWriter(); Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM items")) {
+            assertTrue(conn.getAutoCommit());
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1));
+        }
+    }
+
+    @Test
+    void testPreparedStatementsAreReusedPerConnection() throws SQLException {
+        try (Connection conn = pool.borrowWriter(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE items (id INTEGER PRIMARY KEY)");
+            stmt.execute("INSERT INTO items (id) VALUES (1), (2)");
+        }
+        for (int id = 1; id <= 2; id++) {
+            try (Connection conn = pool.borrowWriter();
+                    PreparedStatement statement = conn.prepareStatement("SELECT id FROM items WHERE id = ?")) {
+                statement.setInt(1, id);
+                try (ResultSet rs = statement.executeQuery()) {
+                    assertTrue(rs.next());
+                    assertEquals(id, rs.getInt(1));
+                }
+            }
+        }
+
+        ConnectionPool.PoolStats stats = pool.getStats();
+        assertEquals(1, stats.getStatementCacheHits());
+        assertEquals(1, stats.getStatementCacheMisses());
+    }
+
+    @Test
+    void testCachedStatementIsResetWhenReturned() throws SQLException {
+        try (Connection conn = pool.borrowWriter(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE items (id INTEGER PRIMARY KEY)");
+            stmt.execute("INSERT INTO items (id) VALUES (1), (2)");
+        }
+        String sql = "SELECT id FROM items ORDER BY id";
+        PreparedStatement leaked;
+        try (Connection conn = pool.borrowWriter()) {
+            leaked = conn.prepareStatement(sql);
+            ResultSet rs = leaked.executeQuery();
+            assertTrue(rs.next());
+            // Neither the result set nor the statement is closed before the connection goes back
+        }
+        assertTrue(leaked.isClosed());
+
+        try (Connection conn = pool.borrowWriter(); PreparedStatement statement = conn.prepareStatement(sql)) {
+            assertFalse(statement.isClosed());
+            // A same-SQL statement still in use gets its own uncached copy
+            try (PreparedStatement nested = conn.prepareStatement(sql); ResultSet rs = statement.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1));
+                assertFalse(nested.isClosed());
+            }
+        }
+        assertEquals(1, pool.getStats().getStatementCacheHits());
+    }
+
+    @Test
+    void testUncachedDuplicateIsLentAndReclaimedLikeACachedOne() throws SQLException {
+        try (Connection conn = pool.borrowWriter(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE items (id INTEGER PRIMARY KEY)");
+        }
+        String sql = "SELECT id FROM items";
+        PreparedStatement leaked;
+        try (Connection conn = pool.borrowWriter(); PreparedStatement statement = conn.prepareStatement(sql)) {
+            leaked = conn.prepareStatement(sql);
+            assertSame(conn, leaked.getConnection());
+            assertSame(statement.getConnection(), leaked.getConnection());
+            leaked.executeQuery();
+            // The duplicate is left open when the connection goes back
+        }
+        assertTrue(leaked.isClosed());
+        assertThrows(SQLException.class, leaked::executeQuery);
+
+        try (Connection conn = pool.borrowWriter(); PreparedStatement statement = conn.prepareStatement(sql)) {
+            assertFalse(statement.isClosed());
+        }
+        assertEquals(1, pool.getStats().getStatementCacheHits());
+    }
+}
@@ -0,0 +1,114 @@
+package com.mymoneymate.dao;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SchemaMigratorTest {
+    private File dbFile;
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dbFile = File.createTempFile("migrator-test", ".db");
+        pool = new ConnectionPool("jdbc:sqlite:" + dbFile.getAbsolutePath(), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+        dbFile.delete();
+        new File(dbFile.getPath() + "-wal").delete();
+        new File(dbFile.getPath() + "-shm").delete();
+    }
+
+    @Test
+    void testSplitIgnoresSemicolonsInLiteralsCommentsAndTriggers() {
+        List<String> statements = SchemaMigrator.splitStatements(
+                "-- comment; with semicolon\n"
+                + "INSERT INTO t VALUES ('a;b', 'it''s');\n"
+                + "/* block; comment */ CREATE TABLE \"x;y\" (id INTEGER);\n"
+                + "CREATE TRIGGER trg AFTER INSERT ON t BEGIN DELETE FROM u; UPDATE v SET n = 1; END;\n"
+                + "SELECT 1");
+
+        assertEquals(4, statements.size());
+        assertEquals("INSERT INTO t VALUES ('a;b', 'it''s')", statements.get(0));
+        assertTrue(statements.get(1).endsWith("CREATE TABLE \"x;y\" (id INTEGER)"));
+        assertTrue(statements.get(2).startsWith("CREATE TRIGGER") && statements.get(2).endsWith("END"));
+        assertEquals("SELECT 1", statements.get(3));
+    }
+
+    @Test
+    void testMigrateAppliesOnceAndRecordsVersion() throws SQLException {
+        SchemaMigrator migrator = new SchemaMigrator();
+        try (Connection conn = pool.borrowWriter()) {
+            assertEquals(migrator.getLatestVersion(), migrator.migrate(conn));
+            assertEquals(0, migrator.migrate(conn));
+
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT MAX(version), COUNT(*) FROM schema_version")) {
+                assertTrue(rs.next());
+                assertEquals(migrator.getLatestVersion(), rs.getInt(1));
+                assertEquals(migrator.getLatestVersion(), rs.getInt(2));
+            }
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM categories")) {
+                assertTrue(rs.next());
+                assertEquals(13, rs.getInt(1));
+            }
+        }
+    }
+
+    @Test
+    void testSplitKeepsCaseExpressionsInsideTriggerBodies() throws SQLException {
+        List<String> statements = SchemaMigrator.splitStatements(
+                "CREATE TABLE t (id INTEGER, kind TEXT, amount INTEGER);\n"
+                + "CREATE TABLE totals (income INTEGER, expense INTEGER, ended INTEGER);\n"
+                + "INSERT INTO totals VALUES (0, 0, 0);\n"
+                + "CREATE TRIGGER trg AFTER INSERT ON t BEGIN\n"
+                + "  UPDATE totals SET income = income + CASE WHEN NEW.kind = 'INCOME' THEN NEW.amount ELSE 0 END;\n"
+                + "  UPDATE totals SET expense = expense + CASE NEW.kind WHEN 'EXPENSE' THEN NEW.amount ELSE 0 END,\n"
+                + "      ended = ended + 1;\n"
+                + "END;\n"
+                + "INSERT INTO t VALUES (1, 'INCOME', 500);\n"
+                + "INSERT INTO t VALUES (2, 'EXPENSE', 120)");
+
+        assertEquals(6, statements.size());
+        assertTrue(statements.get(3).startsWith("CREATE TRIGGER") && statements.get(3).endsWith("END"));
+
+        try (Connection conn = pool.borrowWriter(); Statement stmt = conn.createStatement()) {
+            for (String sql : statements) {
+                stmt.execute(sql);
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT income, expense, ended FROM totals")) {
+                assertTrue(rs.next());
+                assertEquals(500, rs.getInt(1));
+                assertEquals(120, rs.getInt(2));
+                assertEquals(2, rs.getInt(3));
+            }
+        }
+    }
+
+    @Test
+    void testModifiedMigrationIsRejected() throws SQLException {
+        SchemaMigrator migrator = new SchemaMigrator();
+        try (Connection conn = pool.borrowWriter()) {
+            migrator.migrate(conn);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("UPDATE schema_version SET checksum = checksum + 1 WHERE version = 1");
+            }
+            assertThrows(IllegalStateException.class, () -> migrator.migrate(conn));
+        }
+    }
+}
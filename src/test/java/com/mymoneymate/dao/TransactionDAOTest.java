@@ -0,0 +1,282 @@
+package com.mymoneymate.dao;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mymoneymate.TestUsers;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.CategoryTotals;
+import com.mymoneymate.models.Granularity;
+import com.mymoneymate.models.TimeSeries;
+import com.mymoneymate.models.Transaction;
+import com.mymoneymate.models.TransactionRow;
+import com.mymoneymate.models.User;
+
+public class TransactionDAOTest {
+    private TransactionDAO transactionDAO;
+    private User user;
+    private Category expenseCategory;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        transactionDAO = new TransactionDAO();
+        user = TestUsers.create("txuser");
+        expenseCategory = new CategoryDAO().findByType(Category.TransactionType.EXPENSE).get(0);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestUsers.purge(user);
+    }
+
+    private Transaction newExpense(String amount, LocalDate date) {
+        return new Transaction(user.getId(), new BigDecimal(amount), expenseCategory.getId(), "Test expense", date,
+                Category.TransactionType.EXPENSE);
+    }
+
+    @Test
+    void testCreateAllAssignsConsecutiveIdsAcrossChunks() throws SQLException {
+        List<Transaction> batch = new ArrayList<>();
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 25; i++) {
+            batch.add(newExpense("10.00", date.plusDays(i)));
+        }
+
+        List<Transaction> created = transactionDAO.createAll(batch, 10);
+
+        assertEquals(25, created.size());
+        for (int i = 0; i < created.size(); i++) {
+            assertNotNull(created.get(i).getId());
+            if (i > 0) {
+                assertEquals(created.get(i - 1).getId() + 1, (int) created.get(i).getId());
+            }
+        }
+        Optional<Transaction> last = transactionDAO.findById(created.get(24).getId());
+        assertTrue(last.isPresent());
+        assertEquals(date.plusDays(24), last.get().getTransactionDate());
+        assertEquals(0, new BigDecimal("250.00").compareTo(
+                transactionDAO.getSumByTypeAndPeriod(user.getId(), Category.TransactionType.EXPENSE, date,
+                        date.plusDays(30))));
+    }
+
+    @Test
+    void testStreamByUserIdAndDateRangeMatchesList() throws SQLException {
+        LocalDate date = LocalDate.of(2024, 3, 1);
+        List<Transaction> batch = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            batch.add(newExpense("5.00", date.plusDays(i)));
+        }
+        transactionDAO.createAll(batch);
+        transactionDAO.setFetchSize(5);
+
+        List<Transaction> listed = transactionDAO.findByUserIdAndDateRange(user.getId(), date, date.plusDays(7));
+        List<Integer> streamed;
+        try (Stream<Transaction> stream = transactionDAO.streamByUserIdAndDateRange(user.getId(), date,
+                date.plusDays(7))) {
+            streamed = stream.map(Transaction::getId).toList();
+        }
+
+        assertEquals(8, streamed.size());
+        assertEquals(listed.stream().map(Transaction::getId).toList(), streamed);
+    }
+
+    @Test
+    void testFindPageByUserIdWalksAllRowsWithoutOverlap() throws SQLException {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        List<Transaction> batch = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            // Several rows share a date, so the id tie-breaker decides their order
+            batch.add(newExpense("1.00", date.plusDays(i / 4)));
+        }
+        transactionDAO.createAll(batch);
+
+        List<Integer> paged = new ArrayList<>();
+        TransactionDAO.Page page = transactionDAO.findPageByUserId(user.getId(), null, 10);
+        paged.addAll(page.getTransactions().stream().map(Transaction::getId).toList());
+        while (page.hasMore()) {
+            page = transactionDAO.findPageByUserId(user.getId(), page.getNextCursor(), 10);
+            paged.addAll(page.getTransactions().stream().map(Transaction::getId).toList());
+        }
+
+        assertEquals(3, page.getTransactions().size());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            expected.add(batch.get(i).getId());
+        }
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    void testSortedPagesFollowSqlOrderAndCount() throws SQLException {
+        LocalDate date = LocalDate.of(2024, 6, 1);
+        List<Transaction> batch = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            batch.add(newExpense((7 - i) + ".00", date.plusDays(i)));
+        }
+        transactionDAO.createAll(batch);
+
+        assertEquals(7, transactionDAO.countByUserId(user.getId()));
+        TransactionDAO.Page first = transactionDAO.findPageByUserId(user.getId(), TransactionDAO.SortColumn.AMOUNT,
+                true, 0, 5);
+        TransactionDAO.Page second = transactionDAO.findPageByUserId(user.getId(), TransactionDAO.SortColumn.AMOUNT,
+                true, 5, 5);
+
+        assertTrue(first.hasMore());
+        assertNull(first.getNextCursor());
+        assertEquals(0, new BigDecimal("1.00").compareTo(first.getTransactions().get(0).getAmount()));
+        assertEquals(2, second.getTransactions().size());
+        assertEquals(0, new BigDecimal("7.00").compareTo(second.getTransactions().get(1).getAmount()));
+    }
+
+    @Test
+    void testFindRowsByUserIdAndDateRangeJoinsCategoryName() throws SQLException {
+        LocalDate date = LocalDate.of(2024, 7, 1);
+        Transaction created = transactionDAO.create(newExpense("12.50", date));
+
+        List<TransactionRow> rows = transactionDAO.findRowsByUserIdAndDateRange(user.getId(), date, date);
+
+        assertEquals(1, rows.size());
+        assertEquals(created.getId(), rows.get(0).getTransaction().getId());
+        assertEquals(expenseCategory.getName(), rows.get(0).getCategoryName());
+    }
+
+    @Test
+    void testGetTotalsByCategoryGroupsInIdOrder() throws SQLException {
+        List<Category> expenses = new CategoryDAO().findByType(Category.TransactionType.EXPENSE);
+        Category other = expenses.get(1);
+        LocalDate date = LocalDate.of(2024, 8, 1);
+        transactionDAO.create(newExpense("4.00", date));
+        transactionDAO.create(newExpense("6.50", date.plusDays(1)));
+        transactionDAO.create(new Transaction(user.getId(), new BigDecimal("3.00"), other.getId(), "Other", date,
+                Category.TransactionType.EXPENSE));
+
+        CategoryTotals totals = transactionDAO.getTotalsByCategory(user.getId(), date, date.plusDays(1));
+
+        assertEquals(2, totals.size());
+        assertTrue(totals.getCategoryId(0) < totals.getCategoryId(1));
+        assertEquals(0, new BigDecimal("10.50").compareTo(totals.get(expenseCategory.getId())));
+        assertEquals(0, new BigDecimal("3.00").compareTo(totals.get(other.getId())));
+        assertEquals(BigDecimal.ZERO, totals.get(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testGetTotalsByBucketIsDenseAndFiltered() throws SQLException {
+        Category income = new CategoryDAO().findByType(Category.TransactionType.INCOME).get(0);
+        transactionDAO.create(newExpense("5.00", LocalDate.of(2023, 11, 30)));
+        transactionDAO.create(newExpense("2.25", LocalDate.of(2024, 1, 15)));
+        transactionDAO.create(newExpense("1.75", LocalDate.of(2024, 1, 31)));
+        transactionDAO.create(new Transaction(user.getId(), new BigDecimal("100.00"), income.getId(), "Salary",
+                LocalDate.of(2024, 1, 1), Category.TransactionType.INCOME));
+        LocalDate start = LocalDate.of(2023, 11, 15);
+        LocalDate end = LocalDate.of(2024, 2, 10);
+
+        TimeSeries expenses = transactionDAO.getTotalsByBucket(user.getId(), start, end, Granularity.MONTH,
+                Category.TransactionType.EXPENSE, null);
+        assertEquals(4, expenses.size());
+        assertEquals("2023-11", expenses.getLabel(0));
+        assertEquals("2024-02", expenses.getLabel(3));
+        assertEquals(500, expenses.getTotalMinor(0));
+        assertEquals(0, expenses.getTotalMinor(1));
+        assertEquals(400, expenses.getTotalMinor(2));
+        assertEquals(0, expenses.getTotalMinor(3));
+
+        TimeSeries salary = transactionDAO.getTotalsByBucket(user.getId(), start, end, Granularity.QUARTER, null,
+                income.getId());
+        assertEquals(2, salary.size());
+        assertEquals("2023-Q4", salary.getLabel(0));
+        assertEquals(0, salary.getTotalMinor(0));
+        assertEquals(10000, salary.getTotalMinor(1));
+
+        // Rows before the range start stay out even though their year is in the series
+        TimeSeries all = transactionDAO.getTotalsByBucket(user.getId(), LocalDate.of(2023, 12, 1), end,
+                Granularity.YEAR, null, null);
+        assertEquals(2, all.size());
+        assertEquals(0, all.getTotalMinor(0));
+        assertEquals(10400, all.getTotalMinor(1));
+    }
+
+    @Test
+    void testGetTotalsByBucketMatchesDailyTotalsForEveryGranularity() throws SQLException {
+        List<Transaction> batch = new ArrayList<>();
+        LocalDate first = LocalDate.of(2023, 12, 27);
+        for (int i = 0; i < 200; i += 3) {
+            batch.add(newExpense((i + 1) + ".10", first.plusDays(i)));
+        }
+        transactionDAO.createAll(batch);
+        LocalDate start = first.plusDays(5);
+        LocalDate end = first.plusDays(190);
+
+        for (Granularity granularity : Granularity.values()) {
+            TimeSeries series = transactionDAO.getTotalsByBucket(user.getId(), start, end, granularity, null,
+                    expenseCategory.getId());
+            assertEquals(granularity.start(start), series.getStart(0));
+            for (int i = 0; i < series.size(); i++) {
+                LocalDate from = i == 0 ? start : series.getStart(i);
+                LocalDate to = i == series.size() - 1 ? end : series.getStart(i + 1).minusDays(1);
+                BigDecimal expected = transactionDAO.getSumByPeriodAndCategory(user.getId(), expenseCategory.getId(),
+                        from, to);
+                assertEquals(0, expected.compareTo(series.getTotal(i)), granularity + " bucket " + series.getLabel(i));
+            }
+            assertTrue(granularity.next(series.getStart(series.size() - 1)).isAfter(end));
+        }
+    }
+
+    @Test
+    void testDailyTotalsFollowCreateUpdateAndDelete() throws SQLException {
+        LocalDate date = LocalDate.of(2024, 9, 10);
+        Transaction first = transactionDAO.create(newExpense("12.10", date));
+        Transaction second = transactionDAO.create(newExpense("0.20", date));
+        assertEquals(0, new BigDecimal("12.30").compareTo(
+                transactionDAO.getSumByPeriodAndCategory(user.getId(), expenseCategory.getId(), date, date)));
+
+        second.setAmount(new BigDecimal("7.85"));
+        second.setTransactionDate(date.plusDays(1));
+        transactionDAO.update(second);
+        assertEquals(0, new BigDecimal("12.10").compareTo(
+                transactionDAO.getSumByTypeAndPeriod(user.getId(), Category.TransactionType.EXPENSE, date, date)));
+        assertEquals(0, new BigDecimal("19.95").compareTo(
+                transactionDAO.getSumByTypeAndPeriod(user.getId(), Category.TransactionType.EXPENSE, date,
+                        date.plusDays(1))));
+
+        transactionDAO.delete(first.getId());
+        assertEquals(0, new BigDecimal("7.85").compareTo(
+                transactionDAO.sumByUserIdAndType(user.getId(), Category.TransactionType.EXPENSE)));
+        assertEquals(0, transactionDAO.verifyDailyTotals());
+    }
+
+    @Test
+    void testDatesAreStoredAsEpochDays() throws SQLException {
+        LocalDate date = LocalDate.of(2024, 10, 31);
+        Transaction created = transactionDAO.create(newExpense("3.00", date));
+
+        try (Connection conn = DatabaseManager.getInstance().getReadConnection();
+                PreparedStatement statement = conn.prepareStatement(
+                        "SELECT typeof(transaction_date), transaction_date FROM transactions WHERE id = ?")) {
+            statement.setInt(1, created.getId());
+            try (ResultSet rs = statement.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals("integer", rs.getString(1));
+                assertEquals(date.toEpochDay(), rs.getLong(2));
+            }
+        }
+        List<Transaction> found = transactionDAO.findByDateRange(date, date);
+        assertTrue(found.stream().anyMatch(t -> t.getId().equals(created.getId())));
+        assertEquals(date, transactionDAO.findById(created.getId()).get().getTransactionDate());
+    }
+}
@@ -0,0 +1,38 @@
+package com.mymoneymate.models;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+    @Test
+    public void testConvertsToAndFromMinorUnits() {
+        assertEquals(10050, Money.of(new BigDecimal("100.50")).getMinorUnits());
+        assertEquals(10050, Money.toMinor(new BigDecimal("100.5")));
+        assertEquals(1001, Money.toMinor(new BigDecimal("10.005")));
+        assertEquals(new BigDecimal("100.50"), Money.ofMinor(10050).toBigDecimal());
+        assertEquals("0.07", Money.ofMinor(7).toString());
+    }
+
+    @Test
+    public void testArithmeticStaysInMinorUnits() {
+        Money income = Money.of(new BigDecimal("2500.00"));
+        Money expenses = Money.of(new BigDecimal("0.10")).plus(Money.of(new BigDecimal("0.20")));
+
+        assertEquals(Money.ofMinor(30), expenses);
+        assertEquals(new BigDecimal("2499.70"), income.minus(expenses).toBigDecimal());
+        assertEquals(-1, expenses.minus(income).signum());
+        assertEquals(Money.ZERO, expenses.minus(expenses));
+    }
+
+    @Test
+    public void testTransactionKeepsAmountInMinorUnits() {
+        Transaction transaction = new Transaction(1, new BigDecimal("19.9"), 1, "Test", null,
+                Category.TransactionType.EXPENSE);
+
+        assertEquals(1990, transaction.getAmountMinorUnits());
+        assertEquals(new BigDecimal("19.90"), transaction.getAmount());
+    }
+}
@@ -26,4 +26,24 @@ public class TransactionTest {
         assertEquals(Category.TransactionType.EXPENSE, transaction.getType());
         assertNotNull(transaction.getCreatedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCopyIsIndependentOfTheOriginal() {
+        Transaction original = new Transaction(1, new BigDecimal("100.50"), 1, "Groceries",
+                LocalDate.of(2024, 3, 1), Category.TransactionType.EXPENSE);
+        original.setId(42);
+
+        Transaction copy = new Transaction(original);
+        assertEquals(42, copy.getId());
+        assertEquals(original.getCreatedAt(), copy.getCreatedAt());
+
+        copy.setAmount(new BigDecimal("5.00"));
+        copy.setCategoryId(2);
+        copy.setDescription("Edited");
+        copy.setTransactionDate(LocalDate.of(2024, 3, 2));
+        assertEquals(new BigDecimal("100.50"), original.getAmount());
+        assertEquals(1, original.getCategoryId());
+        assertEquals("Groceries", original.getDescription());
+        assertEquals(LocalDate.of(2024, 3, 1), original.getTransactionDate());
+    }
+}
@@ -0,0 +1,71 @@
+package com.mymoneymate.services;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mymoneymate.TestUsers;
+import com.mymoneymate.models.Budget;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.User;
+import com.mymoneymate.services.BudgetService.BudgetStatus;
+import com.mymoneymate.services.exceptions.ServiceException;
+
+public class BudgetServiceTest {
+    private BudgetService budgetService;
+    private TransactionService transactionService;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        budgetService = new BudgetService();
+        transactionService = new TransactionService();
+        user = TestUsers.create("budgetuser");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestUsers.purge(user);
+    }
+
+    @Test
+    void testCheckAllBudgetsMatchesPerBudgetCheck() throws ServiceException {
+        List<Category> expenses = CategoryRegistry.getInstance().getByType(Category.TransactionType.EXPENSE);
+        Category first = expenses.get(0);
+        Category second = expenses.get(1);
+        LocalDate start = LocalDate.of(2024, 2, 1);
+        LocalDate end = LocalDate.of(2024, 2, 29);
+
+        budgetService.createBudget(user.getId(), first.getId(), new BigDecimal("300.00"), Budget.BudgetPeriod.MONTHLY,
+                start, end);
+        budgetService.createBudget(user.getId(), second.getId(), new BigDecimal("50.00"), Budget.BudgetPeriod.MONTHLY,
+                start, end);
+        transactionService.addTransaction(user.getId(), new BigDecimal("120.25"), first.getId(), "In range",
+                start.plusDays(3), Category.TransactionType.EXPENSE);
+        transactionService.addTransaction(user.getId(), new BigDecimal("30.00"), first.getId(), "In range",
+                end, Category.TransactionType.EXPENSE);
+        transactionService.addTransaction(user.getId(), new BigDecimal("99.00"), first.getId(), "Out of range",
+                end.plusDays(1), Category.TransactionType.EXPENSE);
+
+        List<BudgetStatus> statuses = budgetService.checkAllBudgets(user.getId());
+
+        assertEquals(2, statuses.size());
+        for (BudgetStatus status : statuses) {
+            BudgetStatus single = budgetService.checkBudgetStatus(status.getBudget());
+            assertEquals(0, single.getSpent().compareTo(status.getSpent()));
+            assertEquals(single.getPercentageUsed(), status.getPercentageUsed());
+            assertEquals(CategoryRegistry.getInstance().getById(status.getBudget().getCategoryId()).getName(),
+                    status.getCategoryName());
+        }
+        BudgetStatus firstStatus = statuses.stream()
+                .filter(status -> status.getBudget().getCategoryId().equals(first.getId()))
+                .findFirst().get();
+        assertEquals(0, new BigDecimal("150.25").compareTo(firstStatus.getSpent()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.mymoneymate.services;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.mymoneymate.models.Category;
+import com.mymoneymate.services.exceptions.ServiceException;
+
+public class CategoryRegistryTest {
+
+    @Test
+    void testServiceWritesPublishNewSnapshot() throws ServiceException {
+        CategoryRegistry registry = CategoryRegistry.getInstance();
+        CategoryService categoryService = new CategoryService();
+        AtomicInteger changes = new AtomicInteger();
+        CategoryRegistry.Listener listener = r -> changes.incrementAndGet();
+        registry.addListener(listener);
+        String name = "Registry_" + UUID.randomUUID().toString().substring(0, 8);
+
+        try {
+            Category created = categoryService.createCategory(null, name, Category.TransactionType.EXPENSE, "Test");
+            assertEquals(name, registry.getById(created.getId()).getName());
+            assertSame(registry.getById(created.getId()), registry.getByName(name));
+            assertTrue(registry.getByType(Category.TransactionType.EXPENSE).contains(registry.getByName(name)));
+
+            categoryService.deleteCategory(created.getId());
+            assertNull(registry.getById(created.getId()));
+            assertFalse(categoryService.getCategoriesByName(name).isPresent());
+            assertEquals(2, changes.get());
+        } finally {
+            registry.removeListener(listener);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.mymoneymate.services;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.mymoneymate.TestUsers;
+import com.mymoneymate.dao.CategoryDAO;
+import com.mymoneymate.dao.DatabaseManager;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.Transaction;
+import com.mymoneymate.models.User;
+import com.mymoneymate.services.events.EventBus;
+import com.mymoneymate.services.events.TransactionsImported;
+import com.mymoneymate.services.exceptions.ServiceException;
+
+public class QueryResultCacheTest {
+
+    @Test
+    void testLookupsHitUntilTheUserIsInvalidated() throws SQLException {
+        QueryResultCache cache = new QueryResultCache(8);
+        int[] loads = new int[1];
+        QueryResultCache.Loader<String> loader = () -> "result " + ++loads[0];
+        LocalDate start = LocalDate.of(2024, 1, 1);
+
+        assertEquals("result 1", cache.get("sum", 1, loader, start, null));
+        assertEquals("result 1", cache.get("sum", 1, loader, LocalDate.of(2024, 1, 1), null));
+        assertEquals("result 2", cache.get("sum", 1, loader, start, Category.TransactionType.EXPENSE));
+        assertEquals("result 3", cache.get("sum", 2, loader, start, null));
+
+        cache.invalidate(1);
+        assertEquals("result 4", cache.get("sum", 1, loader, start, null));
+        assertEquals("result 3", cache.get("sum", 2, loader, start, null));
+
+        QueryResultCache.Stats stats = cache.getStats();
+        assertEquals(2, stats.getHits());
+        assertEquals(4, stats.getMisses());
+        assertEquals(2, stats.getInvalidations());
+        assertEquals(0, stats.getEvictions());
+        assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    void testLeastRecentlyUsedResultIsEvicted() throws SQLException {
+        QueryResultCache cache = new QueryResultCache(2);
+        int[] loads = new int[1];
+        QueryResultCache.Loader<Integer> loader = () -> ++loads[0];
+
+        cache.get("a", 1, loader);
+        cache.get("b", 1, loader);
+        cache.get("a", 1, loader);
+        cache.get("c", 1, loader);
+
+        assertEquals(1, (int) cache.get("a", 1, loader));
+        assertEquals(4, (int) cache.get("b", 1, loader));
+        assertEquals(2, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void testResultLoadedDuringAWriteIsNotKept() throws SQLException {
+        QueryResultCache cache = new QueryResultCache(8);
+        int[] loads = new int[1];
+
+        cache.get("sum", 1, () -> {
+            // A write committed while the query ran
+            cache.invalidate(1);
+            return ++loads[0];
+        });
+        assertEquals(2, (int) cache.get("sum", 1, () -> ++loads[0]));
+        assertEquals(2, (int) cache.get("sum", 1, () -> ++loads[0]));
+    }
+
+    @Test
+    void testServiceWritesInvalidateCachedTotals() throws SQLException, ServiceException {
+        User user = TestUsers.create("cacheuser");
+        try {
+            TransactionService transactionService = new TransactionService();
+            Category food = new CategoryDAO().findByType(Category.TransactionType.EXPENSE).get(0);
+            LocalDate date = LocalDate.of(2024, 5, 10);
+            Transaction first = transactionService.addTransaction(user.getId(), new BigDecimal("12.50"), food.getId(),
+                    "Lunch", date, Category.TransactionType.EXPENSE);
+
+            long hits = QueryResultCache.getInstance().getStats().getHits();
+            assertEquals(new BigDecimal("12.50"), transactionService.calculateExpenses(user.getId(), date, date));
+            assertEquals(new BigDecimal("12.50"), transactionService.calculateExpenses(user.getId(), date, date));
+            assertEquals(hits + 1, QueryResultCache.getInstance().getStats().getHits());
+
+            transactionService.addTransaction(user.getId(), new BigDecimal("7.25"), food.getId(), "Dinner", date,
+                    Category.TransactionType.EXPENSE);
+            assertEquals(new BigDecimal("19.75"), transactionService.calculateExpenses(user.getId(), date, date));
+
+            transactionService.deleteTransaction(first.getId());
+            assertEquals(new BigDecimal("7.25"), transactionService.calculateExpenses(user.getId(), date, date));
+            assertEquals(new BigDecimal("-7.25"), transactionService.calculateBalance(user.getId(), date, date));
+        } finally {
+            TestUsers.purge(user);
+        }
+    }
+
+    @Test
+    void testFailedImportStillAppliesCommittedChunks() throws Exception {
+        User user = TestUsers.create("cacheuser");
+        TransactionSumIndex sumIndex = TransactionSumIndex.getInstance();
+        BlockingQueue<TransactionsImported> imported = new LinkedBlockingQueue<>();
+        // Fails the insert of the third row, after the first chunk of two has been committed
+        execute("CREATE TRIGGER reject_import_test BEFORE INSERT ON transactions"
+                + " WHEN NEW.description = 'Rejected' BEGIN SELECT RAISE(ABORT, 'rejected'); END");
+        try (EventBus.Subscription subscription = EventBus.getInstance().subscribe(TransactionsImported.class,
+                imported::add)) {
+            TransactionService transactionService = new TransactionService();
+            Category food = new CategoryDAO().findByType(Category.TransactionType.EXPENSE).get(0);
+            LocalDate date = LocalDate.of(2024, 5, 10);
+            sumIndex.load(user.getId());
+            assertEquals(0, BigDecimal.ZERO.compareTo(transactionService.calculateExpenses(user.getId(), date, date)));
+
+            List<Transaction> batch = new ArrayList<>();
+            for (String description : new String[] { "Lunch", "Dinner", "Rejected", "Snack" }) {
+                batch.add(new Transaction(user.getId(), new BigDecimal("10.00"), food.getId(), description, date,
+                        Category.TransactionType.EXPENSE));
+            }
+            assertThrows(ServiceException.class, () -> transactionService.addTransactions(batch, 2));
+
+            // Served from the sum index, which must hold the committed rows, through a fresh cache entry
+            assertEquals(new BigDecimal("20.00"), transactionService.calculateExpenses(user.getId(), date, date));
+            assertEquals(2, imported.poll(5, TimeUnit.SECONDS).getTransactions().size());
+        } finally {
+            execute("DROP TRIGGER reject_import_test");
+            sumIndex.unload();
+            TestUsers.purge(user);
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection conn = DatabaseManager.getInstance().getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.mymoneymate.services;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mymoneymate.TestUsers;
+import com.mymoneymate.dao.TransactionDAO;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.Transaction;
+import com.mymoneymate.models.User;
+import com.mymoneymate.services.exceptions.ServiceException;
+
+public class ReportServiceTest {
+    private TransactionDAO transactionDAO;
+    private ReportService reportService;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        transactionDAO = new TransactionDAO();
+        // The tests write through the DAO, which the result cache does not see
+        reportService = new ReportService(transactionDAO, new QueryResultCache(0));
+        user = TestUsers.create("reportuser");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestUsers.purge(user);
+    }
+
+    @Test
+    void testAnnualReportMatchesPerMonthSums() throws SQLException, ServiceException {
+        List<Category> income = CategoryRegistry.getInstance().getByType(Category.TransactionType.INCOME);
+        List<Category> expenses = CategoryRegistry.getInstance().getByType(Category.TransactionType.EXPENSE);
+        add(income.get(0), "5000.00", LocalDate.of(2023, 1, 1));
+        add(expenses.get(0), "120.50", LocalDate.of(2023, 1, 31));
+        add(expenses.get(1), "80.25", LocalDate.of(2023, 1, 15));
+        add(expenses.get(0), "42.00", LocalDate.of(2023, 6, 30));
+        add(income.get(0), "5000.00", LocalDate.of(2023, 12, 31));
+        // Outside the year
+        add(expenses.get(0), "999.00", LocalDate.of(2024, 1, 1));
+
+        List<ReportService.MonthlyReport> reports = reportService.generateAnnualReport(user.getId(), 2023);
+
+        assertEquals(12, reports.size());
+        for (int month = 1; month <= 12; month++) {
+            LocalDate start = LocalDate.of(2023, month, 1);
+            LocalDate end = start.plusMonths(1).minusDays(1);
+            ReportService.MonthlyReport report = reports.get(month - 1);
+            assertEquals(start, report.getMonth());
+            assertEquals(transactionDAO.getSumByTypeAndPeriod(user.getId(), Category.TransactionType.INCOME, start,
+                    end), report.getTotalIncome());
+            assertEquals(transactionDAO.getSumByTypeAndPeriod(user.getId(), Category.TransactionType.EXPENSE,
+                    start, end), report.getTotalExpenses());
+            assertEquals(transactionDAO.getCategoryTotalsByPeriod(user.getId(), start, end),
+                    report.getCategoryTotals());
+        }
+        assertEquals(new BigDecimal("200.75"), reports.get(0).getTotalExpenses());
+        assertEquals(new BigDecimal("4799.25"), reports.get(0).getNetSavings());
+    }
+
+    @Test
+    void testPivotCoversPartialMonthsOfARange() throws SQLException, ServiceException {
+        Category expense = CategoryRegistry.getInstance().getByType(Category.TransactionType.EXPENSE).get(0);
+        add(expense, "10.00", LocalDate.of(2023, 11, 20));
+        add(expense, "20.00", LocalDate.of(2023, 12, 5));
+        add(expense, "30.00", LocalDate.of(2024, 2, 10));
+
+        ReportPivot pivot = reportService.generatePivot(user.getId(), LocalDate.of(2023, 11, 25),
+                LocalDate.of(2024, 2, 10));
+
+        assertEquals(4, pivot.getMonthCount());
+        assertEquals(YearMonth.of(2024, 2), pivot.getMonth(3));
+        assertEquals(0, pivot.getTotalMinor(0, Category.TransactionType.EXPENSE));
+        assertEquals(2000, pivot.getCategoryTotalMinor(pivot.indexOf(YearMonth.of(2023, 12)), expense.getId()));
+        assertEquals(5000, pivot.getTotalMinor(Category.TransactionType.EXPENSE));
+        assertEquals(0, pivot.getTotalMinor(Category.TransactionType.INCOME));
+    }
+
+    @Test
+    void testPivotFromSumIndexMatchesSql() throws SQLException, ServiceException {
+        List<Category> categories = CategoryRegistry.getInstance().getAll();
+        for (int i = 0; i < 40; i++) {
+            Category category = categories.get(i % categories.size());
+            add(category, (i + 1) + ".25", LocalDate.of(2023, 1, 1).plusDays(i * 11L));
+        }
+        LocalDate start = LocalDate.of(2023, 2, 10);
+        LocalDate end = LocalDate.of(2023, 12, 20);
+        ReportPivot fromSql = reportService.generatePivot(user.getId(), start, end);
+
+        TransactionSumIndex sumIndex = TransactionSumIndex.getInstance();
+        sumIndex.load(user.getId());
+        try {
+            ReportPivot fromIndex = reportService.generatePivot(user.getId(), start, end);
+            assertEquals(fromSql.getMonthCount(), fromIndex.getMonthCount());
+            for (int month = 0; month < fromSql.getMonthCount(); month++) {
+                for (Category.TransactionType type : Category.TransactionType.values()) {
+                    assertEquals(fromSql.getTotalMinor(month, type), fromIndex.getTotalMinor(month, type));
+                }
+                for (Category category : categories) {
+                    assertEquals(fromSql.getCategoryTotalMinor(month, category.getId()),
+                            fromIndex.getCategoryTotalMinor(month, category.getId()));
+                }
+            }
+        } finally {
+            sumIndex.unload();
+        }
+    }
+
+    private void add(Category category, String amount, LocalDate date) throws SQLException {
+        transactionDAO.create(new Transaction(user.getId(), new BigDecimal(amount), category.getId(), "Report test",
+                date, category.getType()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.mymoneymate.services;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mymoneymate.TestUsers;
+import com.mymoneymate.dao.TransactionDAO;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.CategoryTotals;
+import com.mymoneymate.models.Transaction;
+import com.mymoneymate.models.User;
+import com.mymoneymate.services.exceptions.ServiceException;
+import com.mymoneymate.services.exceptions.ValidationException;
+
+public class TransactionSumIndexTest {
+    private TransactionSumIndex sumIndex;
+    private TransactionService transactionService;
+    private TransactionDAO transactionDAO;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        sumIndex = TransactionSumIndex.getInstance();
+        transactionService = new TransactionService();
+        transactionDAO = new TransactionDAO();
+        user = TestUsers.create("sumuser");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        sumIndex.unload();
+        TestUsers.purge(user);
+    }
+
+    @Test
+    void testDaySumsGrowInBothDirections() {
+        TransactionSumIndex.DaySums sums = new TransactionSumIndex.DaySums();
+        sums.add(1000, 5);
+        sums.add(1200, 7);
+        sums.add(10, 11);
+        sums.add(1000, 13);
+
+        assertEquals(36, sums.sum(0, 2000));
+        assertEquals(18, sums.sum(1000, 1000));
+        assertEquals(25, sums.sum(11, 1200));
+        assertEquals(11, sums.sum(-50, 999));
+        assertEquals(0, sums.sum(1201, 5000));
+    }
+
+    @Test
+    void testDaySumsRefuseWindowsLongerThanTheCap() {
+        TransactionSumIndex.DaySums sums = new TransactionSumIndex.DaySums();
+        assertTrue(sums.add(20000, 5));
+        assertTrue(sums.add(20000 - TransactionSumIndex.DaySums.MAX_DAYS + 1, 7));
+        assertFalse(sums.add(20001, 11));
+        assertFalse(sums.add(-700000, 13));
+
+        assertEquals(12, sums.sum(-1000000, 1000000));
+    }
+
+    @Test
+    void testUserSpanningTooManyDaysFallsBackToSql() throws ServiceException, SQLException {
+        Category food = CategoryRegistry.getInstance().getByType(Category.TransactionType.EXPENSE).get(0);
+        LocalDate recent = LocalDate.of(2024, 5, 1);
+        transactionService.addTransaction(user.getId(), new BigDecimal("3.00"), food.getId(), "Recent", recent,
+                Category.TransactionType.EXPENSE);
+        assertThrows(ValidationException.class, () -> transactionService.addTransaction(user.getId(),
+                new BigDecimal("1.00"), food.getId(), "Mistyped year", LocalDate.of(24, 5, 1),
+                Category.TransactionType.EXPENSE));
+
+        sumIndex.load(user.getId());
+        assertTrue(sumIndex.isLoaded(user.getId()));
+        transactionService.addTransaction(user.getId(), new BigDecimal("2.00"), food.getId(), "Long ago",
+                LocalDate.of(1901, 1, 1), Category.TransactionType.EXPENSE);
+        assertFalse(sumIndex.isLoaded(user.getId()));
+
+        sumIndex.load(user.getId());
+        assertFalse(sumIndex.isLoaded(user.getId()));
+        assertEquals(0, new BigDecimal("5.00").compareTo(transactionService.calculateExpenses(user.getId(),
+                TransactionService.MIN_TRANSACTION_DATE, recent)));
+    }
+
+    @Test
+    void testIndexMatchesDatabaseAfterWrites() throws ServiceException, SQLException {
+        List<Category> expenses = CategoryRegistry.getInstance().getByType(Category.TransactionType.EXPENSE);
+        Category food = expenses.get(0);
+        Category other = expenses.get(1);
+        Category salary = CategoryRegistry.getInstance().getByType(Category.TransactionType.INCOME).get(0);
+        LocalDate date = LocalDate.of(2024, 5, 1);
+
+        transactionService.addTransaction(user.getId(), new BigDecimal("10.10"), food.getId(), "Before load", date,
+                Category.TransactionType.EXPENSE);
+        sumIndex.load(user.getId());
+        assertEquals(0, new BigDecimal("10.10").compareTo(sumIndex.getSumByTypeAndPeriod(user.getId(),
+                Category.TransactionType.EXPENSE, date, date)));
+
+        Transaction moved = transactionService.addTransaction(user.getId(), new BigDecimal("4.45"), food.getId(),
+                "Moved", date.minusYears(3), Category.TransactionType.EXPENSE);
+        transactionService.addTransaction(user.getId(), new BigDecimal("2500.00"), salary.getId(), "Salary",
+                date.plusDays(20), Category.TransactionType.INCOME);
+        Transaction deleted = transactionService.addTransaction(user.getId(), new BigDecimal("1.00"), other.getId(),
+                "Deleted", date, Category.TransactionType.EXPENSE);
+        moved.setCategoryId(other.getId());
+        moved.setTransactionDate(date.plusDays(2));
+        transactionService.updateTransaction(moved);
+        transactionService.deleteTransaction(deleted.getId());
+
+        LocalDate start = LocalDate.of(1970, 1, 1);
+        LocalDate end = date.plusMonths(1);
+        for (Category.TransactionType type : Category.TransactionType.values()) {
+            assertEquals(0, transactionDAO.getSumByTypeAndPeriod(user.getId(), type, start, end)
+                    .compareTo(sumIndex.getSumByTypeAndPeriod(user.getId(), type, start, end)));
+        }
+        CategoryTotals indexed = sumIndex.getTotalsByCategory(user.getId(), start, end);
+        CategoryTotals queried = transactionDAO.getTotalsByCategory(user.getId(), start, end);
+        assertEquals(queried.size(), indexed.size());
+        for (int i = 0; i < queried.size(); i++) {
+            assertEquals(queried.getCategoryId(i), indexed.getCategoryId(i));
+            assertEquals(0, queried.getTotal(i).compareTo(indexed.getTotal(i)));
+        }
+        assertEquals(0, new BigDecimal("2485.45").compareTo(transactionService.calculateBalance(user.getId(), start, end)));
+
+        assertNull(sumIndex.getSumByTypeAndPeriod(user.getId() + 1, Category.TransactionType.INCOME, start, end));
+    }
+}
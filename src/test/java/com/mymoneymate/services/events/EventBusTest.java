@@ -0,0 +1,98 @@
+package com.mymoneymate.services.events;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.mymoneymate.models.Category;
+import com.mymoneymate.services.CategoryService;
+import com.mymoneymate.services.exceptions.ServiceException;
+
+public class EventBusTest {
+
+    @Test
+    void testDeliversByTypeInPublishOrder() throws InterruptedException {
+        EventBus bus = new EventBus(16);
+        List<String> names = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(4);
+        bus.subscribe(CategoryChanged.class, event -> names.add(event.getCategory().getName()));
+        bus.subscribe(DomainEvent.class, event -> delivered.countDown());
+        bus.subscribe(CategoryChanged.class, event -> {
+            throw new IllegalStateException("Failing subscriber");
+        });
+
+        bus.publish(changed("a"));
+        bus.publish(changed("b"));
+        bus.publish(new EventsDropped(0));
+        bus.publish(changed("c"));
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("a", "b", "c"), names);
+    }
+
+    @Test
+    void testFullQueueDropsAndNotifies() throws InterruptedException {
+        EventBus bus = new EventBus(1);
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<DomainEvent> received = new LinkedBlockingQueue<>();
+        bus.subscribe(DomainEvent.class, event -> {
+            busy.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(event);
+        });
+
+        bus.publish(changed("first"));
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+        bus.publish(changed("queued"));
+        bus.publish(changed("dropped"));
+        bus.publish(changed("dropped"));
+        assertEquals(2, bus.getDroppedCount());
+
+        release.countDown();
+        assertEquals("first", ((CategoryChanged) received.poll(5, TimeUnit.SECONDS)).getCategory().getName());
+        assertEquals(2, ((EventsDropped) received.poll(5, TimeUnit.SECONDS)).getCount());
+        assertEquals("queued", ((CategoryChanged) received.poll(5, TimeUnit.SECONDS)).getCategory().getName());
+    }
+
+    @Test
+    void testServicePublishesCommittedChanges() throws ServiceException, InterruptedException {
+        CategoryService categoryService = new CategoryService();
+        BlockingQueue<CategoryChanged> received = new LinkedBlockingQueue<>();
+        String name = "Events_" + UUID.randomUUID().toString().substring(0, 8);
+
+        try (EventBus.Subscription subscription = EventBus.getInstance().subscribe(CategoryChanged.class, event -> {
+            if (event.getCategory().getName().equals(name)) {
+                received.add(event);
+            }
+        })) {
+            Category created = categoryService.createCategory(null, name, Category.TransactionType.EXPENSE, "Test");
+            categoryService.deleteCategory(created.getId());
+
+            CategoryChanged added = received.poll(5, TimeUnit.SECONDS);
+            CategoryChanged deleted = received.poll(5, TimeUnit.SECONDS);
+            assertEquals(DomainEvent.Change.CREATED, added.getChange());
+            assertEquals(created.getId(), added.getCategory().getId());
+            assertEquals(DomainEvent.Change.DELETED, deleted.getChange());
+            assertEquals(created.getId(), deleted.getCategory().getId());
+        }
+    }
+
+    private static CategoryChanged changed(String name) {
+        Category category = new Category(name, Category.TransactionType.EXPENSE, null);
+        category.setId(1);
+        return new CategoryChanged(DomainEvent.Change.UPDATED, category);
+    }
+}
@@ -0,0 +1,112 @@
+package com.mymoneymate.tools;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mymoneymate.dao.CategoryDAO;
+import com.mymoneymate.models.Budget;
+import com.mymoneymate.models.Category;
+import com.mymoneymate.models.Transaction;
+
+public class DatasetGeneratorTest {
+    private List<Category> categories;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        categories = new CategoryDAO().findAll();
+    }
+
+    @Test
+    void testSameSeedGivesSameData() {
+        DatasetGenerator.Options options = new DatasetGenerator.Options().withTransactionsPerUser(500).withYears(2);
+        List<String> first = describe(new DatasetGenerator(options, categories).generateUser(3, 7));
+        List<String> again = describe(new DatasetGenerator(options, categories).generateUser(3, 7));
+        List<String> otherUser = describe(new DatasetGenerator(options, categories).generateUser(4, 7));
+        List<String> otherSeed = describe(new DatasetGenerator(options.withSeed(7), categories).generateUser(3, 7));
+
+        assertEquals(first, again);
+        assertNotEquals(first, otherUser);
+        assertNotEquals(first, otherSeed);
+    }
+
+    @Test
+    void testTransactionsFollowTheOptions() {
+        LocalDate lastDay = LocalDate.of(2023, 6, 30);
+        DatasetGenerator.Options options = new DatasetGenerator.Options().withTransactionsPerUser(1_000).withYears(1)
+                .withLastDay(lastDay).withExpenseWeight("Rent", 0, 1, 1);
+        DatasetGenerator.UserData data = new DatasetGenerator(options, categories).generateUser(0, 1);
+
+        assertEquals(1_000, data.getTransactions().size());
+        int salaries = 0;
+        for (Transaction transaction : data.getTransactions()) {
+            assertFalse(transaction.getTransactionDate().isAfter(lastDay));
+            assertTrue(transaction.getTransactionDate().isAfter(lastDay.minusYears(1)));
+            assertNotEquals("Rent", nameOf(transaction.getCategoryId()));
+            if (nameOf(transaction.getCategoryId()).equals("Salary")) {
+                salaries++;
+            }
+        }
+        assertEquals(12, salaries);
+        for (Budget budget : data.getBudgets()) {
+            assertEquals(Budget.BudgetPeriod.MONTHLY, budget.getPeriod());
+            assertEquals(1, budget.getStartDate().getDayOfMonth());
+        }
+        assertFalse(data.getBudgets().isEmpty());
+    }
+
+    @Test
+    void testSalaryOnTheFirstOfEveryMonthInsideTheWindow() {
+        // The window starts on 2022-06-16, so June 2022 is partial and has no salary
+        LocalDate lastDay = LocalDate.of(2023, 6, 15);
+        DatasetGenerator.Options options = new DatasetGenerator.Options().withTransactionsPerUser(20).withYears(1)
+                .withLastDay(lastDay);
+        DatasetGenerator.UserData data = new DatasetGenerator(options, categories).generateUser(0, 1);
+
+        assertEquals(20, data.getTransactions().size());
+        Set<YearMonth> paid = new HashSet<>();
+        for (Transaction transaction : data.getTransactions()) {
+            if (nameOf(transaction.getCategoryId()).equals("Salary")) {
+                assertEquals(1, transaction.getTransactionDate().getDayOfMonth());
+                assertTrue(paid.add(YearMonth.from(transaction.getTransactionDate())));
+            }
+        }
+        Set<YearMonth> expected = new HashSet<>();
+        for (YearMonth month = YearMonth.of(2022, 7); !month.isAfter(YearMonth.of(2023, 6)); month = month.plusMonths(1)) {
+            expected.add(month);
+        }
+        assertEquals(expected, paid);
+    }
+
+    private String nameOf(int categoryId) {
+        for (Category category : categories) {
+            if (category.getId() == categoryId) {
+                return category.getName();
+            }
+        }
+        return null;
+    }
+
+    private static List<String> describe(DatasetGenerator.UserData data) {
+        List<String> rows = new ArrayList<>();
+        for (Transaction transaction : data.getTransactions()) {
+            rows.add(transaction.getTransactionDate() + " " + transaction.getCategoryId() + " "
+                    + transaction.getMoney() + " " + transaction.getDescription());
+        }
+        for (Budget budget : data.getBudgets()) {
+            rows.add(budget.getStartDate() + " " + budget.getCategoryId() + " " + budget.getMoney());
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,113 @@
+package com.mymoneymate.ui;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class BackgroundLoaderTest {
+    // How long a dropped result gets to show up anyway once everything else was delivered
+    private static final long QUIET_MILLIS = 200;
+
+    private final BackgroundLoader loader = new BackgroundLoader();
+    private final BlockingQueue<String> delivered = new LinkedBlockingQueue<>();
+
+    @Test
+    void testSupersededResultIsNeverDelivered() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        onEdt(() -> load("totals", blockedUntil(started, release, "old")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        onEdt(() -> load("totals", () -> "new"));
+
+        assertEquals("new", delivered.poll(5, TimeUnit.SECONDS));
+        // The old query ignores the interrupt and finishes after the new one was applied
+        release.countDown();
+        assertNull(delivered.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+        onEdt(() -> assertFalse(loader.isLoading("totals")));
+    }
+
+    @Test
+    void testCancelledKeyIsNotDelivered() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        onEdt(() -> {
+            load("totals", blockedUntil(started, release, "totals"));
+            load("chart", () -> "chart");
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        onEdt(() -> {
+            loader.cancel("totals");
+            assertFalse(loader.isLoading("totals"));
+        });
+
+        release.countDown();
+        assertEquals("chart", delivered.poll(5, TimeUnit.SECONDS));
+        assertNull(delivered.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testCancelAllDropsEveryPendingRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        onEdt(() -> {
+            load("totals", blockedUntil(started, release, "totals"));
+            load("chart", blockedUntil(started, release, "chart"));
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        onEdt(() -> {
+            loader.cancelAll();
+            assertFalse(loader.isLoading("totals"));
+            assertFalse(loader.isLoading("chart"));
+        });
+
+        release.countDown();
+        assertNull(delivered.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+
+        // The loader still works for new requests afterwards
+        onEdt(() -> load("totals", () -> "reloaded"));
+        assertEquals("reloaded", delivered.poll(5, TimeUnit.SECONDS));
+        assertNull(delivered.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    // Successes and failures both land in delivered, so a dropped failure is caught too
+    private void load(String key, Callable<String> query) {
+        loader.load(key, query, delivered::add, e -> delivered.add("failed: " + e));
+    }
+
+    // Signals started, then waits for release without giving up on interrupts
+    private static Callable<String> blockedUntil(CountDownLatch started, CountDownLatch release, String result) {
+        return () -> {
+            started.countDown();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        };
+    }
+
+    private static void onEdt(Runnable action) throws Exception {
+        SwingUtilities.invokeAndWait(action);
+    }
+}